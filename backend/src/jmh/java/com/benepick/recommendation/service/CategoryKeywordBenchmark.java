@@ -0,0 +1,100 @@
+package com.benepick.recommendation.service;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 카테고리 키워드 추출: 기존 규칙별 {@code String.contains} 루프와 Aho–Corasick 오토마톤 비교.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CategoryKeywordBenchmark {
+
+    private static final Map<String, List<String>> LEGACY_RULES = Map.ofEntries(
+        Map.entry("online", List.of("온라인", "쇼핑", "간편결제", "ecommerce", "shopping", "오픈마켓")),
+        Map.entry("grocery", List.of("마트", "장보기", "슈퍼", "식자재", "생필품")),
+        Map.entry("transport", List.of("교통", "지하철", "버스", "택시", "주유", "모빌리티")),
+        Map.entry("dining", List.of("외식", "식당", "배달", "푸드", "레스토랑")),
+        Map.entry("cafe", List.of("카페", "커피")),
+        Map.entry("subscription", List.of("구독", "ott", "스트리밍", "멤버십")),
+        Map.entry("travel", List.of("여행", "해외", "항공", "마일", "숙박")),
+        Map.entry("salary", List.of("급여", "월급", "급여이체")),
+        Map.entry("savings", List.of("저축", "금리", "적금", "예금", "복리", "우대금리")),
+        Map.entry("starter", List.of("초보", "무연회비", "저비용", "신규")),
+        Map.entry("daily", List.of("생활", "일상", "캐시백", "할인")),
+        Map.entry("global", List.of("외화", "글로벌", "환전"))
+    );
+
+    private Map<String, List<String>> legacyRules;
+    private List<String> texts;
+
+    @Setup
+    public void setUp() {
+        Map<String, List<String>> normalizedRules = new LinkedHashMap<>();
+        LEGACY_RULES.forEach((category, keywords) -> normalizedRules.put(
+            category,
+            keywords.stream().map(CategoryKeywordBenchmark::legacyNormalize).toList()
+        ));
+        legacyRules = normalizedRules;
+
+        texts = List.of(
+            "최고 4.10% (기본 2.60%) · 급여이체 및 자동이체 실적 충족 시 우대금리 제공, 비대면 가입 전용",
+            "온라인 쇼핑/간편결제 10% 청구할인, 대중교통·택시 5% 할인, 커피전문점 월 최대 5천원 캐시백",
+            "해외 가맹점 이용 시 1.5% 마일리지 적립, 공항 라운지 연 2회, 항공권·숙박 예약 할인",
+            "전월 실적 30만원 이상 시 대형마트 5% 할인, 배달앱 3천원 할인, OTT 구독 월 최대 4천원",
+            "청년 전용 적금 · 신규 고객 우대 · 생활비 통장 연결 시 추가 금리"
+        );
+    }
+
+    @Benchmark
+    public void legacyContainsLoop(Blackhole blackhole) {
+        for (String text : texts) {
+            blackhole.consume(legacyExtract(text));
+        }
+    }
+
+    @Benchmark
+    public void automaton(Blackhole blackhole) {
+        for (String text : texts) {
+            blackhole.consume(ProductFeatureExtractor.extractCategoriesFromText(text));
+        }
+    }
+
+    private Set<String> legacyExtract(String text) {
+        Set<String> result = new HashSet<>();
+        String normalizedText = legacyNormalize(text);
+        if (normalizedText.isBlank()) {
+            return result;
+        }
+
+        for (Map.Entry<String, List<String>> rule : legacyRules.entrySet()) {
+            for (String keyword : rule.getValue()) {
+                if (normalizedText.contains(keyword)) {
+                    result.add(rule.getKey());
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static String legacyNormalize(String value) {
+        return value.toLowerCase(Locale.ROOT)
+            .replaceAll("[\\s_./|-]+", "")
+            .replaceAll("[^a-z0-9가-힣]", "");
+    }
+}
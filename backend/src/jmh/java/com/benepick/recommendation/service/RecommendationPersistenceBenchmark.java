@@ -0,0 +1,167 @@
+package com.benepick.recommendation.service;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * simulate 1회분 저장(run 1행 + item 6행) 비용: IDENTITY 행 단위 INSERT와 시퀀스 선할당 + JDBC 배치 비교.
+ * Hibernate가 각 전략에서 내보내는 SQL 형태를 JDBC로 그대로 재현하며, 로컬 PostgreSQL이 필요하다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecommendationPersistenceBenchmark {
+
+    private static final int ITEMS_PER_RUN = 6;
+    private static final int ALLOCATION_SIZE = 50;
+
+    private Connection identityConnection;
+    private Connection batchedConnection;
+
+    private long nextSequenceId;
+    private long sequenceHi;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getenv().getOrDefault("BENCH_DB_URL", "jdbc:postgresql://localhost:5432/benepick_bench");
+        Properties properties = new Properties();
+        properties.setProperty("user", System.getenv().getOrDefault("BENCH_DB_USERNAME", "postgres"));
+        properties.setProperty("password", System.getenv().getOrDefault("BENCH_DB_PASSWORD", ""));
+
+        identityConnection = DriverManager.getConnection(url, properties);
+        identityConnection.setAutoCommit(false);
+
+        Properties batchedProperties = new Properties();
+        batchedProperties.putAll(properties);
+        batchedProperties.setProperty("reWriteBatchedInserts", "true");
+        batchedConnection = DriverManager.getConnection(url, batchedProperties);
+        batchedConnection.setAutoCommit(false);
+
+        try (Statement statement = identityConnection.createStatement()) {
+            statement.execute("drop table if exists bench_item_identity");
+            statement.execute("drop table if exists bench_item_sequence");
+            statement.execute("drop table if exists bench_run");
+            statement.execute("drop sequence if exists bench_item_seq");
+            statement.execute("""
+                create table bench_run (
+                  id uuid primary key,
+                  priority varchar(20) not null,
+                  expected_net_monthly_profit integer not null,
+                  created_at timestamptz not null
+                )
+                """);
+            statement.execute("""
+                create table bench_item_identity (
+                  id bigint generated by default as identity primary key,
+                  recommendation_run_id uuid not null references bench_run(id),
+                  rank integer not null,
+                  product_type varchar(20) not null,
+                  product_id varchar(80) not null,
+                  reason_text varchar(280) not null
+                )
+                """);
+            statement.execute("""
+                create table bench_item_sequence (
+                  id bigint primary key,
+                  recommendation_run_id uuid not null references bench_run(id),
+                  rank integer not null,
+                  product_type varchar(20) not null,
+                  product_id varchar(80) not null,
+                  reason_text varchar(280) not null
+                )
+                """);
+            statement.execute("create sequence bench_item_seq start with " + ALLOCATION_SIZE + " increment by " + ALLOCATION_SIZE);
+        }
+        identityConnection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        identityConnection.close();
+        batchedConnection.close();
+    }
+
+    @Benchmark
+    public void identityPerRow() throws SQLException {
+        UUID runId = insertRun(identityConnection);
+        try (PreparedStatement statement = identityConnection.prepareStatement(
+            "insert into bench_item_identity (recommendation_run_id, rank, product_type, product_id, reason_text) values (?, ?, ?, ?, ?)",
+            Statement.RETURN_GENERATED_KEYS
+        )) {
+            for (int index = 0; index < ITEMS_PER_RUN; index++) {
+                bindItem(statement, 1, runId, index);
+                statement.executeUpdate();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    keys.next();
+                }
+            }
+        }
+        identityConnection.commit();
+    }
+
+    @Benchmark
+    public void pooledSequenceBatch() throws SQLException {
+        UUID runId = insertRun(batchedConnection);
+        try (PreparedStatement statement = batchedConnection.prepareStatement(
+            "insert into bench_item_sequence (id, recommendation_run_id, rank, product_type, product_id, reason_text) values (?, ?, ?, ?, ?, ?)"
+        )) {
+            for (int index = 0; index < ITEMS_PER_RUN; index++) {
+                statement.setLong(1, nextItemId());
+                bindItem(statement, 2, runId, index);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        batchedConnection.commit();
+    }
+
+    private UUID insertRun(Connection connection) throws SQLException {
+        UUID runId = UUID.randomUUID();
+        try (PreparedStatement statement = connection.prepareStatement(
+            "insert into bench_run (id, priority, expected_net_monthly_profit, created_at) values (?, ?, ?, now())"
+        )) {
+            statement.setObject(1, runId);
+            statement.setString(2, "SAVINGS");
+            statement.setInt(3, 12000);
+            statement.executeUpdate();
+        }
+        return runId;
+    }
+
+    private static void bindItem(PreparedStatement statement, int offset, UUID runId, int index) throws SQLException {
+        statement.setObject(offset, runId);
+        statement.setInt(offset + 1, index % 3 + 1);
+        statement.setString(offset + 2, index < 3 ? "ACCOUNT" : "CARD");
+        statement.setString(offset + 3, "product_" + index);
+        statement.setString(offset + 4, "총점 동점 시 기관명/상품명 순");
+    }
+
+    // Hibernate pooled optimizer와 같이 nextval 1회로 ALLOCATION_SIZE개 id를 확보한다.
+    private long nextItemId() throws SQLException {
+        if (nextSequenceId == 0 || nextSequenceId > sequenceHi) {
+            try (Statement statement = batchedConnection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("select nextval('bench_item_seq')")) {
+                resultSet.next();
+                sequenceHi = resultSet.getLong(1);
+                nextSequenceId = sequenceHi - ALLOCATION_SIZE + 1;
+            }
+        }
+        return nextSequenceId++;
+    }
+}
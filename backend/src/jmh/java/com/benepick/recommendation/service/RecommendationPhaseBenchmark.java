@@ -0,0 +1,72 @@
+package com.benepick.recommendation.service;
+
+import com.benepick.recommendation.dto.RecommendationBundleResponse;
+import com.benepick.recommendation.dto.RecommendationRunResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 추천 계산 단계별 비용: 연회비 파싱, 상위 상품 근거 생성, 패키지 혜택 추정.
+ * 카탈로그 크기와 무관한 단계라 작은 고정 카탈로그를 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RecommendationPhaseBenchmark {
+
+    private static final int TOP_K = 3;
+
+    private RecommendationService recommendationService;
+    private String[] annualFeeTexts;
+    private List<CatalogSnapshot.AccountEntry> topAccounts;
+    private List<CatalogSnapshot.CardEntry> topCards;
+    private RecommendationService.AccountScoringContext accountContext;
+    private RecommendationService.CardScoringContext cardContext;
+    private RecommendationRunResponse response;
+
+    @Setup
+    public void setUp() {
+        CatalogSnapshot catalog = SyntheticCatalog.snapshot(100);
+        recommendationService = SyntheticCatalog.service();
+        annualFeeTexts = SyntheticCatalog.annualFeeTexts();
+        topAccounts = catalog.accounts().subList(0, TOP_K);
+        topCards = catalog.recommendableCards().subList(0, TOP_K);
+        accountContext = recommendationService.buildAccountScoringContext(SyntheticCatalog.request());
+        cardContext = recommendationService.buildCardScoringContext(SyntheticCatalog.request());
+        response = recommendationService.prepareRun(SyntheticCatalog.request(), SyntheticCatalog.scope(catalog)).response();
+    }
+
+    @Benchmark
+    public void annualFeeParsing(Blackhole blackhole) {
+        for (String annualFeeText : annualFeeTexts) {
+            blackhole.consume(ProductFeatureExtractor.parseAnnualFee(annualFeeText));
+        }
+    }
+
+    /**
+     * 점수 구성 기록(trace) + 추천 근거/상세 항목 생성. 실제 요청에서는 상위 K개에만 수행된다.
+     */
+    @Benchmark
+    public void reasonBuilding(Blackhole blackhole) {
+        for (CatalogSnapshot.AccountEntry account : topAccounts) {
+            blackhole.consume(recommendationService.buildAccountProduct(account, accountContext, Map.of()));
+        }
+        for (CatalogSnapshot.CardEntry card : topCards) {
+            blackhole.consume(recommendationService.buildCardProduct(card, cardContext, Map.of()));
+        }
+    }
+
+    @Benchmark
+    public List<RecommendationBundleResponse> benefitEstimation() {
+        return recommendationService.buildBundles(response.accounts(), response.cards());
+    }
+}
@@ -0,0 +1,58 @@
+package com.benepick.recommendation.service;
+
+import com.benepick.recommendation.dto.SimulateRecommendationRequest;
+import com.benepick.recommendation.entity.AccountCatalogEntity;
+import com.benepick.recommendation.entity.CardCatalogEntity;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 카탈로그 크기별 simulate 비용(저장 제외)과 스냅샷 빌드 시 텍스트 기반 신호 추출 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecommendationScoringBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int catalogSize;
+
+    private RecommendationService recommendationService;
+    private RecommendationService.SimulationScope scope;
+    private SimulateRecommendationRequest request;
+    private List<AccountCatalogEntity> accountEntities;
+    private List<CardCatalogEntity> cardEntities;
+
+    @Setup
+    public void setUp() {
+        accountEntities = SyntheticCatalog.accounts(catalogSize);
+        cardEntities = SyntheticCatalog.cards(catalogSize);
+        recommendationService = SyntheticCatalog.service();
+        scope = SyntheticCatalog.scope(CatalogSnapshot.build(1L, accountEntities, cardEntities));
+        request = SyntheticCatalog.request();
+    }
+
+    /**
+     * 전체 후보 채점 + 상위 K 근거/상세 생성 + 응답 직렬화.
+     */
+    @Benchmark
+    public RecommendationService.PreparedRun simulate() {
+        return recommendationService.prepareRun(request, scope);
+    }
+
+    /**
+     * 상품 문구에서 카테고리/금리/연회비 신호를 뽑아 스냅샷을 만드는 비용(동기화 후 1회).
+     */
+    @Benchmark
+    public CatalogSnapshot signalExtraction() {
+        return CatalogSnapshot.build(2L, accountEntities, cardEntities);
+    }
+}
@@ -0,0 +1,151 @@
+package com.benepick.recommendation.service;
+
+import com.benepick.recommendation.dto.SimulateRecommendationRequest;
+import com.benepick.recommendation.entity.AccountCatalogEntity;
+import com.benepick.recommendation.entity.CardCatalogEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 벤치마크용 합성 카탈로그와 DB 없이 동작하는 추천 서비스 구성.
+ * 실제 공공데이터/금융상품한눈에 문구 형태를 흉내 낸 몇 가지 템플릿을 돌려 가며 상품을 만든다.
+ */
+final class SyntheticCatalog {
+
+    private static final String[] PROVIDERS = {"국민은행", "신한은행", "하나은행", "우리은행", "NH농협", "카카오뱅크", "토스뱅크"};
+    private static final String[] CARD_PROVIDERS = {"신한카드", "삼성카드", "현대카드", "KB국민카드", "롯데카드", "하나카드"};
+
+    private static final String[] ACCOUNT_SUMMARIES = {
+        "최고 4.10% (기본 2.60%) · 급여이체 및 자동이체 실적 충족 시 우대금리 제공, 비대면 가입 전용",
+        "청년 전용 적금 · 신규 고객 우대 · 생활비 통장 연결 시 추가 금리",
+        "외화 예금 · 환전 수수료 우대 · 해외 송금 수수료 면제",
+        "입출금 자유 · 간편결제 연동 시 캐시백, 수수료 면제"
+    };
+    private static final String[] ACCOUNT_KINDS = {"정기예금", "적금", "외화예금", "입출금"};
+    private static final List<Set<String>> ACCOUNT_TAGS = List.of(
+        Set.of("savings", "salary"),
+        Set.of("starter", "savings"),
+        Set.of("travel", "global"),
+        Set.of("daily")
+    );
+
+    private static final String[] CARD_SUMMARIES = {
+        "온라인 쇼핑/간편결제 10% 청구할인, 대중교통·택시 5% 할인, 커피전문점 월 최대 5천원 캐시백",
+        "해외 가맹점 이용 시 1.5% 마일리지 적립, 공항 라운지 연 2회, 항공권·숙박 예약 할인",
+        "전월 실적 30만원 이상 시 대형마트 5% 할인, 배달앱 3천원 할인, OTT 구독 월 최대 4천원",
+        "대중교통/택시/주유 중심 적립"
+    };
+    private static final String[] ANNUAL_FEES = {"국내전용 1.3만원", "해외겸용 15,000원", "연회비 없음", "국내 10000 / 해외 12000"};
+    private static final List<Set<String>> CARD_TAGS = List.of(
+        Set.of("cashback", "online"),
+        Set.of("travel", "mileage"),
+        Set.of("daily", "cashback"),
+        Set.of("starter", "no-fee")
+    );
+    private static final List<Set<String>> CARD_CATEGORIES = List.of(
+        Set.of("online", "subscription", "cafe"),
+        Set.of("travel", "global"),
+        Set.of("grocery", "dining", "subscription"),
+        Set.of("transport", "dining")
+    );
+
+    private SyntheticCatalog() {
+    }
+
+    static List<AccountCatalogEntity> accounts(int size) {
+        List<AccountCatalogEntity> accounts = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            int template = index % ACCOUNT_SUMMARIES.length;
+            accounts.add(new AccountCatalogEntity(
+                "account_" + index,
+                PROVIDERS[index % PROVIDERS.length],
+                "벤치 " + ACCOUNT_KINDS[template] + " " + index,
+                ACCOUNT_KINDS[template],
+                ACCOUNT_SUMMARIES[template],
+                "https://bank" + index % PROVIDERS.length + ".example.com/products/" + index,
+                true,
+                ACCOUNT_TAGS.get(template)
+            ));
+        }
+        return accounts;
+    }
+
+    static List<CardCatalogEntity> cards(int size) {
+        List<CardCatalogEntity> cards = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            int template = index % CARD_SUMMARIES.length;
+            cards.add(new CardCatalogEntity(
+                "card_" + index,
+                CARD_PROVIDERS[index % CARD_PROVIDERS.length],
+                "벤치 카드 " + index,
+                ANNUAL_FEES[index % ANNUAL_FEES.length],
+                CARD_SUMMARIES[template],
+                "https://card" + index % CARD_PROVIDERS.length + ".example.com/cards/" + index,
+                true,
+                CARD_TAGS.get(template),
+                CARD_CATEGORIES.get(template)
+            ));
+        }
+        return cards;
+    }
+
+    static CatalogSnapshot snapshot(int size) {
+        return CatalogSnapshot.build(1L, accounts(size), cards(size));
+    }
+
+    static String[] annualFeeTexts() {
+        return ANNUAL_FEES.clone();
+    }
+
+    static SimulateRecommendationRequest request() {
+        return new SimulateRecommendationRequest(
+            29,
+            3_800_000,
+            1_200_000,
+            "cashback",
+            "savings",
+            "cashback",
+            "yes",
+            "sometimes",
+            List.of("online", "cafe", "savings"),
+            List.of("savings", "salary"),
+            List.of("online", "cafe", "transport")
+        );
+    }
+
+    /**
+     * 저장소/트랜잭션 없이 점수 계산 경로만 쓰는 서비스. 랭킹 캐시와 병렬 채점은 끈다.
+     */
+    static RecommendationService service() {
+        RecommendationSimulateCacheProperties simulateCache = new RecommendationSimulateCacheProperties();
+        simulateCache.setEnabled(false);
+        RecommendationParallelScoringProperties parallelScoring = new RecommendationParallelScoringProperties();
+        parallelScoring.setEnabled(false);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        return new RecommendationService(
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            new RecommendationScoringProperties(),
+            new ProductUrlOverrideService("./build/jmh-product-url-overrides.properties", 0L),
+            new RecommendationRunWriter(null, null, new RecommendationRunWriterProperties(), null, meterRegistry),
+            new ObjectMapper(),
+            new RecommendationRunResponseCache(new RecommendationRunCacheProperties(), meterRegistry),
+            simulateCache,
+            new RecommendationScoringExecutor(parallelScoring),
+            new RecommendationMetrics(meterRegistry)
+        );
+    }
+
+    static RecommendationService.SimulationScope scope(CatalogSnapshot catalog) {
+        return new RecommendationService.SimulationScope(catalog, Map.of(), 0L);
+    }
+}
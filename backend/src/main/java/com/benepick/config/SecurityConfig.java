@@ -5,6 +5,7 @@ import com.benepick.auth.security.JwtAuthenticationFilter;
 import com.benepick.auth.security.JwtProperties;
 import com.benepick.auth.security.RefreshCookieProperties;
 import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,6 +15,7 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -29,10 +31,19 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final AppCorsProperties corsProperties;
+    private final int serverPort;
+    private final int managementPort;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, AppCorsProperties corsProperties) {
+    public SecurityConfig(
+        JwtAuthenticationFilter jwtAuthenticationFilter,
+        AppCorsProperties corsProperties,
+        @Value("${server.port:8080}") int serverPort,
+        @Value("${management.server.port:-1}") int managementPort
+    ) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
         this.corsProperties = corsProperties;
+        this.serverPort = serverPort;
+        this.managementPort = managementPort;
     }
 
     @Bean
@@ -45,6 +56,10 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/error", "/actuator/health").permitAll()
+                // prometheus 스크레이프는 별도 관리 포트로 들어온 요청만 인증 없이 허용한다. 서비스 포트에서는 인증이 필요하다.
+                .requestMatchers(prometheusOnManagementPort()).permitAll()
+                // 배치 simulate 는 한 번에 최대 수천 건을 계산/저장하므로 로그인 사용자만 호출할 수 있다.
+                .requestMatchers(HttpMethod.POST, "/api/recommendations/simulate/batch").authenticated()
                 .requestMatchers("/api/recommendations/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/catalog/summary", "/api/catalog/sync/status").permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/catalog/sync/finlife", "/api/catalog/sync/cards/external").permitAll()
@@ -56,6 +71,13 @@ public class SecurityConfig {
             .build();
     }
 
+    private RequestMatcher prometheusOnManagementPort() {
+        boolean separatePort = managementPort > 0 && managementPort != serverPort;
+        return request -> separatePort
+            && request.getLocalPort() == managementPort
+            && "/actuator/prometheus".equals(request.getRequestURI());
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -8,12 +8,19 @@ import com.benepick.recommendation.dto.RecommendationRunHistoryItemResponse;
 import com.benepick.recommendation.dto.RecommendationRunResponse;
 import com.benepick.recommendation.dto.SimulateRecommendationRequest;
 import com.benepick.recommendation.service.RecommendationAnalyticsService;
+import com.benepick.recommendation.service.RecommendationBatchService;
 import com.benepick.recommendation.service.RecommendationQualityLoopService;
+import com.benepick.recommendation.service.RecommendationRunCacheProperties;
+import com.benepick.recommendation.service.RecommendationRunResponseCache;
 import com.benepick.recommendation.service.RecommendationService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -21,6 +28,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/recommendations")
@@ -29,15 +37,21 @@ public class RecommendationController {
     private final RecommendationService recommendationService;
     private final RecommendationAnalyticsService recommendationAnalyticsService;
     private final RecommendationQualityLoopService recommendationQualityLoopService;
+    private final RecommendationRunCacheProperties runCacheProperties;
+    private final RecommendationBatchService recommendationBatchService;
 
     public RecommendationController(
         RecommendationService recommendationService,
         RecommendationAnalyticsService recommendationAnalyticsService,
-        RecommendationQualityLoopService recommendationQualityLoopService
+        RecommendationQualityLoopService recommendationQualityLoopService,
+        RecommendationRunCacheProperties runCacheProperties,
+        RecommendationBatchService recommendationBatchService
     ) {
         this.recommendationService = recommendationService;
         this.recommendationAnalyticsService = recommendationAnalyticsService;
         this.recommendationQualityLoopService = recommendationQualityLoopService;
+        this.runCacheProperties = runCacheProperties;
+        this.recommendationBatchService = recommendationBatchService;
     }
 
     @PostMapping("/simulate")
@@ -45,6 +59,22 @@ public class RecommendationController {
         return recommendationService.simulate(request);
     }
 
+    // 본문: SimulateRecommendationRequest 의 JSON 배열 또는 NDJSON. 응답: 입력 순서대로 결과 한 줄씩(NDJSON)
+    @PostMapping(
+        value = "/simulate/batch",
+        consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+        produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    public ResponseEntity<StreamingResponseBody> simulateBatch(HttpServletRequest servletRequest) {
+        StreamingResponseBody body = output -> recommendationBatchService.simulateBatch(
+            servletRequest.getInputStream(),
+            output
+        );
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
     @GetMapping("/history")
     public List<RecommendationRunHistoryItemResponse> getHistory(
         @RequestParam(name = "limit", defaultValue = "10") int limit
@@ -52,9 +82,19 @@ public class RecommendationController {
         return recommendationService.getRecentRuns(limit);
     }
 
+    // 실행 결과는 저장 후 바뀌지 않으므로 강한 ETag + immutable 로 내려준다. If-None-Match 일치 시 304.
+    // 아직 저장 대기 중인 실행은 no-cache 로 내려 매번 재검증하게 한다.
     @GetMapping("/{runId}")
-    public RecommendationRunResponse getRun(@PathVariable UUID runId) {
-        return recommendationService.getRun(runId);
+    public ResponseEntity<byte[]> getRun(@PathVariable UUID runId) {
+        RecommendationRunResponseCache.CachedRunResponse response = recommendationService.getRunJson(runId);
+        CacheControl cacheControl = response.stored()
+            ? CacheControl.maxAge(Duration.ofSeconds(runCacheProperties.getMaxAgeSeconds())).cachePublic().immutable()
+            : CacheControl.noCache();
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(response.etag())
+            .cacheControl(cacheControl)
+            .body(response.body());
     }
 
     @GetMapping("/{runId}/analytics")
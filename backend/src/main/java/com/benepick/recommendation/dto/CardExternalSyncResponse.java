@@ -4,6 +4,9 @@ public record CardExternalSyncResponse(
     int fetched,
     int upserted,
     int deactivated,
-    int skipped
+    int skipped,
+    int created,
+    int changed,
+    int unchanged
 ) {
 }
@@ -4,6 +4,9 @@ public record FinlifeSyncResponse(
     int fetchedProducts,
     int upsertedProducts,
     int deactivatedProducts,
-    int skippedProducts
+    int skippedProducts,
+    int newProducts,
+    int changedProducts,
+    int unchangedProducts
 ) {
 }
@@ -0,0 +1,8 @@
+package com.benepick.recommendation.dto;
+
+public record RecommendationBatchResultResponse(
+    int index,
+    RecommendationRunResponse run,
+    String error
+) {
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Table;
 import java.util.HashSet;
@@ -20,7 +21,13 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "account_catalog")
+@Table(
+    name = "account_catalog",
+    indexes = {
+        @Index(name = "idx_account_catalog_max_rate", columnList = "max_rate"),
+        @Index(name = "idx_account_catalog_base_rate", columnList = "base_rate")
+    }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class AccountCatalogEntity {
 
@@ -49,6 +56,17 @@ public class AccountCatalogEntity {
     @Column(name = "is_active", nullable = false)
     private boolean active;
 
+    // 동기화 시점에 확정한 금리(%). 요청 처리 중에는 요약 문구를 다시 해석하지 않는다. 알 수 없으면 null.
+    @Column(name = "max_rate")
+    private Double maxRate;
+
+    @Column(name = "base_rate")
+    private Double baseRate;
+
+    // 동기화 원본 내용의 SHA-256. 같으면 다음 동기화에서 행과 컬렉션을 건드리지 않는다. 아직 계산되지 않은 행이면 null.
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "account_catalog_tag", joinColumns = @JoinColumn(name = "account_catalog_id"))
     @Column(name = "tag_code", nullable = false, length = 30)
@@ -99,6 +117,15 @@ public class AccountCatalogEntity {
         }
     }
 
+    public void updateRates(Double maxRate, Double baseRate) {
+        this.maxRate = maxRate;
+        this.baseRate = baseRate;
+    }
+
+    public void updateContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     public void deactivate() {
         this.active = false;
     }
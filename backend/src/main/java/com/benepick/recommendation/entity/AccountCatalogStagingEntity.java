@@ -0,0 +1,107 @@
+package com.benepick.recommendation.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import java.util.Set;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(
+    name = "account_catalog_staging",
+    indexes = {
+        @Index(name = "idx_account_catalog_staging_sync", columnList = "sync_id, row_no"),
+        @Index(name = "idx_account_catalog_staging_staged_at", columnList = "staged_at")
+    }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AccountCatalogStagingEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    // 한 번의 동기화 실행. 게시가 끝나거나 실패하면 이 값으로 모두 지운다.
+    @Column(name = "sync_id", nullable = false)
+    private UUID syncId;
+
+    // 동기화 안에서 받은 순서. 같은 상품 키가 여러 번 오면 마지막 행을 게시한다.
+    @Column(name = "row_no", nullable = false)
+    private int rowNo;
+
+    @Column(name = "staged_at", nullable = false)
+    private OffsetDateTime stagedAt;
+
+    @Column(name = "product_key", nullable = false, length = 80)
+    private String productKey;
+
+    @Column(name = "provider_name", nullable = false, length = 80)
+    private String providerName;
+
+    @Column(name = "product_name", nullable = false, length = 120)
+    private String productName;
+
+    @Column(name = "account_kind", nullable = false, length = 40)
+    private String accountKind;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String summary;
+
+    @Column(name = "official_url", nullable = false, columnDefinition = "text")
+    private String officialUrl;
+
+    @Column(name = "max_rate")
+    private Double maxRate;
+
+    @Column(name = "base_rate")
+    private Double baseRate;
+
+    // 태그 코드를 쉼표로 이은 값. 게시할 때 account_catalog_tag 로 옮긴다.
+    @Column(name = "tag_codes", nullable = false, columnDefinition = "text")
+    private String tagCodes;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    public AccountCatalogStagingEntity(
+        UUID syncId,
+        int rowNo,
+        String productKey,
+        String providerName,
+        String productName,
+        String accountKind,
+        String summary,
+        String officialUrl,
+        Double maxRate,
+        Double baseRate,
+        Set<String> tags,
+        String contentHash
+    ) {
+        this.syncId = syncId;
+        this.rowNo = rowNo;
+        this.stagedAt = OffsetDateTime.now();
+        this.productKey = productKey;
+        this.providerName = providerName;
+        this.productName = productName;
+        this.accountKind = accountKind;
+        this.summary = summary;
+        this.officialUrl = officialUrl;
+        this.maxRate = maxRate;
+        this.baseRate = baseRate;
+        this.tagCodes = StagedCodes.join(tags);
+        this.contentHash = contentHash;
+    }
+
+    public Set<String> tags() {
+        return StagedCodes.split(tagCodes);
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Table;
 import java.util.HashSet;
@@ -20,7 +21,13 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "card_catalog")
+@Table(
+    name = "card_catalog",
+    indexes = {
+        @Index(name = "idx_card_catalog_annual_fee_won", columnList = "annual_fee_won"),
+        @Index(name = "idx_card_catalog_low_fee", columnList = "low_fee")
+    }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CardCatalogEntity {
 
@@ -49,6 +56,17 @@ public class CardCatalogEntity {
     @Column(name = "is_active", nullable = false)
     private boolean active;
 
+    // 동기화 시점에 연회비 문구에서 확정한 값. 연회비는 해석 불가 시 null, low_fee는 아직 계산되지 않은 행이면 null.
+    @Column(name = "annual_fee_won")
+    private Integer annualFeeWon;
+
+    @Column(name = "low_fee")
+    private Boolean lowFee;
+
+    // 동기화 원본 내용의 SHA-256. 같으면 다음 동기화에서 행과 컬렉션을 건드리지 않는다. 아직 계산되지 않은 행이면 null.
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "card_catalog_tag", joinColumns = @JoinColumn(name = "card_catalog_id"))
     @Column(name = "tag_code", nullable = false, length = 30)
@@ -115,6 +133,15 @@ public class CardCatalogEntity {
         }
     }
 
+    public void updateAnnualFee(Integer annualFeeWon, boolean lowFee) {
+        this.annualFeeWon = annualFeeWon;
+        this.lowFee = lowFee;
+    }
+
+    public void updateContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     public void deactivate() {
         this.active = false;
     }
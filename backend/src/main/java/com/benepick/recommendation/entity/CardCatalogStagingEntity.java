@@ -0,0 +1,123 @@
+package com.benepick.recommendation.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import java.util.Set;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(
+    name = "card_catalog_staging",
+    indexes = {
+        @Index(name = "idx_card_catalog_staging_sync", columnList = "sync_id, row_no"),
+        @Index(name = "idx_card_catalog_staging_source", columnList = "sync_id, source_order"),
+        @Index(name = "idx_card_catalog_staging_staged_at", columnList = "staged_at")
+    }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CardCatalogStagingEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    // 한 번의 동기화 실행. 게시가 끝나거나 실패하면 이 값으로 모두 지운다.
+    @Column(name = "sync_id", nullable = false)
+    private UUID syncId;
+
+    // 소스 우선순위. 소스가 중간에 실패하면 이 값으로 그 소스의 행만 지운다.
+    @Column(name = "source_order", nullable = false)
+    private int sourceOrder;
+
+    // (소스 우선순위, 페이지, 행)을 묶은 순서. 같은 상품 키가 여러 번 오면 이 값이 가장 큰 행을 게시한다.
+    @Column(name = "row_no", nullable = false)
+    private long rowNo;
+
+    @Column(name = "staged_at", nullable = false)
+    private OffsetDateTime stagedAt;
+
+    @Column(name = "product_key", nullable = false, length = 80)
+    private String productKey;
+
+    @Column(name = "provider_name", nullable = false, length = 80)
+    private String providerName;
+
+    @Column(name = "product_name", nullable = false, length = 120)
+    private String productName;
+
+    @Column(name = "annual_fee_text", nullable = false, length = 120)
+    private String annualFeeText;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String summary;
+
+    @Column(name = "official_url", nullable = false, columnDefinition = "text")
+    private String officialUrl;
+
+    @Column(name = "annual_fee_won")
+    private Integer annualFeeWon;
+
+    @Column(name = "low_fee", nullable = false)
+    private boolean lowFee;
+
+    // 태그/카테고리 코드를 쉼표로 이은 값. 게시할 때 card_catalog_tag / card_catalog_category 로 옮긴다.
+    @Column(name = "tag_codes", nullable = false, columnDefinition = "text")
+    private String tagCodes;
+
+    @Column(name = "category_codes", nullable = false, columnDefinition = "text")
+    private String categoryCodes;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    public CardCatalogStagingEntity(
+        UUID syncId,
+        int sourceOrder,
+        long rowNo,
+        String productKey,
+        String providerName,
+        String productName,
+        String annualFeeText,
+        String summary,
+        String officialUrl,
+        Integer annualFeeWon,
+        boolean lowFee,
+        Set<String> tags,
+        Set<String> categories,
+        String contentHash
+    ) {
+        this.syncId = syncId;
+        this.sourceOrder = sourceOrder;
+        this.rowNo = rowNo;
+        this.stagedAt = OffsetDateTime.now();
+        this.productKey = productKey;
+        this.providerName = providerName;
+        this.productName = productName;
+        this.annualFeeText = annualFeeText;
+        this.summary = summary;
+        this.officialUrl = officialUrl;
+        this.annualFeeWon = annualFeeWon;
+        this.lowFee = lowFee;
+        this.tagCodes = StagedCodes.join(tags);
+        this.categoryCodes = StagedCodes.join(categories);
+        this.contentHash = contentHash;
+    }
+
+    public Set<String> tags() {
+        return StagedCodes.split(tagCodes);
+    }
+
+    public Set<String> categories() {
+        return StagedCodes.split(categoryCodes);
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -19,8 +20,16 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RecommendationItemEntity {
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // IDENTITY는 행마다 INSERT 후 키를 돌려받아야 해서 JDBC 배치가 꺼진다. 시퀀스에서 50개씩 미리 받아 쓴다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recommendation_item_seq")
+    @SequenceGenerator(
+        name = "recommendation_item_seq",
+        sequenceName = "recommendation_item_seq",
+        allocationSize = RecommendationItemEntity.ID_ALLOCATION_SIZE
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -2,25 +2,29 @@ package com.benepick.recommendation.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
 
 @Getter
 @Entity
 @Table(name = "recommendation_run")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class RecommendationRunEntity {
+public class RecommendationRunEntity implements Persistable<UUID> {
 
+    // 응답/비동기 저장 전에 식별자가 필요하므로 생성 시점에 직접 부여한다.
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
     @Column(nullable = false, length = 20)
@@ -32,13 +36,41 @@ public class RecommendationRunEntity {
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
 
+    // simulate 시점의 응답 전체(JSON). 실행 결과는 저장 후 바뀌지 않으므로 조회 시 그대로 돌려준다.
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "response_payload", columnDefinition = "jsonb")
+    private String responsePayload;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
     public RecommendationRunEntity(String priority, int expectedNetMonthlyProfit) {
+        this.id = UUID.randomUUID();
         this.priority = priority;
         this.expectedNetMonthlyProfit = expectedNetMonthlyProfit;
+        this.createdAt = OffsetDateTime.now();
+    }
+
+    public void attachResponsePayload(String responsePayload) {
+        this.responsePayload = responsePayload;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
     }
 
     @PrePersist
     void prePersist() {
-        this.createdAt = OffsetDateTime.now();
+        if (this.createdAt == null) {
+            this.createdAt = OffsetDateTime.now();
+        }
+    }
+
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        this.persisted = true;
     }
 }
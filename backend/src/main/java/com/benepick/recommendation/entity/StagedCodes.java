@@ -0,0 +1,34 @@
+package com.benepick.recommendation.entity;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 스테이징 테이블의 코드 집합 컬럼 변환. 코드는 쉼표를 포함하지 않는 짧은 소문자 값이라 쉼표로 잇는다.
+ */
+final class StagedCodes {
+
+    private StagedCodes() {
+    }
+
+    static String join(Set<String> codes) {
+        if (codes == null || codes.isEmpty()) {
+            return "";
+        }
+        return String.join(",", new TreeSet<>(codes));
+    }
+
+    static Set<String> split(String joined) {
+        Set<String> codes = new LinkedHashSet<>();
+        if (joined == null || joined.isBlank()) {
+            return codes;
+        }
+        for (String code : joined.split(",")) {
+            if (!code.isBlank()) {
+                codes.add(code);
+            }
+        }
+        return codes;
+    }
+}
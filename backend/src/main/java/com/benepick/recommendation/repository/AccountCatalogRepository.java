@@ -1,10 +1,15 @@
 package com.benepick.recommendation.repository;
 
 import com.benepick.recommendation.entity.AccountCatalogEntity;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface AccountCatalogRepository extends JpaRepository<AccountCatalogEntity, UUID> {
 
@@ -15,4 +20,17 @@ public interface AccountCatalogRepository extends JpaRepository<AccountCatalogEn
     List<AccountCatalogEntity> findByProductKeyStartingWith(String prefix);
 
     long countByProductKeyStartingWith(String prefix);
+
+    @EntityGraph(attributePaths = "tags")
+    List<AccountCatalogEntity> findByProductKeyIn(Collection<String> productKeys);
+
+    @Query(
+        "select a.productKey as productKey, a.contentHash as contentHash, a.active as active "
+            + "from AccountCatalogEntity a where a.productKey like concat(:prefix, '%')"
+    )
+    List<CatalogSyncStateView> findSyncStateByProductKeyPrefix(@Param("prefix") String prefix);
+
+    @Modifying
+    @Query("update AccountCatalogEntity a set a.active = false where a.active = true and a.productKey in :productKeys")
+    int deactivateByProductKeyIn(@Param("productKeys") Collection<String> productKeys);
 }
@@ -1,10 +1,15 @@
 package com.benepick.recommendation.repository;
 
 import com.benepick.recommendation.entity.CardCatalogEntity;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CardCatalogRepository extends JpaRepository<CardCatalogEntity, UUID> {
 
@@ -15,4 +20,17 @@ public interface CardCatalogRepository extends JpaRepository<CardCatalogEntity,
     List<CardCatalogEntity> findByProductKeyStartingWith(String productKeyPrefix);
 
     long countByProductKeyStartingWith(String productKeyPrefix);
+
+    @EntityGraph(attributePaths = {"tags", "categories"})
+    List<CardCatalogEntity> findByProductKeyIn(Collection<String> productKeys);
+
+    @Query(
+        "select c.productKey as productKey, c.contentHash as contentHash, c.active as active "
+            + "from CardCatalogEntity c where c.productKey like concat(:prefix, '%')"
+    )
+    List<CatalogSyncStateView> findSyncStateByProductKeyPrefix(@Param("prefix") String prefix);
+
+    @Modifying
+    @Query("update CardCatalogEntity c set c.active = false where c.active = true and c.productKey in :productKeys")
+    int deactivateByProductKeyIn(@Param("productKeys") Collection<String> productKeys);
 }
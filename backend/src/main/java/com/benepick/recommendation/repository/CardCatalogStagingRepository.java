@@ -0,0 +1,36 @@
+package com.benepick.recommendation.repository;
+
+import com.benepick.recommendation.entity.CardCatalogStagingEntity;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CardCatalogStagingRepository extends JpaRepository<CardCatalogStagingEntity, UUID> {
+
+    List<CardCatalogStagingEntity> findBySyncIdOrderByRowNoAsc(UUID syncId);
+
+    long countBySyncId(UUID syncId);
+
+    @Query(
+        "select count(s) from CardCatalogStagingEntity s where s.syncId = :syncId "
+            + "and (s.productKey = '' or s.providerName = '' or s.productName = '' or s.officialUrl = '' "
+            + "or s.contentHash = '')"
+    )
+    long countMissingRequiredFields(@Param("syncId") UUID syncId);
+
+    @Modifying
+    @Query("delete from CardCatalogStagingEntity s where s.syncId = :syncId")
+    int deleteBySyncId(@Param("syncId") UUID syncId);
+
+    @Modifying
+    @Query("delete from CardCatalogStagingEntity s where s.syncId = :syncId and s.sourceOrder = :sourceOrder")
+    int deleteBySyncIdAndSourceOrder(@Param("syncId") UUID syncId, @Param("sourceOrder") int sourceOrder);
+
+    @Modifying
+    @Query("delete from CardCatalogStagingEntity s where s.stagedAt < :cutoff")
+    int deleteStagedBefore(@Param("cutoff") OffsetDateTime cutoff);
+}
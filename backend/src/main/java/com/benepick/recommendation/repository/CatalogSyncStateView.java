@@ -0,0 +1,13 @@
+package com.benepick.recommendation.repository;
+
+/**
+ * 카탈로그 동기화 비교용 요약 행. 태그/카테고리 컬렉션 없이 키, 내용 해시, 활성 여부만 읽는다.
+ */
+public interface CatalogSyncStateView {
+
+    String getProductKey();
+
+    String getContentHash();
+
+    boolean isActive();
+}
@@ -0,0 +1,82 @@
+package com.benepick.recommendation.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * 항목 수 상한과 선택적 무게(예: 바이트 수) 상한이 있는 LRU 캐시. 모든 연산은 인스턴스 락으로 직렬화되며 값 계산은 락 밖에서 한다.
+ * 어느 한쪽 상한을 넘으면 오래 쓰이지 않은 항목부터 밀어내고, 혼자서 무게 상한을 넘는 값은 넣지 않는다.
+ */
+public final class BoundedLruCache<K, V> {
+
+    private final int maxEntries;
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    private final LinkedHashMap<K, V> entries;
+    private long totalWeight;
+
+    public BoundedLruCache(int maxEntries) {
+        this(maxEntries, Long.MAX_VALUE, value -> 0L);
+    }
+
+    public BoundedLruCache(int maxEntries, long maxWeight, ToLongFunction<V> weigher) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.maxWeight = Math.max(0L, maxWeight);
+        this.weigher = weigher;
+        this.entries = new LinkedHashMap<>(Math.min(this.maxEntries, 1024), 0.75f, true);
+    }
+
+    public synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        long weight = weigher.applyAsLong(value);
+        if (weight > maxWeight) {
+            return;
+        }
+
+        V previous = entries.put(key, value);
+        if (previous != null) {
+            totalWeight -= weigher.applyAsLong(previous);
+        }
+        totalWeight += weight;
+
+        Iterator<Map.Entry<K, V>> eldest = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || totalWeight > maxWeight) && eldest.hasNext()) {
+            totalWeight -= weigher.applyAsLong(eldest.next().getValue());
+            eldest.remove();
+        }
+    }
+
+    /**
+     * 없으면 loader로 계산해 넣는다. 같은 키를 동시에 계산할 수 있으며, 먼저 들어간 값을 유지한다.
+     */
+    public V computeIfAbsent(K key, Supplier<V> loader) {
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        V loaded = loader.get();
+        synchronized (this) {
+            V raced = entries.get(key);
+            if (raced != null) {
+                return raced;
+            }
+            put(key, loaded);
+            return loaded;
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weight() {
+        return totalWeight;
+    }
+}
@@ -0,0 +1,74 @@
+package com.benepick.recommendation.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 정렬 기준상 상위 K개만 유지하는 고정 크기 힙.
+ * 힙의 머리에는 현재 K개 중 가장 순위가 낮은 항목이 온다.
+ */
+public final class BoundedTopK<T> {
+
+    private final int capacity;
+    private final Comparator<? super T> order;
+    private final PriorityQueue<T> heap;
+
+    /**
+     * @param capacity 유지할 최대 개수
+     * @param order 앞설수록 순위가 높은 정렬 기준
+     */
+    public BoundedTopK(int capacity, Comparator<? super T> order) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.order = order;
+        this.heap = new PriorityQueue<>(capacity + 1, (left, right) -> order.compare(right, left));
+    }
+
+    /**
+     * 상위 K개에 들면 추가하고, 밀려난 항목이 있으면 버린다.
+     */
+    public boolean offer(T item) {
+        if (heap.size() < capacity) {
+            heap.add(item);
+            return true;
+        }
+
+        if (order.compare(item, heap.peek()) >= 0) {
+            return false;
+        }
+
+        heap.poll();
+        heap.add(item);
+        return true;
+    }
+
+    /**
+     * 다른 힙의 항목을 모두 합친다. 구간별로 나눠 계산한 상위 K를 병합할 때 쓴다.
+     */
+    public void offerAll(BoundedTopK<? extends T> other) {
+        for (T item : other.heap) {
+            offer(item);
+        }
+    }
+
+    public boolean isFull() {
+        return heap.size() >= capacity;
+    }
+
+    /**
+     * 현재 K개 중 가장 순위가 낮은 항목. 비어 있으면 null.
+     */
+    public T worst() {
+        return heap.peek();
+    }
+
+    public List<T> toSortedList() {
+        List<T> sorted = new ArrayList<>(heap);
+        sorted.sort(order);
+        return sorted;
+    }
+}
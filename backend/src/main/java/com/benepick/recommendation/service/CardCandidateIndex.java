@@ -0,0 +1,72 @@
+package com.benepick.recommendation.service;
+
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * 카드 후보 역색인: 카테고리 비트마다 해당 카테고리를 가진 카드의 순번(ordinal) 목록을 둔다.
+ * 사용자 카테고리와 하나 이상 겹치는 카드만 방문할 수 있어, 후보 탐색 비용이 카탈로그 크기가 아니라 일치 수에 비례한다.
+ */
+public final class CardCandidateIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final List<CatalogSnapshot.CardEntry> cards;
+    private final int[][] postings = new int[Long.SIZE][];
+
+    CardCandidateIndex(List<CatalogSnapshot.CardEntry> cards) {
+        this.cards = cards;
+
+        int[] counts = new int[Long.SIZE];
+        for (CatalogSnapshot.CardEntry card : cards) {
+            long mask = card.features().signalMask();
+            while (mask != 0) {
+                counts[Long.numberOfTrailingZeros(mask)]++;
+                mask &= mask - 1;
+            }
+        }
+
+        int[] fill = new int[Long.SIZE];
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            postings[bit] = counts[bit] == 0 ? EMPTY : new int[counts[bit]];
+        }
+        for (int ordinal = 0; ordinal < cards.size(); ordinal++) {
+            long mask = cards.get(ordinal).features().signalMask();
+            while (mask != 0) {
+                int bit = Long.numberOfTrailingZeros(mask);
+                postings[bit][fill[bit]++] = ordinal;
+                mask &= mask - 1;
+            }
+        }
+    }
+
+    public CatalogSnapshot.CardEntry card(int ordinal) {
+        return cards.get(ordinal);
+    }
+
+    public int size() {
+        return cards.size();
+    }
+
+    /**
+     * {@code categoryMask}와 카테고리가 하나 이상 겹치는 카드를 정확히 한 번씩 방문하고 방문 수를 돌려준다.
+     * 카드는 겹치는 카테고리 중 가장 낮은 비트의 목록에서만 방문한다.
+     */
+    public int forEachMatch(long categoryMask, IntConsumer visitor) {
+        int visited = 0;
+        long remaining = categoryMask;
+        while (remaining != 0) {
+            int bit = Long.numberOfTrailingZeros(remaining);
+            long earlierBits = categoryMask & ((1L << bit) - 1);
+            for (int ordinal : postings[bit]) {
+                if ((cards.get(ordinal).features().signalMask() & earlierBits) != 0) {
+                    continue;
+                }
+                visitor.accept(ordinal);
+                visited++;
+            }
+            remaining &= remaining - 1;
+        }
+        return visited;
+    }
+}
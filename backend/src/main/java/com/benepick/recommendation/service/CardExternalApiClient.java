@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -18,18 +19,29 @@ import java.nio.file.Path;
 import java.time.Duration;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ResponseStatusException;
@@ -50,30 +62,48 @@ public class CardExternalApiClient {
     private final ObjectMapper objectMapper;
     private final ObjectMapper xmlMapper;
     private final HttpClient httpClient;
-    private final Set<String> fallbackItemsPathWarned = new HashSet<>();
-
-    public CardExternalApiClient(CardExternalProperties properties, ObjectMapper objectMapper) {
+    private final HostConcurrencyLimiter hostConcurrencyLimiter;
+    private final PublicDataRowReader publicDataRowReader;
+    private final Environment environment;
+    private final Set<String> fallbackItemsPathWarned = ConcurrentHashMap.newKeySet();
+
+    public CardExternalApiClient(
+        CardExternalProperties properties,
+        ObjectMapper objectMapper,
+        Environment environment,
+        HostConcurrencyLimiter hostConcurrencyLimiter
+    ) {
         this.properties = properties;
         this.objectMapper = objectMapper;
+        this.hostConcurrencyLimiter = hostConcurrencyLimiter;
+        this.publicDataRowReader = new PublicDataRowReader(objectMapper);
+        this.environment = environment;
         this.xmlMapper = initXmlMapperOrNull();
-        this.httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofMillis(Math.max(properties.getConnectTimeoutMs(), 1000)))
-            .build();
+        this.httpClient = OutboundHttpClients.create(properties.getConnectTimeoutMs(), environment, "card-external-http-");
     }
 
-    public List<ExternalCardProduct> fetchCards() {
+    /**
+     * 설정된 모드로 카드 상품을 받아 소스 순번과 페이지 번호를 붙인 페이지 단위로 받는 대로 넘긴다.
+     * public-data-all 모드에서는 여러 소스 스레드가 동시에 pageSink를 호출하므로 pageSink는 스레드 안전해야 한다.
+     * 소스가 중간에 실패하면 discardSource로 알리므로, 받는 쪽은 그 소스의 행을 모두 버려 소스 단위로 전부 반영하거나 전부 빼야 한다.
+     * 소스 간 중복은 받는 쪽에서 (소스 순번, 페이지, 행) 순서상 나중 값으로 덮는다.
+     */
+    public void fetchCards(CardPageSink pageSink) {
         String mode = normalizeMode(properties.getMode());
 
         if ("public-data-all".equals(mode)) {
-            return fetchCardsFromPublicDataAll();
+            fetchCardsFromPublicDataAll(pageSink);
+            return;
         }
 
         if ("public-data".equals(mode)) {
-            return fetchCardsFromPublicDataSingle();
+            fetchCardsFromPublicDataSingle(pageSink);
+            return;
         }
 
         if ("source".equals(mode) || mode.isBlank()) {
-            return fetchCardsFromSource();
+            fetchCardsFromSource(pageSink);
+            return;
         }
 
         throw new ResponseStatusException(
@@ -82,7 +112,7 @@ public class CardExternalApiClient {
         );
     }
 
-    private List<ExternalCardProduct> fetchCardsFromSource() {
+    private void fetchCardsFromSource(CardPageSink pageSink) {
         String source = safe(properties.getSourceUrl());
         if (source.isBlank()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CARD_EXTERNAL_SOURCE_URL is not configured");
@@ -92,20 +122,19 @@ public class CardExternalApiClient {
         JsonNode root = parseStructuredBody(body, "external card source");
         JsonNode rows = resolveRows(root);
 
-        List<ExternalCardProduct> products = mapRowsToProducts(
-            rows,
+        List<ExternalCardProduct> products = mapRowsToProducts(rows, new RowDefaults(
             "external",
             "",
             "",
             setOf("external"),
             Collections.emptySet(),
             "외부 카드 데이터 동기화"
-        );
+        ));
 
-        return deduplicateProducts(products);
+        pageSink.accept(new CardPage(0, "source", 1, products));
     }
 
-    private List<ExternalCardProduct> fetchCardsFromPublicDataSingle() {
+    private void fetchCardsFromPublicDataSingle(CardPageSink pageSink) {
         CardExternalProperties.PublicData config = properties.getPublicData();
         if (config == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "catalog.card-external.public-data is missing");
@@ -133,10 +162,7 @@ public class CardExternalApiClient {
 
         appendExtraQuery(query, config.getExtraQuery());
 
-        JsonNode rows = fetchPublicDataRows(url, query, config.getItemsPath(), "public-data single source");
-
-        List<ExternalCardProduct> products = mapRowsToProducts(
-            rows,
+        RowDefaults defaults = new RowDefaults(
             "public-single",
             config.getDefaultProviderName(),
             config.getOfficialUrlFallback(),
@@ -145,10 +171,11 @@ public class CardExternalApiClient {
             "공공데이터 카드 소스 동기화"
         );
 
-        return deduplicateProducts(products);
+        PublicDataPage page = fetchPublicDataPage(url, query, config.getItemsPath(), "public-data single source", defaults);
+        pageSink.accept(new CardPage(0, "public-single", 1, page.products()));
     }
 
-    private List<ExternalCardProduct> fetchCardsFromPublicDataAll() {
+    private void fetchCardsFromPublicDataAll(CardPageSink pageSink) {
         CardExternalProperties.PublicDataAll all = properties.getPublicDataAll();
         if (all == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "catalog.card-external.public-data-all is missing");
@@ -162,68 +189,90 @@ public class CardExternalApiClient {
             );
         }
 
-        List<ExternalCardProduct> merged = new ArrayList<>();
+        int delivered = 0;
         Map<String, String> sourceErrors = new LinkedHashMap<>();
 
-        if (all.isIncludeKdb()) {
-            try {
-                List<ExternalCardProduct> kdb = fetchKdbCards(all.getKdb(), serviceKey);
-                if (kdb.isEmpty()) {
-                    sourceErrors.put("kdb", "empty result");
-                }
-                merged.addAll(kdb);
-            } catch (Exception exception) {
-                sourceErrors.put("kdb", exception.getMessage());
-                log.warn("KDB card source sync skipped: {}", exception.getMessage());
-            }
-        } else {
-            sourceErrors.put("kdb", "disabled by config");
-        }
-
-        if (all.isIncludeKrpost()) {
-            try {
-                List<ExternalCardProduct> krpost = fetchKrpostCards(all.getKrpost(), serviceKey);
-                if (krpost.isEmpty()) {
-                    sourceErrors.put("krpost", "empty result");
-                }
-                merged.addAll(krpost);
-            } catch (Exception exception) {
-                sourceErrors.put("krpost", exception.getMessage());
-                log.warn("KRPOST card source sync skipped: {}", exception.getMessage());
-            }
-        } else {
-            sourceErrors.put("krpost", "disabled by config");
-        }
+        // 소스마다 전용 스레드에서 동시에 받고, 페이지 선조회는 공용 풀에서 돌린다.
+        // 페이지는 도착하는 대로 넘기고, 소스 순번(kdb, krpost, finance-stats)으로 중복 우선순위를 정한다.
+        ExecutorService sourceExecutor = OutboundHttpClients.newFetchPool(3, "card-source-", environment);
+        ExecutorService pageExecutor = OutboundHttpClients.newFetchPool(properties.getFetchConcurrency(), "card-page-", environment);
+        try {
+            List<SourceFetch> fetches = List.of(
+                startSource(0, "kdb", "KDB", all.isIncludeKdb(),
+                    sourceSink -> fetchKdbCards(all.getKdb(), serviceKey, pageExecutor, sourceSink),
+                    pageSink, sourceExecutor),
+                startSource(1, "krpost", "KRPOST", all.isIncludeKrpost(),
+                    sourceSink -> fetchKrpostCards(all.getKrpost(), serviceKey, pageExecutor, sourceSink),
+                    pageSink, sourceExecutor),
+                startSource(2, "finance-stats", "Finance stats", all.isIncludeFinanceStats(),
+                    sourceSink -> fetchFinanceStatsCards(all.getFinanceStats(), serviceKey, pageExecutor, sourceSink),
+                    pageSink, sourceExecutor)
+            );
 
-        if (all.isIncludeFinanceStats()) {
-            try {
-                List<ExternalCardProduct> finStats = fetchFinanceStatsCards(all.getFinanceStats(), serviceKey);
-                if (finStats.isEmpty()) {
-                    sourceErrors.put("finance-stats", "empty result");
+            for (SourceFetch fetch : fetches) {
+                SourceResult result = fetch.result().join();
+                if (result.error() != null) {
+                    sourceErrors.put(fetch.name(), result.error());
                 }
-                merged.addAll(finStats);
-            } catch (Exception exception) {
-                sourceErrors.put("finance-stats", exception.getMessage());
-                log.warn("Finance stats card source sync skipped: {}", exception.getMessage());
+                delivered += result.productCount();
             }
-        } else {
-            sourceErrors.put("finance-stats", "disabled by config");
+        } finally {
+            sourceExecutor.shutdownNow();
+            pageExecutor.shutdownNow();
         }
 
-        List<ExternalCardProduct> deduplicated = deduplicateProducts(merged);
-        if (deduplicated.isEmpty()) {
+        if (delivered == 0) {
             throw new ResponseStatusException(
                 HttpStatus.BAD_GATEWAY,
                 "All public card sources returned empty result: " + sourceErrors
             );
         }
+    }
+
+    private SourceFetch startSource(
+        int sourceOrder,
+        String name,
+        String logLabel,
+        boolean enabled,
+        ToIntFunction<Consumer<List<ExternalCardProduct>>> fetcher,
+        CardPageSink pageSink,
+        ExecutorService executor
+    ) {
+        if (!enabled) {
+            return new SourceFetch(name, CompletableFuture.completedFuture(
+                new SourceResult(0, "disabled by config")
+            ));
+        }
 
-        return deduplicated;
+        return new SourceFetch(name, CompletableFuture.supplyAsync(() -> {
+            // 소스 안에서는 페이지 순서대로 넘어오므로 넘긴 순서가 곧 페이지 번호다.
+            AtomicInteger pagesDelivered = new AtomicInteger();
+            try {
+                int productCount = fetcher.applyAsInt(products -> pageSink.accept(
+                    new CardPage(sourceOrder, name, pagesDelivered.incrementAndGet(), products)
+                ));
+                return new SourceResult(productCount, productCount == 0 ? "empty result" : null);
+            } catch (CancellationException cancelled) {
+                // 받는 쪽이 이미 중단됨
+                throw cancelled;
+            } catch (Exception exception) {
+                log.warn("{} card source sync skipped: {}", logLabel, exception.getMessage());
+                if (pagesDelivered.get() > 0) {
+                    pageSink.discardSource(sourceOrder, name);
+                }
+                return new SourceResult(0, exception.getMessage());
+            }
+        }, executor));
     }
 
-    private List<ExternalCardProduct> fetchKdbCards(CardExternalProperties.Kdb config, String serviceKey) {
+    private int fetchKdbCards(
+        CardExternalProperties.Kdb config,
+        String serviceKey,
+        ExecutorService pageExecutor,
+        Consumer<List<ExternalCardProduct>> pageSink
+    ) {
         if (config == null || safe(config.getUrl()).isBlank()) {
-            return List.of();
+            return 0;
         }
 
         Map<String, String> query = new LinkedHashMap<>();
@@ -238,16 +287,7 @@ public class CardExternalApiClient {
             query.put("resultType", "json");
         }
 
-        JsonNode rows = fetchPublicDataRowsPaged(
-            config.getUrl(),
-            query,
-            config.getItemsPath(),
-            "KDB card product source",
-            config.getMaxPages()
-        );
-
-        return mapRowsToProducts(
-            rows,
+        RowDefaults defaults = new RowDefaults(
             "public-kdb",
             config.getDefaultProviderName(),
             config.getOfficialUrlFallback(),
@@ -255,11 +295,27 @@ public class CardExternalApiClient {
             setOf("online", "transport"),
             "한국산업은행 카드상품 데이터"
         );
+
+        return fetchPublicDataProductsPaged(
+            config.getUrl(),
+            query,
+            config.getItemsPath(),
+            "KDB card product source",
+            config.getMaxPages(),
+            pageExecutor,
+            defaults,
+            pageSink
+        );
     }
 
-    private List<ExternalCardProduct> fetchKrpostCards(CardExternalProperties.Krpost config, String serviceKey) {
+    private int fetchKrpostCards(
+        CardExternalProperties.Krpost config,
+        String serviceKey,
+        ExecutorService pageExecutor,
+        Consumer<List<ExternalCardProduct>> pageSink
+    ) {
         if (config == null || safe(config.getUrl()).isBlank()) {
-            return List.of();
+            return 0;
         }
 
         Map<String, String> query = new LinkedHashMap<>();
@@ -268,16 +324,7 @@ public class CardExternalApiClient {
         query.put("pageNo", config.getPageNo());
         query.put("numOfRows", config.getNumOfRows());
 
-        JsonNode rows = fetchPublicDataRowsPaged(
-            config.getUrl(),
-            query,
-            config.getItemsPath(),
-            "KRPOST card product source",
-            config.getMaxPages()
-        );
-
-        return mapRowsToProducts(
-            rows,
+        RowDefaults defaults = new RowDefaults(
             "public-krpost",
             config.getDefaultProviderName(),
             config.getOfficialUrlFallback(),
@@ -285,11 +332,27 @@ public class CardExternalApiClient {
             setOf("transport"),
             "우체국 체크카드상품 데이터"
         );
+
+        return fetchPublicDataProductsPaged(
+            config.getUrl(),
+            query,
+            config.getItemsPath(),
+            "KRPOST card product source",
+            config.getMaxPages(),
+            pageExecutor,
+            defaults,
+            pageSink
+        );
     }
 
-    private List<ExternalCardProduct> fetchFinanceStatsCards(CardExternalProperties.FinanceStats config, String serviceKey) {
+    private int fetchFinanceStatsCards(
+        CardExternalProperties.FinanceStats config,
+        String serviceKey,
+        ExecutorService pageExecutor,
+        Consumer<List<ExternalCardProduct>> pageSink
+    ) {
         if (config == null || safe(config.getUrl()).isBlank()) {
-            return List.of();
+            return 0;
         }
 
         String basYm = safe(config.getBaseYearMonth());
@@ -305,16 +368,7 @@ public class CardExternalApiClient {
         query.put("title", firstNonBlank(config.getTitle(), "신용카드_일반현황_임직원현황"));
         query.put("basYm", basYm);
 
-        JsonNode rows = fetchPublicDataRowsPaged(
-            config.getUrl(),
-            query,
-            config.getItemsPath(),
-            "Finance committee card stats source",
-            config.getMaxPages()
-        );
-
-        return mapRowsToProducts(
-            rows,
+        RowDefaults defaults = new RowDefaults(
             "public-finstat",
             config.getDefaultProviderName(),
             config.getOfficialUrlFallback(),
@@ -322,78 +376,143 @@ public class CardExternalApiClient {
             Collections.emptySet(),
             "신용카드사 통계 데이터"
         );
-    }
 
-    private JsonNode fetchPublicDataRows(
-        String url,
-        Map<String, String> query,
-        String itemsPath,
-        String sourceLabel
-    ) {
-        URI uri = buildUri(url, query);
-        String body = fetchRemote(uri);
-        JsonNode root = parseStructuredBody(body, sourceLabel);
-        validatePublicDataResponse(root, sourceLabel);
-        return resolvePublicDataRows(root, itemsPath);
+        return fetchPublicDataProductsPaged(
+            config.getUrl(),
+            query,
+            config.getItemsPath(),
+            "Finance committee card stats source",
+            config.getMaxPages(),
+            pageExecutor,
+            defaults,
+            pageSink
+        );
     }
 
-    private JsonNode fetchPublicDataRowsPaged(
+    /**
+     * 첫 페이지의 totalCount로 마지막 페이지를 정한 뒤 나머지 페이지를 미리 받아 두고 페이지 순서대로 넘긴다.
+     * 미리 받아 두는 페이지는 fetch-concurrency 개까지라, pageSink가 막히면 조회도 그만큼만 앞서 나간다.
+     * totalCount가 없으면 짧은 페이지가 나올 때까지 한 페이지씩 받는다.
+     *
+     * @return 넘긴 상품 수
+     */
+    private int fetchPublicDataProductsPaged(
         String url,
         Map<String, String> query,
         String itemsPath,
         String sourceLabel,
-        int maxPages
+        int maxPages,
+        ExecutorService pageExecutor,
+        RowDefaults defaults,
+        Consumer<List<ExternalCardProduct>> pageSink
     ) {
         int startPage = parsePositiveInt(query.get("pageNo"), 1);
         int numOfRows = parsePositiveInt(query.get("numOfRows"), 100);
-        int pageLimit = Math.max(maxPages, 1);
-
-        ArrayNode mergedRows = objectMapper.createArrayNode();
+        int lastAllowedPage = startPage + Math.max(maxPages, 1) - 1;
 
-        for (int offset = 0; offset < pageLimit; offset++) {
-            int currentPage = startPage + offset;
-            Map<String, String> pagedQuery = new LinkedHashMap<>(query);
-            pagedQuery.put("pageNo", String.valueOf(currentPage));
-
-            URI uri = buildUri(url, pagedQuery);
-            String body = fetchRemote(uri);
-            JsonNode root = parseStructuredBody(body, sourceLabel);
-            validatePublicDataResponse(root, sourceLabel);
+        PublicDataPage first = fetchPublicDataPage(url, withPageNo(query, startPage), itemsPath, sourceLabel, defaults);
+        int delivered = deliver(first, pageSink);
+        if (first.rowCount() <= 0 || first.rowCount() < numOfRows) {
+            return delivered;
+        }
 
-            JsonNode rows = resolvePublicDataRows(root, itemsPath);
-            appendRows(mergedRows, rows);
+        if (first.totalCount() > 0) {
+            long totalPages = (first.totalCount() + (long) numOfRows - 1) / numOfRows;
+            int lastPage = (int) Math.min(lastAllowedPage, totalPages);
+            int window = Math.max(1, properties.getFetchConcurrency());
 
-            int fetchedCount = rows.isArray() ? rows.size() : 0;
-            int totalCount = extractTotalCount(root);
+            Deque<CompletableFuture<PublicDataPage>> inFlight = new ArrayDeque<>();
+            int nextPage = startPage + 1;
+            try {
+                while (nextPage <= lastPage || !inFlight.isEmpty()) {
+                    while (nextPage <= lastPage && inFlight.size() < window) {
+                        Map<String, String> pagedQuery = withPageNo(query, nextPage++);
+                        inFlight.addLast(CompletableFuture.supplyAsync(
+                            () -> fetchPublicDataPage(url, pagedQuery, itemsPath, sourceLabel, defaults),
+                            pageExecutor
+                        ));
+                    }
 
-            if (fetchedCount <= 0) {
-                break;
+                    PublicDataPage fetched = joinPage(inFlight.removeFirst());
+                    delivered += deliver(fetched, pageSink);
+                    if (fetched.rowCount() < numOfRows) {
+                        break;
+                    }
+                }
+            } finally {
+                inFlight.forEach(pending -> pending.cancel(true));
             }
+            return delivered;
+        }
 
-            if (fetchedCount < numOfRows) {
+        for (int currentPage = startPage + 1; currentPage <= lastAllowedPage; currentPage++) {
+            PublicDataPage page = fetchPublicDataPage(url, withPageNo(query, currentPage), itemsPath, sourceLabel, defaults);
+            delivered += deliver(page, pageSink);
+            if (page.rowCount() <= 0 || page.rowCount() < numOfRows) {
                 break;
             }
+        }
 
-            if (totalCount > 0 && mergedRows.size() >= totalCount) {
-                break;
-            }
+        return delivered;
+    }
 
-            if (totalCount > 0 && ((long) currentPage * numOfRows) >= totalCount) {
-                break;
+    private int deliver(PublicDataPage page, Consumer<List<ExternalCardProduct>> pageSink) {
+        if (!page.products().isEmpty()) {
+            pageSink.accept(page.products());
+        }
+        return page.products().size();
+    }
+
+    private Map<String, String> withPageNo(Map<String, String> query, int pageNo) {
+        Map<String, String> pagedQuery = new LinkedHashMap<>(query);
+        pagedQuery.put("pageNo", String.valueOf(pageNo));
+        return pagedQuery;
+    }
+
+    /**
+     * 한 페이지를 스트리밍으로 읽어 행마다 바로 상품으로 바꾼다. 응답 본문이나 전체 트리는 메모리에 남기지 않는다.
+     */
+    private PublicDataPage fetchPublicDataPage(
+        String url,
+        Map<String, String> query,
+        String itemsPath,
+        String sourceLabel,
+        RowDefaults defaults
+    ) {
+        URI uri = buildUri(url, query);
+        List<ExternalCardProduct> products = new ArrayList<>();
+        PublicDataRowReader.Result result = fetchRemote(uri, body -> publicDataRowReader.read(body, itemsPath, row -> {
+            ExternalCardProduct product = mapRowToProduct(row, defaults);
+            if (product != null) {
+                products.add(product);
             }
+        }), sourceLabel);
+
+        validatePublicDataResponse(result.resultCode(), result.resultMsg(), sourceLabel);
+
+        if (!result.rowsFound()) {
+            throw new ResponseStatusException(
+                HttpStatus.BAD_GATEWAY,
+                "Public data response rows not found. Configure CARD_PUBLIC_DATA_ITEMS_PATH if needed"
+            );
         }
 
-        return mergedRows;
+        if (result.configuredPathMissed() && fallbackItemsPathWarned.add(itemsPath)) {
+            log.warn("Configured itemsPath {} not matched. Falling back to default path candidates", itemsPath);
+        }
+
+        return new PublicDataPage(products, result.rowCount(), parsePositiveInt(result.totalCount(), -1));
     }
 
-    private int extractTotalCount(JsonNode root) {
-        String raw = firstNonBlank(
-            text(root.path("response").path("body").path("items"), "totalCount"),
-            text(root.path("response").path("body"), "totalCount"),
-            text(root.path("body"), "totalCount"),
-            text(root, "totalCount")
-        );
-        return parsePositiveInt(raw, -1);
+    private PublicDataPage joinPage(CompletableFuture<PublicDataPage> page) {
+        try {
+            return page.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
     }
 
     private int parsePositiveInt(String value, int fallback) {
@@ -410,146 +529,116 @@ public class CardExternalApiClient {
         }
     }
 
-    private void appendRows(ArrayNode target, JsonNode rows) {
-        if (rows == null || rows.isMissingNode() || rows.isNull()) {
-            return;
-        }
-
-        if (rows.isArray()) {
-            for (JsonNode row : rows) {
-                target.add(row);
-            }
-            return;
-        }
-
-        if (rows.isObject()) {
-            target.add(rows);
-        }
-    }
-
-    private List<ExternalCardProduct> mapRowsToProducts(
-        JsonNode rows,
-        String keyPrefix,
-        String defaultProviderName,
-        String officialUrlFallback,
-        Set<String> defaultTags,
-        Set<String> defaultCategories,
-        String defaultSummary
-    ) {
+    private List<ExternalCardProduct> mapRowsToProducts(JsonNode rows, RowDefaults defaults) {
         List<ExternalCardProduct> products = new ArrayList<>();
-
         for (JsonNode row : rows) {
-            String providerName = firstNonBlank(
-                text(row, "providerName"),
-                text(row, "provider"),
-                text(row, "company"),
-                text(row, "cardCoNm"),
-                text(row, "cardCompanyName"),
-                text(row, "cardIssrNm"),
-                text(row, "cmpyNm"),
-                text(row, "bankName"),
-                text(row, "fncoNm"),
-                text(row, "fncNm"),
-                defaultProviderName
-            );
-
-            String productName = firstNonBlank(
-                text(row, "productName"),
-                text(row, "name"),
-                text(row, "cardPrdNm"),
-                text(row, "cardNm"),
-                text(row, "prdNm"),
-                text(row, "finPrdtNm"),
-                text(row, "GDS_NM"),
-                text(row, "title")
-            );
-
-            if (providerName.isBlank() || productName.isBlank()) {
-                continue;
-            }
-
-            String productKey = firstNonBlank(
-                text(row, "productKey"),
-                text(row, "product_id"),
-                text(row, "code"),
-                text(row, "cardPrdId"),
-                text(row, "cardPrdCd"),
-                text(row, "id"),
-                text(row, "GDS_CD"),
-                text(row, "gdsCd"),
-                text(row, "fncoCd"),
-                text(row, "crno")
-            );
-
-            if (productKey.isBlank()) {
-                productKey = generateProductKey(keyPrefix, providerName, productName);
+            ExternalCardProduct product = mapRowToProduct(row, defaults);
+            if (product != null) {
+                products.add(product);
             }
+        }
+        return products;
+    }
 
-            String annualFeeText = firstNonBlank(
-                text(row, "annualFeeText"),
-                text(row, "annualFee"),
-                text(row, "annlFee"),
-                text(row, "annFee"),
-                text(row, "cardFee"),
-                text(row, "fee"),
-                text(row, "anmfOtl"),
-                "연회비 정보 없음"
-            );
-
-            String summary = buildSummaryFromRow(row, defaultSummary);
+    /**
+     * 행 하나를 상품으로 바꾼다. 제공사명이나 상품명이 없으면 null.
+     */
+    private ExternalCardProduct mapRowToProduct(JsonNode row, RowDefaults defaults) {
+        String providerName = firstNonBlank(
+            text(row, "providerName"),
+            text(row, "provider"),
+            text(row, "company"),
+            text(row, "cardCoNm"),
+            text(row, "cardCompanyName"),
+            text(row, "cardIssrNm"),
+            text(row, "cmpyNm"),
+            text(row, "bankName"),
+            text(row, "fncoNm"),
+            text(row, "fncNm"),
+            defaults.defaultProviderName()
+        );
 
-            String officialUrl = firstNonBlank(
-                text(row, "officialUrl"),
-                text(row, "url"),
-                text(row, "link"),
-                text(row, "homepageUrl"),
-                text(row, "hompUrl"),
-                text(row, "CCRD_URL_S50"),
-                officialUrlFallback
-            );
+        String productName = firstNonBlank(
+            text(row, "productName"),
+            text(row, "name"),
+            text(row, "cardPrdNm"),
+            text(row, "cardNm"),
+            text(row, "prdNm"),
+            text(row, "finPrdtNm"),
+            text(row, "GDS_NM"),
+            text(row, "title")
+        );
 
-            Set<String> tags = new HashSet<>(defaultTags);
-            tags.addAll(parseStringSet(
-                row.path("tags"),
-                row.path("tagCodes"),
-                row.path("benefitType"),
-                row.path("bnftType")
-            ));
+        if (providerName.isBlank() || productName.isBlank()) {
+            return null;
+        }
 
-            Set<String> categories = new HashSet<>(defaultCategories);
-            categories.addAll(parseStringSet(
-                row.path("categories"),
-                row.path("categoryCodes"),
-                row.path("benefitCategory"),
-                row.path("bnftCategory")
-            ));
+        String productKey = firstNonBlank(
+            text(row, "productKey"),
+            text(row, "product_id"),
+            text(row, "code"),
+            text(row, "cardPrdId"),
+            text(row, "cardPrdCd"),
+            text(row, "id"),
+            text(row, "GDS_CD"),
+            text(row, "gdsCd"),
+            text(row, "fncoCd"),
+            text(row, "crno")
+        );
 
-            products.add(new ExternalCardProduct(
-                productKey,
-                providerName,
-                productName,
-                annualFeeText,
-                summary,
-                officialUrl,
-                tags,
-                categories
-            ));
+        if (productKey.isBlank()) {
+            productKey = generateProductKey(defaults.keyPrefix(), providerName, productName);
         }
 
-        return products;
-    }
+        String annualFeeText = firstNonBlank(
+            text(row, "annualFeeText"),
+            text(row, "annualFee"),
+            text(row, "annlFee"),
+            text(row, "annFee"),
+            text(row, "cardFee"),
+            text(row, "fee"),
+            text(row, "anmfOtl"),
+            "연회비 정보 없음"
+        );
 
-    private List<ExternalCardProduct> deduplicateProducts(List<ExternalCardProduct> products) {
-        Map<String, ExternalCardProduct> deduplicated = new LinkedHashMap<>();
+        String summary = buildSummaryFromRow(row, defaults.defaultSummary());
 
-        for (ExternalCardProduct product : products) {
-            if (product == null || safe(product.productKey()).isBlank()) {
-                continue;
-            }
-            deduplicated.put(product.productKey(), product);
-        }
+        String officialUrl = firstNonBlank(
+            text(row, "officialUrl"),
+            text(row, "url"),
+            text(row, "link"),
+            text(row, "homepageUrl"),
+            text(row, "hompUrl"),
+            text(row, "CCRD_URL_S50"),
+            defaults.officialUrlFallback()
+        );
 
-        return new ArrayList<>(deduplicated.values());
+        Set<String> tags = new HashSet<>(defaults.defaultTags());
+        tags.addAll(parseStringSet(
+            row.path("tags"),
+            row.path("tagCodes"),
+            row.path("benefitType"),
+            row.path("bnftType")
+        ));
+
+        Set<String> categories = new HashSet<>(defaults.defaultCategories());
+        categories.addAll(parseStringSet(
+            row.path("categories"),
+            row.path("categoryCodes"),
+            row.path("benefitCategory"),
+            row.path("bnftCategory")
+        ));
+
+        return new ExternalCardProduct(
+            productKey,
+            providerName,
+            productName,
+            annualFeeText,
+            summary,
+            officialUrl,
+            tags,
+            categories
+        );
     }
 
     private String buildSummaryFromRow(JsonNode row, String defaultSummary) {
@@ -649,16 +738,70 @@ public class CardExternalApiClient {
     }
 
     private String fetchRemote(URI uri) {
-        HttpRequest request = HttpRequest.newBuilder(uri)
+        HttpRequest request = newRequest(uri);
+        HttpResponse<String> response = hostConcurrencyLimiter.call(
+            uri,
+            properties.getFetchConcurrency(),
+            () -> send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+        );
+
+        if (response.statusCode() != 200) {
+            throw new ResponseStatusException(
+                HttpStatus.BAD_GATEWAY,
+                "External card source returned status " + response.statusCode()
+            );
+        }
+
+        if (response.body() == null || response.body().isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "External card source returned empty body");
+        }
+
+        return response.body();
+    }
+
+    /**
+     * 응답 본문을 문자열로 모으지 않고 스트림으로 넘긴다. 본문을 다 읽을 때까지 호스트 동시 요청 허용 수를 잡고 있는다.
+     */
+    private <T> T fetchRemote(URI uri, BodyReader<T> bodyReader, String sourceLabel) {
+        HttpRequest request = newRequest(uri);
+        return hostConcurrencyLimiter.call(uri, properties.getFetchConcurrency(), () -> {
+            HttpResponse<InputStream> response = send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                if (response.statusCode() != 200) {
+                    throw new ResponseStatusException(
+                        HttpStatus.BAD_GATEWAY,
+                        "External card source returned status " + response.statusCode()
+                    );
+                }
+                return bodyReader.read(body);
+            } catch (IOException exception) {
+                throw new ResponseStatusException(
+                    HttpStatus.BAD_GATEWAY,
+                    "Failed to fetch external card source: " + exception.getMessage(),
+                    exception
+                );
+            } catch (IllegalArgumentException exception) {
+                throw new ResponseStatusException(
+                    HttpStatus.BAD_GATEWAY,
+                    "Failed to parse " + sourceLabel + " response as JSON/XML: " + exception.getMessage(),
+                    exception
+                );
+            }
+        });
+    }
+
+    private HttpRequest newRequest(URI uri) {
+        return HttpRequest.newBuilder(uri)
             .GET()
             .timeout(Duration.ofMillis(Math.max(properties.getReadTimeoutMs(), 2000)))
             .header("Accept", "application/json, application/xml, text/xml, */*")
             .header("User-Agent", "benepick-backend/1.0")
             .build();
+    }
 
-        HttpResponse<String> response;
+    private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
         try {
-            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            return httpClient.send(request, bodyHandler);
         } catch (IOException | InterruptedException exception) {
             if (exception instanceof InterruptedException) {
                 Thread.currentThread().interrupt();
@@ -669,19 +812,6 @@ public class CardExternalApiClient {
                 exception
             );
         }
-
-        if (response.statusCode() != 200) {
-            throw new ResponseStatusException(
-                HttpStatus.BAD_GATEWAY,
-                "External card source returned status " + response.statusCode()
-            );
-        }
-
-        if (response.body() == null || response.body().isBlank()) {
-            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "External card source returned empty body");
-        }
-
-        return response.body();
     }
 
     private String readLocal(String source) {
@@ -810,13 +940,7 @@ public class CardExternalApiClient {
 
         return objectNode;
     }
-    private void validatePublicDataResponse(JsonNode root, String sourceLabel) {
-        String resultCode = firstNonBlank(
-            text(root.path("response").path("header"), "resultCode"),
-            text(root.path("header"), "resultCode"),
-            text(root, "resultCode")
-        );
-
+    private void validatePublicDataResponse(String resultCode, String resultMessage, String sourceLabel) {
         if (resultCode.isBlank()) {
             return;
         }
@@ -829,13 +953,7 @@ public class CardExternalApiClient {
             return;
         }
 
-        String resultMessage = firstNonBlank(
-            text(root.path("response").path("header"), "resultMsg"),
-            text(root.path("header"), "resultMsg"),
-            text(root, "resultMsg")
-        );
-
-        String detail = resultMessage.isBlank() ? "unknown error" : resultMessage;
+        String detail = safe(resultMessage).isBlank() ? "unknown error" : resultMessage;
         throw new ResponseStatusException(
             HttpStatus.BAD_GATEWAY,
             sourceLabel + " API error (" + resultCode + "): " + detail
@@ -872,161 +990,6 @@ public class CardExternalApiClient {
         );
     }
 
-    private JsonNode resolvePublicDataRows(JsonNode root, String itemsPath) {
-        if (root == null || root.isNull()) {
-            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Public data API response is empty");
-        }
-
-        if (root.isArray()) {
-            return root;
-        }
-
-        if (!safe(itemsPath).isBlank()) {
-            JsonNode selected = selectPath(root, itemsPath);
-            JsonNode normalized = normalizeRowsNode(selected);
-            if (normalized != null) {
-                return normalized;
-            }
-
-            // Fallback to built-in candidates when configured path mismatches
-            if (fallbackItemsPathWarned.add(itemsPath)) {
-                log.warn("Configured itemsPath {} not matched. Falling back to default path candidates", itemsPath);
-            }
-        }
-
-        List<JsonNode> candidates = List.of(
-            root.path("response").path("body").path("items").path("item"),
-            root.path("response").path("body").path("items"),
-            root.path("response").path("body").path("tableList").path(0).path("items").path("item"),
-            root.path("response").path("body").path("tableList").path(0).path("items"),
-            root.path("response").path("body").path("tableList").path("items").path("item"),
-            root.path("body").path("items").path("item"),
-            root.path("body").path("items"),
-            root.path("items").path("item"),
-            root.path("items"),
-            root.path("data"),
-            root.path("cards"),
-            root.path("result").path("items")
-        );
-
-        for (JsonNode candidate : candidates) {
-            JsonNode normalized = normalizeRowsNode(candidate);
-            if (normalized != null) {
-                return normalized;
-            }
-        }
-
-        throw new ResponseStatusException(
-            HttpStatus.BAD_GATEWAY,
-            "Public data response rows not found. Configure CARD_PUBLIC_DATA_ITEMS_PATH if needed"
-        );
-    }
-
-    private JsonNode selectPath(JsonNode root, String pathExpression) {
-        JsonNode current = root;
-        for (String token : pathExpression.split("\\.")) {
-            String field = safe(token);
-            if (field.isBlank()) {
-                continue;
-            }
-            current = applyPathToken(current, field);
-        }
-        return current;
-    }
-
-    private JsonNode applyPathToken(JsonNode current, String token) {
-        if (current == null || current.isMissingNode() || current.isNull()) {
-            return current;
-        }
-
-        String remaining = safe(token);
-        while (!remaining.isBlank()) {
-            int openBracket = remaining.indexOf('[');
-            if (openBracket < 0) {
-                return pathByFieldOrIndex(current, remaining);
-            }
-
-            String fieldPart = remaining.substring(0, openBracket).trim();
-            if (!fieldPart.isBlank()) {
-                current = pathByFieldOrIndex(current, fieldPart);
-            }
-
-            int closeBracket = remaining.indexOf(']', openBracket);
-            if (closeBracket < 0) {
-                return pathByFieldOrIndex(current, remaining);
-            }
-
-            String indexPart = remaining.substring(openBracket + 1, closeBracket).trim();
-            current = pathByFieldOrIndex(current, indexPart);
-            remaining = remaining.substring(closeBracket + 1).trim();
-        }
-
-        return current;
-    }
-
-    private JsonNode pathByFieldOrIndex(JsonNode current, String segment) {
-        if (current == null || current.isMissingNode() || current.isNull()) {
-            return current;
-        }
-
-        String normalized = safe(segment);
-        if (normalized.isBlank()) {
-            return current;
-        }
-
-        if (isNumeric(normalized)) {
-            try {
-                return current.path(Integer.parseInt(normalized));
-            } catch (NumberFormatException ignored) {
-                // no-op
-            }
-        }
-
-        return current.path(normalized);
-    }
-
-    private boolean isNumeric(String value) {
-        if (value == null || value.isBlank()) {
-            return false;
-        }
-
-        for (int index = 0; index < value.length(); index++) {
-            if (!Character.isDigit(value.charAt(index))) {
-                return false;
-            }
-        }
-
-        return true;
-    }
-
-    private JsonNode normalizeRowsNode(JsonNode node) {
-        if (node == null || node.isMissingNode() || node.isNull()) {
-            return null;
-        }
-
-        if (node.isArray()) {
-            return node;
-        }
-
-        if (node.isObject()) {
-            JsonNode itemArray = node.path("item");
-            if (itemArray.isArray()) {
-                return itemArray;
-            }
-
-            JsonNode dataArray = node.path("data");
-            if (dataArray.isArray()) {
-                return dataArray;
-            }
-
-            ArrayNode wrapped = objectMapper.createArrayNode();
-            wrapped.add(node);
-            return wrapped;
-        }
-
-        return null;
-    }
-
     private Set<String> parseStringSet(JsonNode... candidates) {
         Set<String> values = new HashSet<>();
         for (JsonNode candidate : candidates) {
@@ -1134,6 +1097,50 @@ public class CardExternalApiClient {
         return slug;
     }
 
+    private record SourceFetch(String name, CompletableFuture<SourceResult> result) {
+    }
+
+    private record SourceResult(int productCount, String error) {
+    }
+
+    private record PublicDataPage(List<ExternalCardProduct> products, int rowCount, int totalCount) {
+    }
+
+    private record RowDefaults(
+        String keyPrefix,
+        String defaultProviderName,
+        String officialUrlFallback,
+        Set<String> defaultTags,
+        Set<String> defaultCategories,
+        String defaultSummary
+    ) {
+    }
+
+    @FunctionalInterface
+    private interface BodyReader<T> {
+        T read(InputStream body) throws IOException;
+    }
+
+    /**
+     * 카드 상품 페이지를 받는 쪽. public-data-all 모드에서는 여러 소스 스레드가 동시에 부른다.
+     */
+    public interface CardPageSink {
+
+        void accept(CardPage page);
+
+        /**
+         * 페이지를 넘긴 뒤 실패한 소스를 알린다. 그 소스에서 받은 행을 모두 버려야 한다.
+         */
+        void discardSource(int sourceOrder, String source);
+    }
+
+    /**
+     * @param sourceOrder 소스 우선순위(kdb 0, krpost 1, finance-stats 2). 단일 소스 모드는 0이다.
+     * @param pageNo 소스 안에서 1부터 매기는 페이지 순번
+     */
+    public record CardPage(int sourceOrder, String source, int pageNo, List<ExternalCardProduct> products) {
+    }
+
     public record ExternalCardProduct(
         String productKey,
         String providerName,
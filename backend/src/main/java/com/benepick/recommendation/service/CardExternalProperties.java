@@ -14,7 +14,7 @@ public class CardExternalProperties {
     /**
      * source: 기존 JSON 파일/URL 동기화
      * public-data: 공공데이터 API 단일 소스 호출
-     * public-data-all: 공공데이터 카드 관련 다중 소스 순차 호출
+     * public-data-all: 공공데이터 카드 관련 다중 소스 동시 호출
      */
     private String mode = "source";
 
@@ -24,6 +24,21 @@ public class CardExternalProperties {
 
     private int readTimeoutMs = 10000;
 
+    /**
+     * 호스트당 동시 요청 수 (public-data-all 소스/페이지 병렬 조회)
+     */
+    private int fetchConcurrency = 4;
+
+    /**
+     * 조회와 저장 사이 대기열에 쌓아 둘 최대 페이지 수. 가득 차면 조회 쪽이 기다린다.
+     */
+    private int pipelineQueuePages = 8;
+
+    /**
+     * 한 트랜잭션으로 저장할 상품 수
+     */
+    private int upsertChunkSize = 200;
+
     private PublicData publicData = new PublicData();
 
     private PublicDataAll publicDataAll = new PublicDataAll();
@@ -0,0 +1,197 @@
+package com.benepick.recommendation.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 카드 외부 동기화 파이프라인.
+ * 조회 스레드가 응답을 행 단위로 읽어 상품으로 바꾼 페이지를 크기 제한 대기열에 넣고,
+ * 호출 스레드는 대기열에서 꺼낸 상품을 청크로 묶어 저장한다. 저장이 밀리면 대기열이 차서 조회가 기다린다.
+ * 상품마다 (소스 순번, 페이지, 행) 위치를 붙여 넘기므로, 같은 상품 키가 다시 오면 저장 쪽에서 그 순서상 나중 값으로 덮어쓴다.
+ * 소스가 중간에 실패하면 그 소스의 행을 버리도록 알리고, 조회 건수는 남은 소스의 고유 키 기준으로 센다.
+ */
+@Component
+public class CardSyncPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(CardSyncPipeline.class);
+
+    private static final long OFFER_POLL_MS = 200L;
+
+    private final CardExternalApiClient cardExternalApiClient;
+    private final CardExternalProperties properties;
+    private final Environment environment;
+
+    public CardSyncPipeline(
+        CardExternalApiClient cardExternalApiClient,
+        CardExternalProperties properties,
+        Environment environment
+    ) {
+        this.cardExternalApiClient = cardExternalApiClient;
+        this.properties = properties;
+        this.environment = environment;
+    }
+
+    /**
+     * @param chunkWriter 상품 청크를 저장하는 쪽. 호출 스레드에서 청크마다 한 번씩 불린다.
+     * @param sourceDiscarder 실패한 소스 순번을 받아 이미 저장한 그 소스의 행을 지우는 쪽. 호출 스레드에서 불린다.
+     * @return 조회된 고유 상품 수
+     */
+    public int run(Consumer<List<SourcedProduct>> chunkWriter, IntConsumer sourceDiscarder) {
+        long startedAt = System.nanoTime();
+        int chunkSize = Math.max(1, properties.getUpsertChunkSize());
+        BlockingQueue<PageBatch> queue = new ArrayBlockingQueue<>(Math.max(1, properties.getPipelineQueuePages()));
+        AtomicBoolean cancelled = new AtomicBoolean();
+        AtomicReference<RuntimeException> fetchFailure = new AtomicReference<>();
+
+        ExecutorService fetcher = OutboundHttpClients.newFetchPool(1, "card-sync-fetch-", environment);
+        fetcher.execute(() -> {
+            try {
+                cardExternalApiClient.fetchCards(new CardExternalApiClient.CardPageSink() {
+                    @Override
+                    public void accept(CardExternalApiClient.CardPage page) {
+                        enqueue(queue, PageBatch.of(page), cancelled);
+                    }
+
+                    @Override
+                    public void discardSource(int sourceOrder, String source) {
+                        enqueue(queue, PageBatch.discard(sourceOrder, source), cancelled);
+                    }
+                });
+            } catch (RuntimeException exception) {
+                fetchFailure.set(exception);
+            } finally {
+                try {
+                    enqueue(queue, PageBatch.end(), cancelled);
+                } catch (CancellationException ignored) {
+                    // 저장 쪽이 이미 중단됨
+                }
+            }
+        });
+
+        Map<Integer, Set<String>> seenKeysBySource = new HashMap<>();
+        List<SourcedProduct> chunk = new ArrayList<>(chunkSize);
+        int chunks = 0;
+        try {
+            while (true) {
+                PageBatch batch = queue.take();
+                if (batch.last()) {
+                    break;
+                }
+
+                CardExternalApiClient.CardPage page = batch.page();
+                if (batch.discardSource() != null) {
+                    int sourceOrder = batch.discardSource();
+                    // 아직 저장하지 않은 행은 청크에서 빼고, 이미 저장한 행은 지운다.
+                    chunk.removeIf(product -> product.sourceOrder() == sourceOrder);
+                    seenKeysBySource.remove(sourceOrder);
+                    sourceDiscarder.accept(sourceOrder);
+                    log.warn("Card source {} failed after delivering pages; its staged rows were discarded", batch.source());
+                    continue;
+                }
+
+                Set<String> seenKeys = seenKeysBySource.computeIfAbsent(page.sourceOrder(), ignored -> new HashSet<>());
+                int rowNo = 0;
+                for (CardExternalApiClient.ExternalCardProduct product : page.products()) {
+                    String key = product.productKey() == null ? "" : product.productKey().trim();
+                    if (!key.isEmpty()) {
+                        seenKeys.add(key);
+                    }
+                    chunk.add(new SourcedProduct(page.sourceOrder(), page.pageNo(), rowNo++, product));
+                    if (chunk.size() >= chunkSize) {
+                        chunkWriter.accept(chunk);
+                        chunks++;
+                        chunk = new ArrayList<>(chunkSize);
+                    }
+                }
+            }
+
+            if (fetchFailure.get() != null) {
+                throw fetchFailure.get();
+            }
+
+            if (!chunk.isEmpty()) {
+                chunkWriter.accept(chunk);
+                chunks++;
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            cancelled.set(true);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Card sync interrupted", exception);
+        } catch (RuntimeException exception) {
+            cancelled.set(true);
+            throw exception;
+        } finally {
+            fetcher.shutdown();
+        }
+
+        Set<String> seenKeys = new HashSet<>();
+        seenKeysBySource.values().forEach(seenKeys::addAll);
+        log.info(
+            "Card sync pipeline finished (products={}, chunks={}, elapsedMs={})",
+            seenKeys.size(),
+            chunks,
+            (System.nanoTime() - startedAt) / 1_000_000
+        );
+        return seenKeys.size();
+    }
+
+    private static void enqueue(BlockingQueue<PageBatch> queue, PageBatch batch, AtomicBoolean cancelled) {
+        try {
+            while (!queue.offer(batch, OFFER_POLL_MS, TimeUnit.MILLISECONDS)) {
+                if (cancelled.get()) {
+                    throw new CancellationException("Card sync pipeline cancelled");
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Card sync pipeline interrupted");
+        }
+    }
+
+    /**
+     * 대기열 항목. 페이지, 실패한 소스 알림, 끝 표시 중 하나다.
+     */
+    private record PageBatch(CardExternalApiClient.CardPage page, Integer discardSource, String source, boolean last) {
+
+        private static PageBatch of(CardExternalApiClient.CardPage page) {
+            return new PageBatch(page, null, page.source(), false);
+        }
+
+        private static PageBatch discard(int sourceOrder, String source) {
+            return new PageBatch(null, sourceOrder, source, false);
+        }
+
+        private static PageBatch end() {
+            return new PageBatch(null, null, null, true);
+        }
+    }
+
+    /**
+     * 조회 위치를 붙인 상품.
+     *
+     * @param sourceOrder 소스 우선순위
+     * @param pageNo 소스 안 페이지 순번
+     * @param rowNo 페이지 안 행 순번(0부터)
+     */
+    public record SourcedProduct(int sourceOrder, int pageNo, int rowNo, CardExternalApiClient.ExternalCardProduct product) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.benepick.recommendation.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 카탈로그 행 내용의 SHA-256 해시. 동기화 때 저장된 해시와 비교해 바뀐 행만 갱신한다.
+ * 필드 순서가 해시에 들어가므로 같은 종류의 행은 항상 같은 순서로 add 해야 한다. 집합은 정렬해서 넣는다.
+ */
+final class CatalogContentHash {
+
+    private static final byte FIELD_SEPARATOR = 0x1F;
+    private static final byte NULL_MARKER = 0x00;
+
+    private final MessageDigest digest;
+
+    private CatalogContentHash() {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+
+    static CatalogContentHash start() {
+        return new CatalogContentHash();
+    }
+
+    CatalogContentHash add(String value) {
+        if (value == null) {
+            digest.update(NULL_MARKER);
+        } else {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update(FIELD_SEPARATOR);
+        return this;
+    }
+
+    CatalogContentHash add(Object value) {
+        return add(value == null ? null : value.toString());
+    }
+
+    CatalogContentHash addAll(Collection<String> values) {
+        List<String> sorted = new ArrayList<>();
+        if (values != null) {
+            values.stream().filter(Objects::nonNull).filter(value -> !value.isBlank()).forEach(sorted::add);
+        }
+        sorted.sort(null);
+        add(String.join("\u001E", sorted));
+        return this;
+    }
+
+    String finish() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
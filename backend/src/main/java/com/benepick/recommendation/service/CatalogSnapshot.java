@@ -0,0 +1,224 @@
+package com.benepick.recommendation.service;
+
+import com.benepick.recommendation.entity.AccountCatalogEntity;
+import com.benepick.recommendation.entity.CardCatalogEntity;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 동기화 시점의 활성 카탈로그를 복사해 둔 불변 스냅샷.
+ * 추천 계산/분석은 DB 대신 이 스냅샷을 읽고, 상품별 특징값도 여기서 미리 계산된다.
+ */
+public final class CatalogSnapshot {
+
+    private static final String STAT_ONLY_TAG = "stat-only";
+
+    private final long version;
+    private final OffsetDateTime builtAt;
+    private final List<AccountEntry> accounts;
+    private final List<CardEntry> cards;
+    private final List<CardEntry> recommendableCards;
+    private final CardCandidateIndex recommendableCardIndex;
+    private final Map<String, AccountEntry> accountsByKey;
+    private final Map<String, CardEntry> cardsByKey;
+
+    private CatalogSnapshot(
+        long version,
+        OffsetDateTime builtAt,
+        List<AccountEntry> accounts,
+        List<CardEntry> cards
+    ) {
+        this.version = version;
+        this.builtAt = builtAt;
+        this.accounts = List.copyOf(accounts);
+        this.cards = List.copyOf(cards);
+        this.recommendableCards = this.cards.stream()
+            .filter(card -> !card.tags().contains(STAT_ONLY_TAG))
+            .toList();
+        this.recommendableCardIndex = new CardCandidateIndex(this.recommendableCards);
+
+        Map<String, AccountEntry> accountIndex = new LinkedHashMap<>();
+        for (AccountEntry account : this.accounts) {
+            accountIndex.put(account.productKey(), account);
+        }
+        this.accountsByKey = Map.copyOf(accountIndex);
+
+        Map<String, CardEntry> cardIndex = new LinkedHashMap<>();
+        for (CardEntry card : this.cards) {
+            cardIndex.put(card.productKey(), card);
+        }
+        this.cardsByKey = Map.copyOf(cardIndex);
+    }
+
+    public static CatalogSnapshot build(
+        long version,
+        Collection<AccountCatalogEntity> accountEntities,
+        Collection<CardCatalogEntity> cardEntities
+    ) {
+        List<AccountEntry> accounts = new ArrayList<>();
+        for (AccountCatalogEntity entity : accountEntities) {
+            accounts.add(AccountEntry.from(entity));
+        }
+
+        List<CardEntry> cards = new ArrayList<>();
+        for (CardCatalogEntity entity : cardEntities) {
+            cards.add(CardEntry.from(entity));
+        }
+
+        return new CatalogSnapshot(version, OffsetDateTime.now(), accounts, cards);
+    }
+
+    public static CatalogSnapshot empty() {
+        return new CatalogSnapshot(0, OffsetDateTime.now(), List.of(), List.of());
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public OffsetDateTime builtAt() {
+        return builtAt;
+    }
+
+    public List<AccountEntry> accounts() {
+        return accounts;
+    }
+
+    public List<CardEntry> cards() {
+        return cards;
+    }
+
+    /**
+     * 통계 전용(stat-only) 카드를 제외한 추천 후보 카드 목록
+     */
+    public List<CardEntry> recommendableCards() {
+        return recommendableCards;
+    }
+
+    /**
+     * {@link #recommendableCards()}에 대한 카테고리 역색인
+     */
+    public CardCandidateIndex recommendableCardIndex() {
+        return recommendableCardIndex;
+    }
+
+    public Optional<AccountEntry> findAccount(String productKey) {
+        return Optional.ofNullable(productKey == null ? null : accountsByKey.get(productKey));
+    }
+
+    public Optional<CardEntry> findCard(String productKey) {
+        return Optional.ofNullable(productKey == null ? null : cardsByKey.get(productKey));
+    }
+
+    private static Set<String> copyValues(Set<String> values) {
+        if (values == null || values.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<String> copied = new HashSet<>();
+        for (String value : values) {
+            if (value != null && !value.isBlank()) {
+                copied.add(value.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        return Set.copyOf(copied);
+    }
+
+    private static String safe(String value) {
+        return value == null ? "" : value;
+    }
+
+    public record AccountEntry(
+        String productKey,
+        String providerName,
+        String productName,
+        String accountKind,
+        String summary,
+        String officialUrl,
+        Set<String> tags,
+        ProductFeatures features,
+        List<String> overrideLookupKeys
+    ) {
+
+        public static AccountEntry from(AccountCatalogEntity entity) {
+            Set<String> tags = copyValues(entity.getTags());
+            return new AccountEntry(
+                entity.getProductKey(),
+                safe(entity.getProviderName()),
+                safe(entity.getProductName()),
+                safe(entity.getAccountKind()),
+                safe(entity.getSummary()),
+                safe(entity.getOfficialUrl()),
+                tags,
+                ProductFeatureExtractor.forAccount(
+                    entity.getProductName(),
+                    entity.getSummary(),
+                    entity.getAccountKind(),
+                    tags,
+                    entity.getOfficialUrl(),
+                    entity.getMaxRate(),
+                    entity.getBaseRate()
+                ),
+                ProductUrlOverrideService.lookupKeysFor(
+                    entity.getProductKey(),
+                    "ACCOUNT",
+                    entity.getProviderName(),
+                    entity.getProductName()
+                )
+            );
+        }
+    }
+
+    public record CardEntry(
+        String productKey,
+        String providerName,
+        String productName,
+        String annualFeeText,
+        String summary,
+        String officialUrl,
+        Set<String> tags,
+        Set<String> categories,
+        ProductFeatures features,
+        List<String> overrideLookupKeys
+    ) {
+
+        public static CardEntry from(CardCatalogEntity entity) {
+            Set<String> tags = copyValues(entity.getTags());
+            Set<String> categories = copyValues(entity.getCategories());
+            return new CardEntry(
+                entity.getProductKey(),
+                safe(entity.getProviderName()),
+                safe(entity.getProductName()),
+                safe(entity.getAnnualFeeText()),
+                safe(entity.getSummary()),
+                safe(entity.getOfficialUrl()),
+                tags,
+                categories,
+                ProductFeatureExtractor.forCard(
+                    entity.getProductName(),
+                    entity.getSummary(),
+                    entity.getAnnualFeeText(),
+                    tags,
+                    categories,
+                    entity.getOfficialUrl(),
+                    entity.getAnnualFeeWon(),
+                    entity.getLowFee()
+                ),
+                ProductUrlOverrideService.lookupKeysFor(
+                    entity.getProductKey(),
+                    "CARD",
+                    entity.getProviderName(),
+                    entity.getProductName()
+                )
+            );
+        }
+    }
+}
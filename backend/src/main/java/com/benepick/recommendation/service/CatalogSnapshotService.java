@@ -0,0 +1,73 @@
+package com.benepick.recommendation.service;
+
+import com.benepick.recommendation.repository.AccountCatalogRepository;
+import com.benepick.recommendation.repository.CardCatalogRepository;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CatalogSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSnapshotService.class);
+
+    private final AccountCatalogRepository accountCatalogRepository;
+    private final CardCatalogRepository cardCatalogRepository;
+    private final AtomicReference<CatalogSnapshot> current = new AtomicReference<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    public CatalogSnapshotService(
+        AccountCatalogRepository accountCatalogRepository,
+        CardCatalogRepository cardCatalogRepository
+    ) {
+        this.accountCatalogRepository = accountCatalogRepository;
+        this.cardCatalogRepository = cardCatalogRepository;
+    }
+
+    /**
+     * 현재 게시된 스냅샷. 아직 한 번도 만들어지지 않았다면 즉시 빌드한다.
+     */
+    public CatalogSnapshot current() {
+        CatalogSnapshot snapshot = current.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        return buildFirst();
+    }
+
+    private synchronized CatalogSnapshot buildFirst() {
+        // 동시에 들어온 첫 요청들 중 하나만 빌드하고 나머지는 그 결과를 쓴다.
+        CatalogSnapshot snapshot = current.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        return refresh("lazy");
+    }
+
+    /**
+     * DB의 활성 카탈로그를 읽어 새 버전의 스냅샷을 만들고 원자적으로 교체한다.
+     * 동기화 트랜잭션이 커밋된 뒤에 호출해야 한다.
+     */
+    public synchronized CatalogSnapshot refresh(String trigger) {
+        long startedAt = System.nanoTime();
+
+        CatalogSnapshot snapshot = CatalogSnapshot.build(
+            versionSequence.incrementAndGet(),
+            accountCatalogRepository.findByActiveTrue(),
+            cardCatalogRepository.findByActiveTrue()
+        );
+        current.set(snapshot);
+
+        log.info(
+            "Catalog snapshot published (trigger={}, version={}, accounts={}, cards={}, elapsedMs={})",
+            trigger,
+            snapshot.version(),
+            snapshot.accounts().size(),
+            snapshot.cards().size(),
+            (System.nanoTime() - startedAt) / 1_000_000
+        );
+        return snapshot;
+    }
+}
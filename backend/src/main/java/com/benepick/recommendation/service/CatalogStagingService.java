@@ -0,0 +1,377 @@
+package com.benepick.recommendation.service;
+
+import com.benepick.recommendation.entity.AccountCatalogEntity;
+import com.benepick.recommendation.entity.AccountCatalogStagingEntity;
+import com.benepick.recommendation.entity.CardCatalogEntity;
+import com.benepick.recommendation.entity.CardCatalogStagingEntity;
+import com.benepick.recommendation.repository.AccountCatalogRepository;
+import com.benepick.recommendation.repository.AccountCatalogStagingRepository;
+import com.benepick.recommendation.repository.CardCatalogRepository;
+import com.benepick.recommendation.repository.CardCatalogStagingRepository;
+import com.benepick.recommendation.repository.CatalogSyncStateView;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 카탈로그 스테이징 적재와 게시.
+ * 동기화는 조회한 상품을 먼저 스테이징 테이블에 쌓고, 건수와 필수 값을 스테이징에서 검증한 뒤
+ * 한 트랜잭션 안에서 운영 테이블에 반영(신규 insert, 바뀐 행 update, 빠진 행 비활성화)하고 스테이징을 비운다.
+ * 게시 전에 실패하면 운영 테이블은 그대로이고, 다른 트랜잭션은 게시 전이나 후의 카탈로그만 본다.
+ */
+@Service
+public class CatalogStagingService {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogStagingService.class);
+
+    // 키 목록 IN 조회/비활성화 한 번에 넘기는 최대 키 수
+    private static final int KEY_BATCH_SIZE = 1000;
+    // 이보다 오래된 스테이징 행은 중단된 동기화가 남긴 것으로 보고 지운다.
+    private static final long STALE_STAGING_HOURS = 24;
+
+    private final AccountCatalogRepository accountCatalogRepository;
+    private final AccountCatalogStagingRepository accountCatalogStagingRepository;
+    private final CardCatalogRepository cardCatalogRepository;
+    private final CardCatalogStagingRepository cardCatalogStagingRepository;
+    private final CatalogSyncSchedulerProperties syncProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public CatalogStagingService(
+        AccountCatalogRepository accountCatalogRepository,
+        AccountCatalogStagingRepository accountCatalogStagingRepository,
+        CardCatalogRepository cardCatalogRepository,
+        CardCatalogStagingRepository cardCatalogStagingRepository,
+        CatalogSyncSchedulerProperties syncProperties,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.accountCatalogRepository = accountCatalogRepository;
+        this.accountCatalogStagingRepository = accountCatalogStagingRepository;
+        this.cardCatalogRepository = cardCatalogRepository;
+        this.cardCatalogStagingRepository = cardCatalogStagingRepository;
+        this.syncProperties = syncProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void purgeStaleStaging() {
+        OffsetDateTime cutoff = OffsetDateTime.now().minusHours(STALE_STAGING_HOURS);
+        transactionTemplate.executeWithoutResult(status -> {
+            int accounts = accountCatalogStagingRepository.deleteStagedBefore(cutoff);
+            int cards = cardCatalogStagingRepository.deleteStagedBefore(cutoff);
+            if (accounts + cards > 0) {
+                log.info("Purged stale catalog staging rows (accounts={}, cards={})", accounts, cards);
+            }
+        });
+    }
+
+    public void stageAccounts(List<AccountCatalogStagingEntity> rows) {
+        if (!rows.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> accountCatalogStagingRepository.saveAll(rows));
+        }
+    }
+
+    public void stageCards(List<CardCatalogStagingEntity> rows) {
+        if (!rows.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> cardCatalogStagingRepository.saveAll(rows));
+        }
+    }
+
+    public void discardAccounts(UUID syncId) {
+        transactionTemplate.executeWithoutResult(status -> accountCatalogStagingRepository.deleteBySyncId(syncId));
+    }
+
+    public void discardCards(UUID syncId) {
+        transactionTemplate.executeWithoutResult(status -> cardCatalogStagingRepository.deleteBySyncId(syncId));
+    }
+
+    /**
+     * 중간에 실패한 소스의 스테이징 행만 지운다. 같은 동기화의 다른 소스 행은 그대로 게시된다.
+     */
+    public void discardCardSource(UUID syncId, int sourceOrder) {
+        transactionTemplate.executeWithoutResult(
+            status -> cardCatalogStagingRepository.deleteBySyncIdAndSourceOrder(syncId, sourceOrder)
+        );
+    }
+
+    /**
+     * @param keyPrefix 이 동기화가 소유한 상품 키 접두사. 스테이징에 없는 같은 접두사의 활성 행은 비활성화한다.
+     * @param expectedRows 스테이징에 넣은 행 수. 실제 적재 건수와 다르면 게시하지 않는다.
+     */
+    public PublishResult publishAccounts(UUID syncId, String keyPrefix, int expectedRows) {
+        long startedAt = System.nanoTime();
+        PublishResult result = transactionTemplate.execute(status -> {
+            validateStaging(
+                "account",
+                expectedRows,
+                accountCatalogStagingRepository.countBySyncId(syncId),
+                accountCatalogStagingRepository.countMissingRequiredFields(syncId)
+            );
+
+            Map<String, AccountCatalogStagingEntity> stagedRows = new LinkedHashMap<>();
+            for (AccountCatalogStagingEntity row : accountCatalogStagingRepository.findBySyncIdOrderByRowNoAsc(syncId)) {
+                stagedRows.put(row.getProductKey(), row);
+            }
+            Map<String, SyncState> existingState = toSyncStateMap(
+                accountCatalogRepository.findSyncStateByProductKeyPrefix(keyPrefix)
+            );
+            validateShrink("account", stagedRows.size(), existingState);
+
+            // 바뀐 행만 키 목록으로 읽고, 새 행은 saveAll 로 묶어 JDBC 배치로 넣는다.
+            List<String> changedKeys = new ArrayList<>();
+            int unchanged = 0;
+            for (AccountCatalogStagingEntity row : stagedRows.values()) {
+                SyncState state = existingState.get(row.getProductKey());
+                if (state == null) {
+                    continue;
+                }
+                if (state.unchanged(row.getContentHash())) {
+                    unchanged++;
+                } else {
+                    changedKeys.add(row.getProductKey());
+                }
+            }
+            Map<String, AccountCatalogEntity> changedEntities = new HashMap<>();
+            for (List<String> keys : partitionKeys(changedKeys)) {
+                for (AccountCatalogEntity entity : accountCatalogRepository.findByProductKeyIn(keys)) {
+                    changedEntities.put(entity.getProductKey(), entity);
+                }
+            }
+
+            int created = 0;
+            List<AccountCatalogEntity> newEntities = new ArrayList<>();
+            for (AccountCatalogStagingEntity row : stagedRows.values()) {
+                SyncState state = existingState.get(row.getProductKey());
+                if (state != null && state.unchanged(row.getContentHash())) {
+                    continue;
+                }
+
+                AccountCatalogEntity entity = changedEntities.get(row.getProductKey());
+                if (entity != null) {
+                    entity.refreshFromCatalog(
+                        row.getProviderName(),
+                        row.getProductName(),
+                        row.getAccountKind(),
+                        row.getSummary(),
+                        row.getOfficialUrl(),
+                        row.tags(),
+                        true
+                    );
+                } else {
+                    created++;
+                    entity = new AccountCatalogEntity(
+                        row.getProductKey(),
+                        row.getProviderName(),
+                        row.getProductName(),
+                        row.getAccountKind(),
+                        row.getSummary(),
+                        row.getOfficialUrl(),
+                        true,
+                        row.tags()
+                    );
+                    newEntities.add(entity);
+                }
+                entity.updateRates(row.getMaxRate(), row.getBaseRate());
+                entity.updateContentHash(row.getContentHash());
+            }
+            accountCatalogRepository.saveAll(newEntities);
+
+            int deactivated = 0;
+            for (List<String> keys : partitionKeys(staleKeys(existingState, stagedRows.keySet()))) {
+                deactivated += accountCatalogRepository.deactivateByProductKeyIn(keys);
+            }
+            accountCatalogStagingRepository.deleteBySyncId(syncId);
+
+            return new PublishResult(stagedRows.size(), created, stagedRows.size() - created - unchanged, unchanged, deactivated);
+        });
+        logPublished("account", result, startedAt);
+        return result;
+    }
+
+    /**
+     * @param keyPrefix 이 동기화가 소유한 상품 키 접두사. 스테이징에 없는 같은 접두사의 활성 행은 비활성화한다.
+     * @param expectedRows 스테이징에 넣은 행 수. 실제 적재 건수와 다르면 게시하지 않는다.
+     */
+    public PublishResult publishCards(UUID syncId, String keyPrefix, int expectedRows) {
+        long startedAt = System.nanoTime();
+        PublishResult result = transactionTemplate.execute(status -> {
+            validateStaging(
+                "card",
+                expectedRows,
+                cardCatalogStagingRepository.countBySyncId(syncId),
+                cardCatalogStagingRepository.countMissingRequiredFields(syncId)
+            );
+
+            Map<String, CardCatalogStagingEntity> stagedRows = new LinkedHashMap<>();
+            for (CardCatalogStagingEntity row : cardCatalogStagingRepository.findBySyncIdOrderByRowNoAsc(syncId)) {
+                stagedRows.put(row.getProductKey(), row);
+            }
+            Map<String, SyncState> existingState = toSyncStateMap(
+                cardCatalogRepository.findSyncStateByProductKeyPrefix(keyPrefix)
+            );
+            validateShrink("card", stagedRows.size(), existingState);
+
+            List<String> changedKeys = new ArrayList<>();
+            int unchanged = 0;
+            for (CardCatalogStagingEntity row : stagedRows.values()) {
+                SyncState state = existingState.get(row.getProductKey());
+                if (state == null) {
+                    continue;
+                }
+                if (state.unchanged(row.getContentHash())) {
+                    unchanged++;
+                } else {
+                    changedKeys.add(row.getProductKey());
+                }
+            }
+            Map<String, CardCatalogEntity> changedEntities = new HashMap<>();
+            for (List<String> keys : partitionKeys(changedKeys)) {
+                for (CardCatalogEntity entity : cardCatalogRepository.findByProductKeyIn(keys)) {
+                    changedEntities.put(entity.getProductKey(), entity);
+                }
+            }
+
+            int created = 0;
+            List<CardCatalogEntity> newEntities = new ArrayList<>();
+            for (CardCatalogStagingEntity row : stagedRows.values()) {
+                SyncState state = existingState.get(row.getProductKey());
+                if (state != null && state.unchanged(row.getContentHash())) {
+                    continue;
+                }
+
+                CardCatalogEntity entity = changedEntities.get(row.getProductKey());
+                if (entity != null) {
+                    entity.refreshFromCatalog(
+                        row.getProviderName(),
+                        row.getProductName(),
+                        row.getAnnualFeeText(),
+                        row.getSummary(),
+                        row.getOfficialUrl(),
+                        row.tags(),
+                        row.categories(),
+                        true
+                    );
+                } else {
+                    created++;
+                    entity = new CardCatalogEntity(
+                        row.getProductKey(),
+                        row.getProviderName(),
+                        row.getProductName(),
+                        row.getAnnualFeeText(),
+                        row.getSummary(),
+                        row.getOfficialUrl(),
+                        true,
+                        row.tags(),
+                        row.categories()
+                    );
+                    newEntities.add(entity);
+                }
+                entity.updateAnnualFee(row.getAnnualFeeWon(), row.isLowFee());
+                entity.updateContentHash(row.getContentHash());
+            }
+            cardCatalogRepository.saveAll(newEntities);
+
+            int deactivated = 0;
+            for (List<String> keys : partitionKeys(staleKeys(existingState, stagedRows.keySet()))) {
+                deactivated += cardCatalogRepository.deactivateByProductKeyIn(keys);
+            }
+            cardCatalogStagingRepository.deleteBySyncId(syncId);
+
+            return new PublishResult(stagedRows.size(), created, stagedRows.size() - created - unchanged, unchanged, deactivated);
+        });
+        logPublished("card", result, startedAt);
+        return result;
+    }
+
+    private static void validateStaging(String catalog, int expectedRows, long stagedRows, long missingRequired) {
+        if (stagedRows == 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Catalog staging is empty: " + catalog);
+        }
+        if (stagedRows != expectedRows) {
+            throw new ResponseStatusException(
+                HttpStatus.INTERNAL_SERVER_ERROR,
+                "Catalog staging row count mismatch: " + catalog + " (expected=" + expectedRows + ", staged=" + stagedRows + ")"
+            );
+        }
+        if (missingRequired > 0) {
+            throw new ResponseStatusException(
+                HttpStatus.BAD_GATEWAY,
+                "Catalog staging has rows without required fields: " + catalog + " (rows=" + missingRequired + ")"
+            );
+        }
+    }
+
+    private void validateShrink(String catalog, int stagedProducts, Map<String, SyncState> existingState) {
+        double minRatio = syncProperties.getPublishMinRatio();
+        long activeProducts = existingState.values().stream().filter(SyncState::active).count();
+        if (minRatio > 0 && activeProducts > 0 && stagedProducts < activeProducts * minRatio) {
+            throw new ResponseStatusException(
+                HttpStatus.BAD_GATEWAY,
+                "Catalog staging shrank too much: " + catalog
+                    + " (active=" + activeProducts + ", staged=" + stagedProducts + ", minRatio=" + minRatio + ")"
+            );
+        }
+    }
+
+    private static void logPublished(String catalog, PublishResult result, long startedAt) {
+        log.info(
+            "Catalog published (catalog={}, products={}, created={}, changed={}, unchanged={}, deactivated={}, elapsedMs={})",
+            catalog,
+            result.products(),
+            result.created(),
+            result.changed(),
+            result.unchanged(),
+            result.deactivated(),
+            (System.nanoTime() - startedAt) / 1_000_000
+        );
+    }
+
+    private static Map<String, SyncState> toSyncStateMap(List<CatalogSyncStateView> rows) {
+        Map<String, SyncState> states = new HashMap<>(Math.max(16, rows.size() * 2));
+        for (CatalogSyncStateView row : rows) {
+            states.put(row.getProductKey(), new SyncState(row.getContentHash(), row.isActive()));
+        }
+        return states;
+    }
+
+    private static List<String> staleKeys(Map<String, SyncState> existingState, Collection<String> publishedKeys) {
+        List<String> keys = new ArrayList<>();
+        for (Map.Entry<String, SyncState> entry : existingState.entrySet()) {
+            if (entry.getValue().active() && !publishedKeys.contains(entry.getKey())) {
+                keys.add(entry.getKey());
+            }
+        }
+        return keys;
+    }
+
+    private static List<List<String>> partitionKeys(List<String> keys) {
+        List<List<String>> batches = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += KEY_BATCH_SIZE) {
+            batches.add(keys.subList(from, Math.min(keys.size(), from + KEY_BATCH_SIZE)));
+        }
+        return batches;
+    }
+
+    /**
+     * @param products 게시한 고유 상품 키 수(created + changed + unchanged)
+     */
+    public record PublishResult(int products, int created, int changed, int unchanged, int deactivated) {
+    }
+
+    private record SyncState(String contentHash, boolean active) {
+
+        boolean unchanged(String newContentHash) {
+            return active && newContentHash.equals(contentHash);
+        }
+    }
+}
@@ -52,10 +52,13 @@ public class CatalogSyncScheduler {
                 try {
                     FinlifeSyncResponse finlife = catalogSyncStatusService.syncFinlifeWithStatus(trigger);
                     log.info(
-                        "Catalog finlife sync completed (trigger={}, fetched={}, upserted={}, deactivated={}, skipped={})",
+                        "Catalog finlife sync completed (trigger={}, fetched={}, upserted={}, new={}, changed={}, unchanged={}, deactivated={}, skipped={})",
                         trigger,
                         finlife.fetchedProducts(),
                         finlife.upsertedProducts(),
+                        finlife.newProducts(),
+                        finlife.changedProducts(),
+                        finlife.unchangedProducts(),
                         finlife.deactivatedProducts(),
                         finlife.skippedProducts()
                     );
@@ -68,10 +71,13 @@ public class CatalogSyncScheduler {
                 try {
                     CardExternalSyncResponse cards = catalogSyncStatusService.syncCardsWithStatus(trigger);
                     log.info(
-                        "Catalog card sync completed (trigger={}, fetched={}, upserted={}, deactivated={}, skipped={})",
+                        "Catalog card sync completed (trigger={}, fetched={}, upserted={}, new={}, changed={}, unchanged={}, deactivated={}, skipped={})",
                         trigger,
                         cards.fetched(),
                         cards.upserted(),
+                        cards.created(),
+                        cards.changed(),
+                        cards.unchanged(),
                         cards.deactivated(),
                         cards.skipped()
                     );
@@ -45,4 +45,9 @@ public class CatalogSyncSchedulerProperties {
      * Cron timezone
      */
     private String zone = "Asia/Seoul";
+
+    /**
+     * 게시 전 검증: 새 카탈로그 상품 수가 현재 활성 상품 수 x 이 비율보다 적으면 게시하지 않음(0이면 검사 안 함)
+     */
+    private double publishMinRatio = 0.5;
 }
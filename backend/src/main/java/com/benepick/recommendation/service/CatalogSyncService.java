@@ -3,8 +3,8 @@ package com.benepick.recommendation.service;
 import com.benepick.recommendation.dto.CardExternalSyncResponse;
 import com.benepick.recommendation.dto.CatalogSummaryResponse;
 import com.benepick.recommendation.dto.FinlifeSyncResponse;
-import com.benepick.recommendation.entity.AccountCatalogEntity;
-import com.benepick.recommendation.entity.CardCatalogEntity;
+import com.benepick.recommendation.entity.AccountCatalogStagingEntity;
+import com.benepick.recommendation.entity.CardCatalogStagingEntity;
 import com.benepick.recommendation.repository.AccountCatalogRepository;
 import com.benepick.recommendation.repository.CardCatalogRepository;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -16,6 +16,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,28 +29,51 @@ public class CatalogSyncService {
     private static final String FINLIFE_FALLBACK_URL = "https://finlife.fss.or.kr";
     private static final String CARD_EXTERNAL_KEY_PREFIX = "external:";
     private static final String CARD_EXTERNAL_FALLBACK_URL = "https://www.card-gorilla.com";
+    // 카드 스테이징 row_no = 소스 순번 * SOURCE_ROW_SPAN + 페이지 * PAGE_ROW_SPAN + 행
+    private static final long PAGE_ROW_SPAN = 1_000_000L;
+    private static final long SOURCE_ROW_SPAN = PAGE_ROW_SPAN * 1_000_000L;
+
+    private static final long TAG_SALARY = 1L;
+    private static final long TAG_YOUNG = 1L << 1;
+    private static final long TAG_AUTO = 1L << 2;
+    private static final long TAG_NON_FACE_TO_FACE = 1L << 3;
+    private static final KeywordAutomaton FINLIFE_TAG_KEYWORDS = KeywordAutomaton.builder()
+        .add("급여", TAG_SALARY)
+        .add("salary", TAG_SALARY)
+        .add("청년", TAG_YOUNG)
+        .add("young", TAG_YOUNG)
+        .add("자동이체", TAG_AUTO)
+        .add("auto", TAG_AUTO)
+        .add("인터넷", TAG_NON_FACE_TO_FACE)
+        .add("스마트폰", TAG_NON_FACE_TO_FACE)
+        .add("모바일", TAG_NON_FACE_TO_FACE)
+        .add("비대면", TAG_NON_FACE_TO_FACE)
+        .build();
 
     private final AccountCatalogRepository accountCatalogRepository;
     private final CardCatalogRepository cardCatalogRepository;
-    private final FinlifeApiClient finlifeApiClient;
+    private final FinlifeFetchPlanner finlifeFetchPlanner;
     private final FinlifeProperties finlifeProperties;
-    private final CardExternalApiClient cardExternalApiClient;
+    private final CardSyncPipeline cardSyncPipeline;
     private final ProductUrlOverrideService productUrlOverrideService;
+    private final CatalogStagingService catalogStagingService;
 
     public CatalogSyncService(
         AccountCatalogRepository accountCatalogRepository,
         CardCatalogRepository cardCatalogRepository,
-        FinlifeApiClient finlifeApiClient,
+        FinlifeFetchPlanner finlifeFetchPlanner,
         FinlifeProperties finlifeProperties,
-        CardExternalApiClient cardExternalApiClient,
-        ProductUrlOverrideService productUrlOverrideService
+        CardSyncPipeline cardSyncPipeline,
+        ProductUrlOverrideService productUrlOverrideService,
+        CatalogStagingService catalogStagingService
     ) {
         this.accountCatalogRepository = accountCatalogRepository;
         this.cardCatalogRepository = cardCatalogRepository;
-        this.finlifeApiClient = finlifeApiClient;
+        this.finlifeFetchPlanner = finlifeFetchPlanner;
         this.finlifeProperties = finlifeProperties;
-        this.cardExternalApiClient = cardExternalApiClient;
+        this.cardSyncPipeline = cardSyncPipeline;
         this.productUrlOverrideService = productUrlOverrideService;
+        this.catalogStagingService = catalogStagingService;
     }
 
     @Transactional(readOnly = true)
@@ -62,7 +86,9 @@ public class CatalogSyncService {
         );
     }
 
-    @Transactional
+    /**
+     * 조회한 상품을 스테이징에 쌓고 검증한 뒤 한 트랜잭션으로 게시한다. 실패하면 운영 카탈로그는 그대로 남는다.
+     */
     public FinlifeSyncResponse syncAccountsFromFinlife() {
         if (safe(finlifeProperties.getAuthKey()).isBlank()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "FINLIFE_AUTH_KEY is not configured");
@@ -73,8 +99,11 @@ public class CatalogSyncService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "catalog.finlife.top-fin-grp-nos is empty");
         }
 
-        Map<String, String> companyUrls = fetchCompanyHomeUrls(topGroups);
-        List<FinlifeProduct> fetchedProducts = fetchProducts(topGroups);
+        FinlifeFetchPlanner.FinlifePages pages = finlifeFetchPlanner.fetchAll(topGroups);
+        Map<String, String> companyUrls = parseCompanyHomeUrls(pages.companies());
+        List<FinlifeProduct> fetchedProducts = new ArrayList<>();
+        fetchedProducts.addAll(parseProducts(pages.deposits(), "deposit", "예금"));
+        fetchedProducts.addAll(parseProducts(pages.savings(), "saving", "적금"));
         if (fetchedProducts.isEmpty()) {
             throw new ResponseStatusException(
                 HttpStatus.BAD_GATEWAY,
@@ -82,10 +111,10 @@ public class CatalogSyncService {
             );
         }
 
-        int upserted = 0;
         int skipped = 0;
-        Set<String> activeFinlifeKeys = new HashSet<>();
+        UUID syncId = UUID.randomUUID();
         Map<String, String> officialUrlOverrides = productUrlOverrideService.loadOverrides();
+        List<AccountCatalogStagingEntity> stagedRows = new ArrayList<>(fetchedProducts.size());
 
         for (FinlifeProduct product : fetchedProducts) {
             if (product.productCode().isBlank() || product.providerName().isBlank() || product.productName().isBlank()) {
@@ -99,7 +128,6 @@ public class CatalogSyncService {
                 + sanitizeIdPart(product.finCoNo())
                 + ":"
                 + sanitizeIdPart(product.productCode());
-            activeFinlifeKeys.add(productKey);
 
             Set<String> tags = buildTags(product);
             String summary = buildSummary(product);
@@ -112,65 +140,113 @@ public class CatalogSyncService {
                 officialUrlOverrides
             );
 
-            Optional<AccountCatalogEntity> existing = accountCatalogRepository.findByProductKey(productKey);
-            if (existing.isPresent()) {
-                existing.get().refreshFromCatalog(
-                    product.providerName(),
-                    product.productName(),
-                    product.accountKind(),
-                    summary,
-                    officialUrl,
-                    tags,
-                    true
-                );
-            } else {
-                accountCatalogRepository.save(new AccountCatalogEntity(
-                    productKey,
-                    product.providerName(),
-                    product.productName(),
-                    product.accountKind(),
-                    summary,
-                    officialUrl,
-                    true,
-                    tags
-                ));
-            }
-            upserted++;
-        }
-
-        int deactivated = 0;
-        List<AccountCatalogEntity> previousFinlifeRows = accountCatalogRepository.findByProductKeyStartingWith(FINLIFE_KEY_PREFIX);
-        for (AccountCatalogEntity entity : previousFinlifeRows) {
-            if (!activeFinlifeKeys.contains(entity.getProductKey()) && entity.isActive()) {
-                entity.deactivate();
-                deactivated++;
-            }
+            // optionList 의 실제 금리를 그대로 저장한다(요약 문구 재해석 없음).
+            Double maxRate = positiveRateOrNull(product.maxPreferRate());
+            Double baseRate = positiveRateOrNull(product.maxBaseRate());
+            String contentHash = CatalogContentHash.start()
+                .add(product.providerName())
+                .add(product.productName())
+                .add(product.accountKind())
+                .add(summary)
+                .add(officialUrl)
+                .addAll(tags)
+                .add(maxRate)
+                .add(baseRate)
+                .finish();
+
+            stagedRows.add(new AccountCatalogStagingEntity(
+                syncId,
+                stagedRows.size(),
+                productKey,
+                product.providerName(),
+                product.productName(),
+                product.accountKind(),
+                summary,
+                officialUrl,
+                maxRate,
+                baseRate,
+                tags,
+                contentHash
+            ));
         }
 
-        return new FinlifeSyncResponse(fetchedProducts.size(), upserted, deactivated, skipped);
+        catalogStagingService.purgeStaleStaging();
+        CatalogStagingService.PublishResult published;
+        try {
+            catalogStagingService.stageAccounts(stagedRows);
+            published = catalogStagingService.publishAccounts(syncId, FINLIFE_KEY_PREFIX, stagedRows.size());
+        } catch (RuntimeException exception) {
+            discardQuietly(() -> catalogStagingService.discardAccounts(syncId), exception);
+            throw exception;
+        }
+
+        return new FinlifeSyncResponse(
+            fetchedProducts.size(),
+            published.products(),
+            published.deactivated(),
+            skipped,
+            published.created(),
+            published.changed(),
+            published.unchanged()
+        );
     }
 
-    @Transactional
+    /**
+     * 외부 카드 상품을 페이지 단위로 받아 청크마다 스테이징 테이블에 쌓는다.
+     * 모든 페이지를 받은 뒤 스테이징을 검증하고 한 트랜잭션으로 게시하므로, 조회 중이나 실패 시에도 운영 카탈로그는 바뀌지 않는다.
+     */
     public CardExternalSyncResponse syncCardsFromExternal() {
-        List<CardExternalApiClient.ExternalCardProduct> fetchedProducts = cardExternalApiClient.fetchCards();
-        if (fetchedProducts.isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "External card sync returned no products");
-        }
-
-        int upserted = 0;
-        int skipped = 0;
-        Set<String> activeKeys = new HashSet<>();
+        UUID syncId = UUID.randomUUID();
         Map<String, String> officialUrlOverrides = productUrlOverrideService.loadOverrides();
+        CardStagingTally tally = new CardStagingTally();
+
+        catalogStagingService.purgeStaleStaging();
+        CatalogStagingService.PublishResult published;
+        int fetched;
+        try {
+            fetched = cardSyncPipeline.run(
+                chunk -> stageCardChunk(syncId, chunk, officialUrlOverrides, tally),
+                sourceOrder -> {
+                    catalogStagingService.discardCardSource(syncId, sourceOrder);
+                    tally.forget(sourceOrder);
+                }
+            );
+            if (fetched == 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "External card sync returned no products");
+            }
+            published = catalogStagingService.publishCards(syncId, CARD_EXTERNAL_KEY_PREFIX, tally.staged());
+        } catch (RuntimeException exception) {
+            discardQuietly(() -> catalogStagingService.discardCards(syncId), exception);
+            throw exception;
+        }
+
+        return new CardExternalSyncResponse(
+            fetched,
+            published.products(),
+            published.deactivated(),
+            tally.skipped(),
+            published.created(),
+            published.changed(),
+            published.unchanged()
+        );
+    }
 
-        for (CardExternalApiClient.ExternalCardProduct product : fetchedProducts) {
+    private void stageCardChunk(
+        UUID syncId,
+        List<CardSyncPipeline.SourcedProduct> chunk,
+        Map<String, String> officialUrlOverrides,
+        CardStagingTally tally
+    ) {
+        List<CardCatalogStagingEntity> rows = new ArrayList<>(chunk.size());
+        for (CardSyncPipeline.SourcedProduct sourced : chunk) {
+            CardExternalApiClient.ExternalCardProduct product = sourced.product();
             String externalKey = safe(product.productKey());
             if (externalKey.isBlank() || safe(product.providerName()).isBlank() || safe(product.productName()).isBlank()) {
-                skipped++;
+                tally.skipped(sourced.sourceOrder());
                 continue;
             }
 
             String productKey = CARD_EXTERNAL_KEY_PREFIX + sanitizeIdPart(externalKey);
-            activeKeys.add(productKey);
 
             Set<String> tags = normalizeSet(product.tags());
             tags.add("external");
@@ -200,142 +276,116 @@ public class CatalogSyncService {
                 officialUrlOverrides
             );
 
-            Optional<CardCatalogEntity> existing = cardCatalogRepository.findByProductKey(productKey);
-            if (existing.isPresent()) {
-                existing.get().refreshFromCatalog(
-                    safe(product.providerName()),
-                    safe(product.productName()),
-                    annualFeeText,
-                    summary,
-                    officialUrl,
-                    tags,
-                    categories,
-                    true
-                );
-            } else {
-                cardCatalogRepository.save(new CardCatalogEntity(
-                    productKey,
-                    safe(product.providerName()),
-                    safe(product.productName()),
-                    annualFeeText,
-                    summary,
-                    officialUrl,
-                    true,
-                    tags,
-                    categories
-                ));
-            }
-
-            upserted++;
+            ProductFeatureExtractor.AnnualFeeInfo annualFee = ProductFeatureExtractor.resolveAnnualFee(annualFeeText);
+            String contentHash = CatalogContentHash.start()
+                .add(safe(product.providerName()))
+                .add(safe(product.productName()))
+                .add(annualFeeText)
+                .add(summary)
+                .add(officialUrl)
+                .addAll(tags)
+                .addAll(categories)
+                .add(annualFee.estimatedWon())
+                .add(annualFee.lowFee())
+                .finish();
+
+            // 소스는 동시에 들어오므로 row_no 를 도착 순서가 아닌 (소스 우선순위, 페이지, 행)으로 매긴다.
+            // 같은 키가 다시 오면 게시할 때 나중 행(row_no 가 큰 쪽)이 이긴다.
+            rows.add(new CardCatalogStagingEntity(
+                syncId,
+                sourced.sourceOrder(),
+                sourced.sourceOrder() * SOURCE_ROW_SPAN + sourced.pageNo() * PAGE_ROW_SPAN + sourced.rowNo(),
+                productKey,
+                safe(product.providerName()),
+                safe(product.productName()),
+                annualFeeText,
+                summary,
+                officialUrl,
+                annualFee.estimatedWon(),
+                annualFee.lowFee(),
+                tags,
+                categories,
+                contentHash
+            ));
+            tally.staged(sourced.sourceOrder());
         }
 
-        int deactivated = 0;
-        List<CardCatalogEntity> previousRows = cardCatalogRepository.findByProductKeyStartingWith(CARD_EXTERNAL_KEY_PREFIX);
-        for (CardCatalogEntity entity : previousRows) {
-            if (!activeKeys.contains(entity.getProductKey()) && entity.isActive()) {
-                entity.deactivate();
-                deactivated++;
-            }
-        }
+        catalogStagingService.stageCards(rows);
+    }
 
-        return new CardExternalSyncResponse(fetchedProducts.size(), upserted, deactivated, skipped);
+    private static void discardQuietly(Runnable discard, RuntimeException cause) {
+        try {
+            discard.run();
+        } catch (RuntimeException discardFailure) {
+            // 남은 스테이징 행은 다음 동기화 시작 시 오래된 행 정리에서 지운다.
+            cause.addSuppressed(discardFailure);
+        }
     }
 
-    private Map<String, String> fetchCompanyHomeUrls(List<String> topGroups) {
+    private Map<String, String> parseCompanyHomeUrls(List<JsonNode> results) {
         Map<String, String> urls = new HashMap<>();
-        for (String topGroup : topGroups) {
-            int pageNo = 1;
-            while (true) {
-                JsonNode result = finlifeApiClient.fetchResult("companySearch.json", topGroup, pageNo);
-                JsonNode baseList = result.path("baseList");
-
-                if (baseList.isArray()) {
-                    for (JsonNode company : baseList) {
-                        String finCoNo = text(company, "fin_co_no");
-                        if (finCoNo.isBlank()) {
-                            continue;
-                        }
-
-                        String homeUrl = firstNonBlank(
-                            text(company, "homp_url"),
-                            text(company, "home_url")
-                        );
-                        if (!homeUrl.isBlank()) {
-                            urls.put(finCoNo, normalizeUrl(homeUrl, FINLIFE_FALLBACK_URL));
-                        }
-                    }
+        for (JsonNode result : results) {
+            JsonNode baseList = result.path("baseList");
+            if (!baseList.isArray()) {
+                continue;
+            }
+
+            for (JsonNode company : baseList) {
+                String finCoNo = text(company, "fin_co_no");
+                if (finCoNo.isBlank()) {
+                    continue;
                 }
 
-                int maxPageNo = parsePageNo(result.path("max_page_no"), pageNo);
-                if (pageNo >= maxPageNo || isPaginationCapped(pageNo)) {
-                    break;
+                String homeUrl = firstNonBlank(
+                    text(company, "homp_url"),
+                    text(company, "home_url")
+                );
+                if (!homeUrl.isBlank()) {
+                    urls.put(finCoNo, normalizeUrl(homeUrl, FINLIFE_FALLBACK_URL));
                 }
-                pageNo++;
             }
         }
         return urls;
     }
 
-    private List<FinlifeProduct> fetchProducts(List<String> topGroups) {
-        List<FinlifeProduct> result = new ArrayList<>();
-        result.addAll(fetchProductsByEndpoint("depositProductsSearch.json", "deposit", "예금", topGroups));
-        result.addAll(fetchProductsByEndpoint("savingProductsSearch.json", "saving", "적금", topGroups));
-        return result;
-    }
-
-    private List<FinlifeProduct> fetchProductsByEndpoint(
-        String endpoint,
-        String kindCode,
-        String accountKind,
-        List<String> topGroups
-    ) {
+    private List<FinlifeProduct> parseProducts(List<JsonNode> results, String kindCode, String accountKind) {
         List<FinlifeProduct> rows = new ArrayList<>();
 
-        for (String topGroup : topGroups) {
-            int pageNo = 1;
-            while (true) {
-                JsonNode result = finlifeApiClient.fetchResult(endpoint, topGroup, pageNo);
-                JsonNode baseList = result.path("baseList");
-                JsonNode optionList = result.path("optionList");
-
-                Map<String, RateSummary> rateSummaryByProduct = summarizeRates(optionList);
-
-                if (baseList.isArray()) {
-                    for (JsonNode base : baseList) {
-                        String finCoNo = text(base, "fin_co_no");
-                        String productCode = text(base, "fin_prdt_cd");
-                        String providerName = text(base, "kor_co_nm");
-                        String productName = text(base, "fin_prdt_nm");
-                        String joinWay = text(base, "join_way");
-                        String specialCondition = text(base, "spcl_cnd");
-                        String etcNote = text(base, "etc_note");
-
-                        String keyWithCoNo = composeRateKey(finCoNo, productCode);
-                        String keyWithoutCoNo = composeRateKey("", productCode);
-                        RateSummary rateSummary = Optional.ofNullable(rateSummaryByProduct.get(keyWithCoNo))
-                            .orElse(rateSummaryByProduct.getOrDefault(keyWithoutCoNo, RateSummary.empty()));
-
-                        rows.add(new FinlifeProduct(
-                            kindCode,
-                            accountKind,
-                            finCoNo,
-                            productCode,
-                            providerName,
-                            productName,
-                            joinWay,
-                            specialCondition,
-                            etcNote,
-                            rateSummary.maxBaseRate(),
-                            rateSummary.maxPreferRate()
-                        ));
-                    }
-                }
+        for (JsonNode result : results) {
+            JsonNode baseList = result.path("baseList");
+            JsonNode optionList = result.path("optionList");
+            if (!baseList.isArray()) {
+                continue;
+            }
 
-                int maxPageNo = parsePageNo(result.path("max_page_no"), pageNo);
-                if (pageNo >= maxPageNo || isPaginationCapped(pageNo)) {
-                    break;
-                }
-                pageNo++;
+            Map<String, RateSummary> rateSummaryByProduct = summarizeRates(optionList);
+            for (JsonNode base : baseList) {
+                String finCoNo = text(base, "fin_co_no");
+                String productCode = text(base, "fin_prdt_cd");
+                String providerName = text(base, "kor_co_nm");
+                String productName = text(base, "fin_prdt_nm");
+                String joinWay = text(base, "join_way");
+                String specialCondition = text(base, "spcl_cnd");
+                String etcNote = text(base, "etc_note");
+
+                String keyWithCoNo = composeRateKey(finCoNo, productCode);
+                String keyWithoutCoNo = composeRateKey("", productCode);
+                RateSummary rateSummary = Optional.ofNullable(rateSummaryByProduct.get(keyWithCoNo))
+                    .orElse(rateSummaryByProduct.getOrDefault(keyWithoutCoNo, RateSummary.empty()));
+
+                rows.add(new FinlifeProduct(
+                    kindCode,
+                    accountKind,
+                    finCoNo,
+                    productCode,
+                    providerName,
+                    productName,
+                    joinWay,
+                    specialCondition,
+                    etcNote,
+                    rateSummary.maxBaseRate(),
+                    rateSummary.maxPreferRate()
+                ));
             }
         }
 
@@ -372,6 +422,10 @@ public class CatalogSyncService {
         return summaries;
     }
 
+    private static Double positiveRateOrNull(double rate) {
+        return rate > 0 ? rate : null;
+    }
+
     private Set<String> buildTags(FinlifeProduct product) {
         Set<String> tags = new HashSet<>();
         tags.add("finlife");
@@ -383,20 +437,21 @@ public class CatalogSyncService {
 
         String productText = (product.productName() + " " + product.specialCondition() + " " + product.etcNote())
             .toLowerCase(Locale.ROOT);
-        String joinWay = product.joinWay().toLowerCase(Locale.ROOT);
+        long productMatches = FINLIFE_TAG_KEYWORDS.scan(productText);
+        long joinWayMatches = FINLIFE_TAG_KEYWORDS.scan(product.joinWay().toLowerCase(Locale.ROOT));
 
-        if (containsAny(productText, "급여", "salary")) {
+        if ((productMatches & TAG_SALARY) != 0) {
             tags.add("salary");
             tags.add("daily");
         }
-        if (containsAny(productText, "청년", "young")) {
+        if ((productMatches & TAG_YOUNG) != 0) {
             tags.add("young");
         }
-        if (containsAny(productText, "자동이체", "auto")) {
+        if ((productMatches & TAG_AUTO) != 0) {
             tags.add("auto");
             tags.add("daily");
         }
-        if (containsAny(joinWay, "인터넷", "스마트폰", "모바일", "비대면")) {
+        if ((joinWayMatches & TAG_NON_FACE_TO_FACE) != 0) {
             tags.add("starter");
             tags.add("daily");
         }
@@ -478,15 +533,6 @@ public class CatalogSyncService {
         return "https://" + text;
     }
 
-    private boolean containsAny(String source, String... keywords) {
-        for (String keyword : keywords) {
-            if (source.contains(keyword)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private String normalizeSummarySource(String value) {
         if (value == null) {
             return "";
@@ -540,23 +586,6 @@ public class CatalogSyncService {
         return result;
     }
 
-    private boolean isPaginationCapped(int currentPageNo) {
-        int cap = finlifeProperties.getMaxPagesPerGroup();
-        return cap > 0 && currentPageNo >= cap;
-    }
-
-    private int parsePageNo(JsonNode pageNoNode, int fallback) {
-        String raw = pageNoNode == null ? "" : pageNoNode.asText("").trim();
-        if (raw.isBlank()) {
-            return fallback;
-        }
-        try {
-            return Math.max(Integer.parseInt(raw), 1);
-        } catch (NumberFormatException exception) {
-            return fallback;
-        }
-    }
-
     private double parseRate(JsonNode node) {
         if (node == null || node.isNull()) {
             return 0;
@@ -598,6 +627,36 @@ public class CatalogSyncService {
         return value == null ? "" : value.trim();
     }
 
+    /**
+     * 소스별 스테이징/건너뜀 건수. 소스가 중간에 실패하면 그 소스 몫을 빼고 게시 건수를 검증한다.
+     */
+    private static final class CardStagingTally {
+
+        private final Map<Integer, Integer> stagedBySource = new HashMap<>();
+        private final Map<Integer, Integer> skippedBySource = new HashMap<>();
+
+        private void staged(int sourceOrder) {
+            stagedBySource.merge(sourceOrder, 1, Integer::sum);
+        }
+
+        private void skipped(int sourceOrder) {
+            skippedBySource.merge(sourceOrder, 1, Integer::sum);
+        }
+
+        private void forget(int sourceOrder) {
+            stagedBySource.remove(sourceOrder);
+            skippedBySource.remove(sourceOrder);
+        }
+
+        private int staged() {
+            return stagedBySource.values().stream().mapToInt(Integer::intValue).sum();
+        }
+
+        private int skipped() {
+            return skippedBySource.values().stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+
     private record RateSummary(double maxBaseRate, double maxPreferRate) {
 
         private static RateSummary empty() {
@@ -7,27 +7,34 @@ import com.benepick.recommendation.dto.FinlifeSyncResponse;
 import com.benepick.recommendation.entity.CatalogSyncStatusEntity;
 import com.benepick.recommendation.repository.CatalogSyncStatusRepository;
 import java.time.OffsetDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class CatalogSyncStatusService {
 
+    private static final Logger log = LoggerFactory.getLogger(CatalogSyncStatusService.class);
+
     public static final String SOURCE_FINLIFE = "FINLIFE";
     public static final String SOURCE_CARDS = "CARDS";
 
     private final CatalogSyncService catalogSyncService;
     private final CatalogSyncStatusRepository catalogSyncStatusRepository;
     private final CatalogSyncStatusWriter catalogSyncStatusWriter;
+    private final CatalogSnapshotService catalogSnapshotService;
 
     public CatalogSyncStatusService(
         CatalogSyncService catalogSyncService,
         CatalogSyncStatusRepository catalogSyncStatusRepository,
-        CatalogSyncStatusWriter catalogSyncStatusWriter
+        CatalogSyncStatusWriter catalogSyncStatusWriter,
+        CatalogSnapshotService catalogSnapshotService
     ) {
         this.catalogSyncService = catalogSyncService;
         this.catalogSyncStatusRepository = catalogSyncStatusRepository;
         this.catalogSyncStatusWriter = catalogSyncStatusWriter;
+        this.catalogSnapshotService = catalogSnapshotService;
     }
 
     @Transactional(readOnly = true)
@@ -42,45 +49,73 @@ public class CatalogSyncStatusService {
     public FinlifeSyncResponse syncFinlifeWithStatus(String trigger) {
         OffsetDateTime runAt = OffsetDateTime.now();
 
+        FinlifeSyncResponse response;
         try {
-            FinlifeSyncResponse response = catalogSyncService.syncAccountsFromFinlife();
-            catalogSyncStatusWriter.markSuccess(
-                SOURCE_FINLIFE,
-                trigger,
-                "Finlife sync completed",
-                response.fetchedProducts(),
-                response.upsertedProducts(),
-                response.deactivatedProducts(),
-                response.skippedProducts(),
-                runAt
-            );
-            return response;
+            response = catalogSyncService.syncAccountsFromFinlife();
         } catch (Exception exception) {
             catalogSyncStatusWriter.markFailure(SOURCE_FINLIFE, trigger, rootMessage(exception), runAt);
             throw exception;
         }
+
+        // 동기화는 이미 커밋됐으므로 스냅샷 갱신 실패는 동기화 실패로 기록하지 않는다.
+        String snapshotError = refreshSnapshot("sync-finlife:" + trigger);
+        catalogSyncStatusWriter.markSuccess(
+            SOURCE_FINLIFE,
+            trigger,
+            withSnapshotError("Finlife sync completed", snapshotError),
+            response.fetchedProducts(),
+            response.upsertedProducts(),
+            response.deactivatedProducts(),
+            response.skippedProducts(),
+            runAt
+        );
+        return response;
     }
 
     public CardExternalSyncResponse syncCardsWithStatus(String trigger) {
         OffsetDateTime runAt = OffsetDateTime.now();
 
+        CardExternalSyncResponse response;
         try {
-            CardExternalSyncResponse response = catalogSyncService.syncCardsFromExternal();
-            catalogSyncStatusWriter.markSuccess(
-                SOURCE_CARDS,
-                trigger,
-                "Card external sync completed",
-                response.fetched(),
-                response.upserted(),
-                response.deactivated(),
-                response.skipped(),
-                runAt
-            );
-            return response;
+            response = catalogSyncService.syncCardsFromExternal();
         } catch (Exception exception) {
             catalogSyncStatusWriter.markFailure(SOURCE_CARDS, trigger, rootMessage(exception), runAt);
             throw exception;
         }
+
+        // 동기화는 이미 커밋됐으므로 스냅샷 갱신 실패는 동기화 실패로 기록하지 않는다.
+        String snapshotError = refreshSnapshot("sync-cards:" + trigger);
+        catalogSyncStatusWriter.markSuccess(
+            SOURCE_CARDS,
+            trigger,
+            withSnapshotError("Card external sync completed", snapshotError),
+            response.fetched(),
+            response.upserted(),
+            response.deactivated(),
+            response.skipped(),
+            runAt
+        );
+        return response;
+    }
+
+    /**
+     * @return 실패하면 원인 메시지, 성공하면 null. 실패 시 이전 스냅샷이 계속 쓰인다.
+     */
+    private String refreshSnapshot(String trigger) {
+        try {
+            catalogSnapshotService.refresh(trigger);
+            return null;
+        } catch (RuntimeException exception) {
+            log.error("Catalog snapshot refresh failed after committed sync (trigger={})", trigger, exception);
+            return rootMessage(exception);
+        }
+    }
+
+    private static String withSnapshotError(String message, String snapshotError) {
+        if (snapshotError == null) {
+            return message;
+        }
+        return message + " (snapshot refresh failed: " + snapshotError + ")";
     }
 
     private CatalogSyncTargetStatusResponse readStatusOrDefault(String source) {
@@ -0,0 +1,92 @@
+package com.benepick.recommendation.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 정규화된 카테고리 키마다 비트 하나를 배정해 카테고리 집합을 {@code long} 마스크로 다룬다.
+ * 비트 순서는 키의 사전순이라 라벨 출력 순서가 기존 정렬 결과와 같다.
+ */
+public final class CategoryDictionary {
+
+    private static final Map<String, String> LABELS = buildLabels();
+    private static final List<String> KEYS = List.copyOf(LABELS.keySet());
+
+    public static final long CAFE = bit("cafe");
+    public static final long DAILY = bit("daily");
+    public static final long DINING = bit("dining");
+    public static final long GLOBAL = bit("global");
+    public static final long GROCERY = bit("grocery");
+    public static final long ONLINE = bit("online");
+    public static final long SALARY = bit("salary");
+    public static final long SAVINGS = bit("savings");
+    public static final long STARTER = bit("starter");
+    public static final long SUBSCRIPTION = bit("subscription");
+    public static final long TRANSPORT = bit("transport");
+    public static final long TRAVEL = bit("travel");
+
+    /** 생활소비형 카테고리 묶음 */
+    public static final long LIFESTYLE = ONLINE | GROCERY | TRANSPORT | DINING | CAFE | SUBSCRIPTION | DAILY;
+
+    private CategoryDictionary() {
+    }
+
+    /**
+     * 카테고리 키의 비트. 사전에 없는 키는 0.
+     */
+    public static long bit(String category) {
+        int index = KEYS.indexOf(category);
+        return index < 0 ? 0L : 1L << index;
+    }
+
+    public static long maskOf(Iterable<String> categories) {
+        long mask = 0L;
+        if (categories == null) {
+            return mask;
+        }
+        for (String category : categories) {
+            mask |= bit(category);
+        }
+        return mask;
+    }
+
+    public static List<String> keysOf(long mask) {
+        List<String> keys = new ArrayList<>(Long.bitCount(mask));
+        for (int index = 0; index < KEYS.size(); index++) {
+            if ((mask & (1L << index)) != 0) {
+                keys.add(KEYS.get(index));
+            }
+        }
+        return keys;
+    }
+
+    public static String labelsOf(long mask) {
+        StringBuilder builder = new StringBuilder();
+        for (String key : keysOf(mask)) {
+            if (builder.length() > 0) {
+                builder.append(", ");
+            }
+            builder.append(LABELS.get(key));
+        }
+        return builder.toString();
+    }
+
+    private static Map<String, String> buildLabels() {
+        Map<String, String> labels = new LinkedHashMap<>();
+        labels.put("cafe", "카페");
+        labels.put("daily", "생활소비");
+        labels.put("dining", "외식");
+        labels.put("global", "외화/글로벌");
+        labels.put("grocery", "장보기/마트");
+        labels.put("online", "온라인쇼핑");
+        labels.put("salary", "급여/이체");
+        labels.put("savings", "저축/금리");
+        labels.put("starter", "초보자/저비용");
+        labels.put("subscription", "구독");
+        labels.put("transport", "교통/모빌리티");
+        labels.put("travel", "여행/해외");
+        return labels;
+    }
+}
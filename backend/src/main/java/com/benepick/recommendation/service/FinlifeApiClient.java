@@ -10,6 +10,7 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ResponseStatusException;
@@ -20,13 +21,18 @@ public class FinlifeApiClient {
     private final FinlifeProperties properties;
     private final ObjectMapper objectMapper;
     private final HttpClient httpClient;
-
-    public FinlifeApiClient(FinlifeProperties properties, ObjectMapper objectMapper) {
+    private final HostConcurrencyLimiter hostConcurrencyLimiter;
+
+    public FinlifeApiClient(
+        FinlifeProperties properties,
+        ObjectMapper objectMapper,
+        Environment environment,
+        HostConcurrencyLimiter hostConcurrencyLimiter
+    ) {
         this.properties = properties;
         this.objectMapper = objectMapper;
-        this.httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofMillis(Math.max(properties.getConnectTimeoutMs(), 1000)))
-            .build();
+        this.hostConcurrencyLimiter = hostConcurrencyLimiter;
+        this.httpClient = OutboundHttpClients.create(properties.getConnectTimeoutMs(), environment, "finlife-http-");
     }
 
     public JsonNode fetchResult(String endpoint, String topFinGrpNo, int pageNo) {
@@ -43,19 +49,11 @@ public class FinlifeApiClient {
             .header("User-Agent", "benepick-backend/1.0")
             .build();
 
-        HttpResponse<String> response;
-        try {
-            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
-        } catch (IOException | InterruptedException exception) {
-            if (exception instanceof InterruptedException) {
-                Thread.currentThread().interrupt();
-            }
-            throw new ResponseStatusException(
-                HttpStatus.BAD_GATEWAY,
-                "Failed to call Finlife API: " + exception.getMessage(),
-                exception
-            );
-        }
+        HttpResponse<String> response = hostConcurrencyLimiter.call(
+            uri,
+            properties.getFetchConcurrency(),
+            () -> send(request)
+        );
 
         if (response.statusCode() != 200) {
             throw new ResponseStatusException(
@@ -98,6 +96,21 @@ public class FinlifeApiClient {
         return result;
     }
 
+    private HttpResponse<String> send(HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (IOException | InterruptedException exception) {
+            if (exception instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new ResponseStatusException(
+                HttpStatus.BAD_GATEWAY,
+                "Failed to call Finlife API: " + exception.getMessage(),
+                exception
+            );
+        }
+    }
+
     private URI buildUri(String endpoint, String topFinGrpNo, int pageNo, String authKey) {
         String normalizedBase = safe(properties.getBaseUrl());
         if (normalizedBase.endsWith("/")) {
@@ -0,0 +1,137 @@
+package com.benepick.recommendation.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 금융상품한눈에 동기화용 병렬 조회 계획.
+ * 회사/예금/적금 엔드포인트와 권역 코드마다 1페이지를 동시에 요청하고, 1페이지의 max_page_no를 보고 나머지 페이지를 이어서 동시에 요청한다.
+ * 결과는 권역 코드 순서, 페이지 순서대로 합쳐 순차 조회와 같은 순서를 유지한다.
+ */
+@Component
+public class FinlifeFetchPlanner {
+
+    private static final Logger log = LoggerFactory.getLogger(FinlifeFetchPlanner.class);
+
+    static final String COMPANY_ENDPOINT = "companySearch.json";
+    static final String DEPOSIT_ENDPOINT = "depositProductsSearch.json";
+    static final String SAVING_ENDPOINT = "savingProductsSearch.json";
+
+    private final FinlifeApiClient finlifeApiClient;
+    private final FinlifeProperties properties;
+    private final Environment environment;
+
+    public FinlifeFetchPlanner(
+        FinlifeApiClient finlifeApiClient,
+        FinlifeProperties properties,
+        Environment environment
+    ) {
+        this.finlifeApiClient = finlifeApiClient;
+        this.properties = properties;
+        this.environment = environment;
+    }
+
+    public FinlifePages fetchAll(List<String> topGroups) {
+        long startedAt = System.nanoTime();
+        ExecutorService executor = OutboundHttpClients.newFetchPool(properties.getFetchConcurrency(), "finlife-fetch-", environment);
+        try {
+            CompletableFuture<List<JsonNode>> companies = fetchEndpoint(COMPANY_ENDPOINT, topGroups, executor);
+            CompletableFuture<List<JsonNode>> deposits = fetchEndpoint(DEPOSIT_ENDPOINT, topGroups, executor);
+            CompletableFuture<List<JsonNode>> savings = fetchEndpoint(SAVING_ENDPOINT, topGroups, executor);
+
+            FinlifePages pages = new FinlifePages(join(companies), join(deposits), join(savings));
+            log.info(
+                "Finlife pages fetched (groups={}, companyPages={}, depositPages={}, savingPages={}, elapsedMs={})",
+                topGroups.size(),
+                pages.companies().size(),
+                pages.deposits().size(),
+                pages.savings().size(),
+                (System.nanoTime() - startedAt) / 1_000_000
+            );
+            return pages;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private CompletableFuture<List<JsonNode>> fetchEndpoint(
+        String endpoint,
+        List<String> topGroups,
+        ExecutorService executor
+    ) {
+        List<CompletableFuture<List<JsonNode>>> groups = new ArrayList<>(topGroups.size());
+        for (String topGroup : topGroups) {
+            groups.add(fetchGroup(endpoint, topGroup, executor));
+        }
+        return concat(groups);
+    }
+
+    private CompletableFuture<List<JsonNode>> fetchGroup(String endpoint, String topGroup, ExecutorService executor) {
+        return CompletableFuture
+            .supplyAsync(() -> finlifeApiClient.fetchResult(endpoint, topGroup, 1), executor)
+            .thenCompose(firstPage -> {
+                int lastPage = resolveLastPage(firstPage);
+                List<CompletableFuture<List<JsonNode>>> pages = new ArrayList<>(lastPage);
+                pages.add(CompletableFuture.completedFuture(List.of(firstPage)));
+                for (int pageNo = 2; pageNo <= lastPage; pageNo++) {
+                    int requestedPage = pageNo;
+                    pages.add(CompletableFuture.supplyAsync(
+                        () -> List.of(finlifeApiClient.fetchResult(endpoint, topGroup, requestedPage)),
+                        executor
+                    ));
+                }
+                return concat(pages);
+            });
+    }
+
+    private int resolveLastPage(JsonNode firstPage) {
+        int maxPageNo = 1;
+        String raw = firstPage.path("max_page_no").asText("").trim();
+        if (!raw.isBlank()) {
+            try {
+                maxPageNo = Math.max(Integer.parseInt(raw), 1);
+            } catch (NumberFormatException ignored) {
+                // 1페이지만 사용
+            }
+        }
+
+        int cap = properties.getMaxPagesPerGroup();
+        return cap > 0 ? Math.min(maxPageNo, cap) : maxPageNo;
+    }
+
+    private static CompletableFuture<List<JsonNode>> concat(List<CompletableFuture<List<JsonNode>>> parts) {
+        return CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+            .thenApply(ignored -> {
+                List<JsonNode> merged = new ArrayList<>();
+                for (CompletableFuture<List<JsonNode>> part : parts) {
+                    merged.addAll(part.join());
+                }
+                return merged;
+            });
+    }
+
+    private static List<JsonNode> join(CompletableFuture<List<JsonNode>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * 엔드포인트별 응답 result 노드 목록(권역 코드 순, 페이지 순)
+     */
+    public record FinlifePages(List<JsonNode> companies, List<JsonNode> deposits, List<JsonNode> savings) {
+    }
+}
@@ -24,4 +24,6 @@ public class FinlifeProperties {
     private int connectTimeoutMs = 5000;
 
     private int readTimeoutMs = 12000;
+
+    private int fetchConcurrency = 4;
 }
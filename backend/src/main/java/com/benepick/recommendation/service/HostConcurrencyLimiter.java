@@ -0,0 +1,46 @@
+package com.benepick.recommendation.service;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 외부 API 호스트별 동시 요청 수 제한. 동기화 요청을 병렬로 보내도 한 호스트에 몰리는 요청 수는 제한값을 넘지 않는다.
+ * 호스트마다 처음 호출한 쪽이 넘긴 허용 수로 세마포어를 만든다.
+ */
+@Component
+public class HostConcurrencyLimiter {
+
+    private final Map<String, Semaphore> permitsByHost = new ConcurrentHashMap<>();
+
+    public <T> T call(URI uri, int maxConcurrent, Supplier<T> request) {
+        Semaphore permits = permitsByHost.computeIfAbsent(
+            hostKey(uri),
+            key -> new Semaphore(Math.max(1, maxConcurrent), true)
+        );
+
+        try {
+            permits.acquire();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Interrupted while waiting for " + uri.getHost(), exception);
+        }
+
+        try {
+            return request.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static String hostKey(URI uri) {
+        String host = uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+        return host + ":" + uri.getPort();
+    }
+}
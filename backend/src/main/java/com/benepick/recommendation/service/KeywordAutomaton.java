@@ -0,0 +1,164 @@
+package com.benepick.recommendation.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 여러 키워드를 한 번의 선형 스캔으로 찾는 Aho–Corasick 오토마톤.
+ * 키워드마다 {@code long} 마스크를 붙여 두고, 스캔 결과로 등장한 키워드 마스크의 OR를 돌려준다.
+ * 생성 후에는 불변이라 여러 스레드에서 공유해도 된다.
+ */
+public final class KeywordAutomaton {
+
+    private static final int ROOT = 0;
+
+    private final char[][] edgeLabels;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    private final long[] output;
+
+    private KeywordAutomaton(char[][] edgeLabels, int[][] edgeTargets, int[] failure, long[] output) {
+        this.edgeLabels = edgeLabels;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.output = output;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * text에 부분 문자열로 등장하는 모든 키워드의 마스크를 OR 해서 반환한다.
+     */
+    public long scan(CharSequence text) {
+        if (text == null || text.length() == 0) {
+            return 0L;
+        }
+
+        long matched = 0L;
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next = transition(state, c);
+            while (next < 0 && state != ROOT) {
+                state = failure[state];
+                next = transition(state, c);
+            }
+            state = next < 0 ? ROOT : next;
+            matched |= output[state];
+        }
+        return matched;
+    }
+
+    public boolean matchesAny(CharSequence text, long mask) {
+        return (scan(text) & mask) != 0;
+    }
+
+    private int transition(int state, char c) {
+        char[] labels = edgeLabels[state];
+        int index = Arrays.binarySearch(labels, c);
+        return index < 0 ? -1 : edgeTargets[state][index];
+    }
+
+    public static final class Builder {
+
+        private final List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        private final List<Long> outputs = new ArrayList<>();
+
+        private Builder() {
+            newNode();
+        }
+
+        public Builder add(String keyword, long mask) {
+            if (keyword == null || keyword.isEmpty()) {
+                return this;
+            }
+
+            int state = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = keyword.charAt(i);
+                Integer next = children.get(state).get(c);
+                if (next == null) {
+                    next = newNode();
+                    children.get(state).put(c, next);
+                }
+                state = next;
+            }
+            outputs.set(state, outputs.get(state) | mask);
+            return this;
+        }
+
+        public Builder addAll(Iterable<String> keywords, long mask) {
+            for (String keyword : keywords) {
+                add(keyword, mask);
+            }
+            return this;
+        }
+
+        public KeywordAutomaton build() {
+            int size = children.size();
+            char[][] edgeLabels = new char[size][];
+            int[][] edgeTargets = new int[size][];
+            int[] failure = new int[size];
+            long[] output = new long[size];
+
+            for (int state = 0; state < size; state++) {
+                TreeMap<Character, Integer> edges = children.get(state);
+                char[] labels = new char[edges.size()];
+                int[] targets = new int[edges.size()];
+                int index = 0;
+                for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                    labels[index] = edge.getKey();
+                    targets[index] = edge.getValue();
+                    index++;
+                }
+                edgeLabels[state] = labels;
+                edgeTargets[state] = targets;
+                output[state] = outputs.get(state);
+            }
+
+            // BFS로 실패 링크를 채우고, 접미사 상태의 출력을 합친다.
+            Deque<Integer> queue = new ArrayDeque<>();
+            for (int child : edgeTargets[ROOT]) {
+                failure[child] = ROOT;
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                for (int index = 0; index < edgeLabels[state].length; index++) {
+                    char c = edgeLabels[state][index];
+                    int child = edgeTargets[state][index];
+
+                    int fallback = failure[state];
+                    int target = find(edgeLabels, edgeTargets, fallback, c);
+                    while (target < 0 && fallback != ROOT) {
+                        fallback = failure[fallback];
+                        target = find(edgeLabels, edgeTargets, fallback, c);
+                    }
+                    failure[child] = target < 0 ? ROOT : target;
+                    output[child] |= output[failure[child]];
+                    queue.add(child);
+                }
+            }
+
+            return new KeywordAutomaton(edgeLabels, edgeTargets, failure, output);
+        }
+
+        private int newNode() {
+            children.add(new TreeMap<>());
+            outputs.add(0L);
+            return children.size() - 1;
+        }
+
+        private static int find(char[][] edgeLabels, int[][] edgeTargets, int state, char c) {
+            int index = Arrays.binarySearch(edgeLabels[state], c);
+            return index < 0 ? -1 : edgeTargets[state][index];
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.benepick.recommendation.service;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * 외부 동기화 API용 HttpClient와 조회 스레드 풀 생성.
+ * spring.threads.virtual.enabled 가 켜져 있고 Java 21 이상에서 실행 중이면 클라이언트 내부 작업과 조회 작업도 가상 스레드에서 돌린다.
+ */
+final class OutboundHttpClients {
+
+    private OutboundHttpClients() {
+    }
+
+    static HttpClient create(int connectTimeoutMs, Environment environment, String threadNamePrefix) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(Math.max(connectTimeoutMs, 1000)));
+
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            builder.executor(executor);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 동기화 한 번 동안만 쓰는 조회용 스레드 풀. 호출한 쪽에서 끝나면 종료한다.
+     * 가상 스레드 모드에서는 작업마다 가상 스레드를 새로 띄우고, 동시 요청 수는 호스트별 세마포어가 제한한다.
+     */
+    static ExecutorService newFetchPool(int threads, String threadNamePrefix, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return new ThreadPoolExecutor(
+                0,
+                Integer.MAX_VALUE,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(),
+                new VirtualThreadTaskExecutor(threadNamePrefix).getVirtualThreadFactory()
+            );
+        }
+
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,614 @@
+package com.benepick.recommendation.service;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 텍스트(요약/연회비/태그/링크)에서 {@link ProductFeatures}를 뽑아내는 규칙 모음.
+ * 카탈로그 스냅샷을 만들 때 상품마다 한 번 호출된다.
+ */
+public final class ProductFeatureExtractor {
+
+    static final String NO_QUANTIFIED_BENEFIT_PREFIX = "정량 혜택 정보 없음";
+
+    private static final String NO_QUANTIFIED_BENEFIT_TEXT =
+        NO_QUANTIFIED_BENEFIT_PREFIX + " (공식 페이지에서 할인/적립 한도 확인)";
+
+    private static final Pattern MAX_RATE_PATTERN = Pattern.compile("최고\\s*([0-9]+(?:\\.[0-9]+)?)\\s*%");
+    private static final Pattern BASE_RATE_PATTERN = Pattern.compile("기본\\s*([0-9]+(?:\\.[0-9]+)?)\\s*%");
+    private static final Pattern ANNUAL_FEE_MAN_WON_PATTERN = Pattern.compile("([0-9]+(?:\\.[0-9]+)?)\\s*만원");
+    private static final Pattern ANNUAL_FEE_WON_PATTERN = Pattern.compile("([0-9]{1,3}(?:,[0-9]{3})+|[0-9]{4,7})\\s*원?");
+    private static final Pattern CARD_PERCENT_PATTERN = Pattern.compile("([0-9]+(?:\\.[0-9]+)?)\\s*%");
+    private static final Pattern CARD_AMOUNT_PATTERN = Pattern.compile(
+        "(월\\s*최대\\s*[0-9]+(?:,[0-9]{3})*(?:\\.[0-9]+)?\\s*(?:만원|원)|"
+            + "최대\\s*[0-9]+(?:,[0-9]{3})*(?:\\.[0-9]+)?\\s*(?:만원|원)|"
+            + "[0-9]+(?:,[0-9]{3})*(?:\\.[0-9]+)?\\s*(?:만원|원))"
+    );
+    private static final Set<String> CARD_BENEFIT_KEYWORDS = Set.of(
+        "할인",
+        "캐시백",
+        "적립",
+        "청구",
+        "환급",
+        "포인트",
+        "마일",
+        "리워드",
+        "혜택",
+        "우대",
+        "한도",
+        "최대",
+        "월"
+    );
+
+    private static final Map<String, Long> CATEGORY_ALIASES = buildCategoryAliases();
+    private static final KeywordAutomaton CATEGORY_KEYWORDS = buildCategoryKeywordAutomaton();
+
+    private ProductFeatureExtractor() {
+    }
+
+    public static ProductFeatures forAccount(
+        String productName,
+        String summary,
+        String accountKind,
+        Set<String> tags,
+        String officialUrl,
+        Double maxRate,
+        Double baseRate
+    ) {
+        long tagSignals = canonicalizeCategories(tags);
+
+        long signals = tagSignals
+            | extractCategoriesFromText(productName)
+            | extractCategoriesFromText(summary)
+            | extractCategoriesFromText(accountKind);
+
+        String normalizedKind = normalize(accountKind);
+        if (normalizedKind.contains("예금") || normalizedKind.contains("적금")) {
+            signals |= CategoryDictionary.SAVINGS;
+        }
+        if (normalizedKind.contains("외화")) {
+            signals |= CategoryDictionary.GLOBAL | CategoryDictionary.TRAVEL;
+        }
+        if (normalizedKind.contains("입출금")) {
+            signals |= CategoryDictionary.DAILY;
+        }
+
+        String normalizedSummary = summary == null ? "" : summary;
+        String normalizedOfficialUrl = normalizeOfficialUrl(officialUrl);
+
+        return new ProductFeatures(
+            signals,
+            tagSignals,
+            maxRate != null ? maxRate : extractMaxRate(normalizedSummary),
+            baseRate != null ? baseRate : extractBaseRate(normalizedSummary),
+            maxRate == null,
+            "",
+            false,
+            null,
+            "",
+            "",
+            summaryHighlight(summary),
+            inferAccountEligibility(productName, summary, accountKind),
+            normalizedOfficialUrl,
+            !normalizedOfficialUrl.isBlank() && isLikelyGenericOfficialUrl(normalizedOfficialUrl),
+            classifyAccountReportCategory(lowerSet(tags))
+        );
+    }
+
+    public static ProductFeatures forCard(
+        String productName,
+        String summary,
+        String annualFeeText,
+        Set<String> tags,
+        Set<String> categories,
+        String officialUrl,
+        Integer annualFeeWon,
+        Boolean lowFee
+    ) {
+        long tagSignals = canonicalizeCategories(tags);
+
+        long cardCategories = canonicalizeCategories(categories)
+            | tagSignals
+            | extractCategoriesFromText(productName)
+            | extractCategoriesFromText(summary);
+
+        Set<String> lowerTags = lowerSet(tags);
+        if (lowerTags.contains("travel") || lowerTags.contains("mileage")) {
+            cardCategories |= CategoryDictionary.TRAVEL;
+        }
+        if (lowerTags.contains("starter") || lowerTags.contains("no-fee") || lowerTags.contains("nofee")) {
+            cardCategories |= CategoryDictionary.STARTER;
+        }
+        if (lowerTags.contains("daily") || lowerTags.contains("cashback")) {
+            cardCategories |= CategoryDictionary.DAILY;
+        }
+
+        String normalizedAnnualFeeText = normalizeAnnualFeeText(annualFeeText);
+        // 동기화 때 저장된 값이 있으면 쓰고, 컬럼 도입 전 행만 문구를 해석한다.
+        AnnualFeeInfo annualFeeInfo = lowFee != null
+            ? new AnnualFeeInfo(lowFee, annualFeeWon)
+            : parseAnnualFee(normalizedAnnualFeeText);
+        String normalizedOfficialUrl = normalizeOfficialUrl(officialUrl);
+
+        return new ProductFeatures(
+            cardCategories,
+            tagSignals,
+            null,
+            null,
+            false,
+            normalizedAnnualFeeText,
+            annualFeeInfo.lowFee(),
+            annualFeeInfo.estimatedWon(),
+            buildAnnualFeeEstimateText(annualFeeInfo),
+            summarizeCardQuantifiedBenefits(summary),
+            summaryHighlight(summary),
+            inferCardEligibility(productName, summary),
+            normalizedOfficialUrl,
+            !normalizedOfficialUrl.isBlank() && isLikelyGenericOfficialUrl(normalizedOfficialUrl),
+            classifyCardReportCategory(lowerTags, lowerSet(categories))
+        );
+    }
+
+    /**
+     * 태그/카테고리/사용자 입력 값을 정규화된 카테고리 마스크로 변환한다.
+     */
+    public static long canonicalizeCategories(Iterable<String> values) {
+        long result = 0L;
+        if (values == null) {
+            return result;
+        }
+
+        for (String value : values) {
+            result |= canonicalizeCategoryValue(value);
+        }
+        return result;
+    }
+
+    /**
+     * 텍스트에 등장하는 카테고리 키워드를 한 번의 스캔으로 찾아 마스크로 돌려준다.
+     */
+    public static long extractCategoriesFromText(String text) {
+        String normalizedText = normalizeCategoryToken(text);
+        if (normalizedText.isEmpty()) {
+            return 0L;
+        }
+        return CATEGORY_KEYWORDS.scan(normalizedText);
+    }
+
+    public static String normalizeOfficialUrl(String value) {
+        if (value == null) {
+            return "";
+        }
+        String normalized = value.trim();
+        if (normalized.isBlank()) {
+            return "";
+        }
+        if (normalized.startsWith("http://") || normalized.startsWith("https://")) {
+            return normalized;
+        }
+        return "https://" + normalized;
+    }
+
+    public static boolean isLikelyGenericOfficialUrl(String rawUrl) {
+        try {
+            URI uri = new URI(rawUrl);
+            String host = normalize(uri.getHost());
+            String path = normalize(uri.getPath());
+            String query = normalize(uri.getQuery());
+
+            if (host.isBlank()) {
+                return true;
+            }
+
+            if (query.contains("prd") || query.contains("product") || query.contains("code=") || query.contains("id=")) {
+                return false;
+            }
+
+            if ("/".equals(path) || path.isBlank()) {
+                return true;
+            }
+
+            if (host.contains("epostbank.go.kr") && path.contains("cdcf")) {
+                return true;
+            }
+
+            if (host.contains("kdb.co.kr") && ("/".equals(path) || path.contains("/main"))) {
+                return true;
+            }
+
+            if (host.contains("fsc.go.kr") || host.contains("finlife.fss.or.kr")) {
+                return true;
+            }
+
+            int segmentCount = 0;
+            for (String segment : path.split("/")) {
+                if (!segment.isBlank()) {
+                    segmentCount++;
+                }
+            }
+            return segmentCount <= 1 && query.isBlank();
+        } catch (URISyntaxException exception) {
+            return true;
+        }
+    }
+
+    private static long canonicalizeCategoryValue(String raw) {
+        String normalized = normalize(raw);
+        if (normalized.isBlank()) {
+            return 0L;
+        }
+
+        long result = 0L;
+
+        // direct mapping for full token
+        result |= CATEGORY_ALIASES.getOrDefault(normalizeCategoryToken(normalized), 0L);
+
+        // split mapping (e.g. "온라인/구독")
+        for (String part : normalized.split("[,|/\\s]+")) {
+            result |= CATEGORY_ALIASES.getOrDefault(normalizeCategoryToken(part), 0L);
+        }
+
+        // text keyword mapping fallback
+        result |= extractCategoriesFromText(normalized);
+
+        return result;
+    }
+
+    /**
+     * 요약 문구의 "최고 x.xx%" 값. 카탈로그 동기화 시점에만 쓴다.
+     */
+    public static Double extractMaxRate(String summary) {
+        return extractRate(summary == null ? "" : summary, MAX_RATE_PATTERN);
+    }
+
+    /**
+     * 요약 문구의 "기본 x.xx%" 값. 카탈로그 동기화 시점에만 쓴다.
+     */
+    public static Double extractBaseRate(String summary) {
+        return extractRate(summary == null ? "" : summary, BASE_RATE_PATTERN);
+    }
+
+    /**
+     * 연회비 문구를 정규화해 해석한다. 카탈로그 동기화 시점에만 쓴다.
+     */
+    static AnnualFeeInfo resolveAnnualFee(String annualFeeText) {
+        return parseAnnualFee(normalizeAnnualFeeText(annualFeeText));
+    }
+
+    private static Double extractRate(String text, Pattern pattern) {
+        if (text.isBlank()) {
+            return null;
+        }
+
+        Matcher matcher = pattern.matcher(text);
+        if (!matcher.find()) {
+            return null;
+        }
+
+        String value = matcher.group(1);
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException exception) {
+            return null;
+        }
+    }
+
+    static AnnualFeeInfo parseAnnualFee(String annualFeeText) {
+        String text = normalize(annualFeeText);
+        if (text.isBlank()) {
+            return new AnnualFeeInfo(true, null);
+        }
+
+        if (text.contains("없음") || text.contains("면제") || text.contains("무료") || text.contains("0원")) {
+            return new AnnualFeeInfo(true, 0);
+        }
+
+        Matcher manWonMatcher = ANNUAL_FEE_MAN_WON_PATTERN.matcher(text);
+        if (manWonMatcher.find()) {
+            try {
+                double manWon = Double.parseDouble(manWonMatcher.group(1));
+                int won = (int) Math.round(manWon * 10000);
+                return new AnnualFeeInfo(won <= 0, won);
+            } catch (NumberFormatException ignored) {
+                // fallback to next parser
+            }
+        }
+
+        Matcher wonMatcher = ANNUAL_FEE_WON_PATTERN.matcher(text);
+        if (wonMatcher.find()) {
+            String rawNumber = wonMatcher.group(1).replace(",", "");
+            try {
+                int won = Integer.parseInt(rawNumber);
+                return new AnnualFeeInfo(won <= 0, won);
+            } catch (NumberFormatException ignored) {
+                // ignore
+            }
+        }
+
+        return new AnnualFeeInfo(false, null);
+    }
+
+    private static String buildAnnualFeeEstimateText(AnnualFeeInfo annualFeeInfo) {
+        if (annualFeeInfo.estimatedWon() == null) {
+            return "수치 확인 어려움";
+        }
+
+        if (annualFeeInfo.estimatedWon() == 0) {
+            return "0원 (면제/없음)";
+        }
+
+        return annualFeeInfo.estimatedWon() + "원 수준";
+    }
+
+    private static String normalizeAnnualFeeText(String annualFeeText) {
+        String normalized = annualFeeText == null ? "" : annualFeeText.trim();
+        if (normalized.isBlank()) {
+            return "연회비 정보 없음";
+        }
+
+        String lower = normalize(normalized);
+        if ("없음".equals(lower)
+            || "면제".equals(lower)
+            || "무료".equals(lower)
+            || "0원".equals(lower)
+            || "무연회비".equals(lower)) {
+            return "연회비 없음";
+        }
+
+        return normalized;
+    }
+
+    private static String summaryHighlight(String summary) {
+        String normalized = normalize(summary);
+        if (normalized.isBlank()) {
+            return "";
+        }
+
+        String compact = summary.replaceAll("\\s+", " ").trim();
+        if (compact.length() <= 48) {
+            return compact;
+        }
+        return compact.substring(0, 48) + "...";
+    }
+
+    private static String summarizeCardQuantifiedBenefits(String rawSummary) {
+        String summary = normalize(rawSummary);
+        if (summary.isBlank()) {
+            return NO_QUANTIFIED_BENEFIT_TEXT;
+        }
+
+        List<String> segments = splitTextSegments(rawSummary);
+        Set<String> captures = new LinkedHashSet<>();
+
+        for (String segment : segments) {
+            if (!containsDigit(segment)) {
+                continue;
+            }
+
+            boolean hasBenefitKeyword = containsAnyKeyword(normalize(segment), CARD_BENEFIT_KEYWORDS);
+            if (hasBenefitKeyword) {
+                captures.add(compactSegment(segment));
+            }
+        }
+
+        Matcher percentMatcher = CARD_PERCENT_PATTERN.matcher(rawSummary);
+        while (percentMatcher.find() && captures.size() < 5) {
+            captures.add(percentMatcher.group(1) + "%");
+        }
+
+        Matcher amountMatcher = CARD_AMOUNT_PATTERN.matcher(rawSummary);
+        while (amountMatcher.find() && captures.size() < 5) {
+            captures.add(compactSegment(amountMatcher.group(1)));
+        }
+
+        if (captures.isEmpty()) {
+            return NO_QUANTIFIED_BENEFIT_TEXT;
+        }
+
+        return captures.stream().limit(4).collect(Collectors.joining(" · "));
+    }
+
+    private static String inferAccountEligibility(String productName, String summary, String accountKind) {
+        String text = normalize(productName + " " + summary + " " + accountKind);
+        if (text.contains("청년") || text.contains("young")) {
+            return "청년/사회초년생 우대 가능";
+        }
+        if (text.contains("법인") || text.contains("기업")) {
+            return "개인·법인 구분형 (세부 조건은 공식 페이지 확인)";
+        }
+        return "개인 고객 중심 (세부 조건은 공식 페이지 확인)";
+    }
+
+    private static String inferCardEligibility(String productName, String summary) {
+        String text = normalize(productName + " " + summary);
+        if (text.contains("법인")) {
+            return "개인/법인 구분형 (세부 조건은 공식 페이지 확인)";
+        }
+        if (text.contains("개인")) {
+            return "개인 고객";
+        }
+        return "개인 고객 중심 (발급 조건은 공식 페이지 확인)";
+    }
+
+    private static String classifyAccountReportCategory(Set<String> tags) {
+        if (containsAnyValue(tags, "savings", "goal", "auto")) {
+            return "savings";
+        }
+        if (containsAnyValue(tags, "travel", "global", "fx")) {
+            return "travel";
+        }
+        if (containsAnyValue(tags, "starter", "young", "low-fee")) {
+            return "starter";
+        }
+        if (containsAnyValue(tags, "salary", "daily", "cashback")) {
+            return "salary";
+        }
+        return "other";
+    }
+
+    private static String classifyCardReportCategory(Set<String> tags, Set<String> categories) {
+        if (containsAnyValue(tags, "travel", "mileage")) {
+            return "travel";
+        }
+        if (containsAnyValue(tags, "starter", "no-fee")) {
+            return "starter";
+        }
+        if (containsAnyValue(categories, "online", "subscription")) {
+            return "online";
+        }
+        if (containsAnyValue(categories, "grocery", "transport", "dining", "cafe") || tags.contains("daily")) {
+            return "lifestyle";
+        }
+        return "other";
+    }
+
+    private static boolean containsAnyValue(Set<String> values, String... candidates) {
+        for (String candidate : candidates) {
+            if (values.contains(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> splitTextSegments(String text) {
+        String normalized = text == null ? "" : text.replace('\n', ' ');
+        String[] tokens = normalized.split("[·;,|]");
+        List<String> segments = new ArrayList<>();
+        for (String token : tokens) {
+            String compact = compactSegment(token);
+            if (!compact.isBlank()) {
+                segments.add(compact);
+            }
+        }
+        return segments;
+    }
+
+    private static String compactSegment(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replaceAll("\\s+", " ").trim();
+    }
+
+    private static boolean containsDigit(String value) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.isDigit(value.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsAnyKeyword(String text, Set<String> keywords) {
+        for (String keyword : keywords) {
+            if (text.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> lowerSet(Iterable<String> values) {
+        Set<String> result = new HashSet<>();
+        if (values == null) {
+            return result;
+        }
+        for (String value : values) {
+            if (value != null && !value.isBlank()) {
+                result.add(value.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        return result;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 소문자화 후 영문 소문자/숫자/한글 음절만 남긴다.
+     */
+    static String normalizeCategoryToken(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+
+        String lower = value.toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(lower.length());
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || (c >= '가' && c <= '힣')) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static Map<String, Long> buildCategoryAliases() {
+        Map<String, Long> aliases = new HashMap<>();
+
+        putAlias(aliases, "online", "online", "ecommerce", "shopping", "쇼핑", "온라인", "간편결제", "pay", "모바일결제");
+        putAlias(aliases, "grocery", "grocery", "mart", "supermarket", "장보기", "마트", "식자재");
+        putAlias(aliases, "transport", "transport", "traffic", "transit", "mobility", "교통", "지하철", "버스", "택시", "주유", "모빌리티");
+        putAlias(aliases, "dining", "dining", "food", "restaurant", "외식", "식당", "배달", "푸드");
+        putAlias(aliases, "cafe", "cafe", "coffee", "카페", "커피");
+        putAlias(aliases, "subscription", "subscription", "sub", "ott", "streaming", "구독", "스트리밍");
+        putAlias(aliases, "travel", "travel", "trip", "airline", "hotel", "여행", "해외", "항공", "숙박");
+        putAlias(aliases, "salary", "salary", "급여", "월급", "급여이체");
+        putAlias(aliases, "savings", "savings", "saving", "save", "저축", "금리", "예금", "적금");
+        putAlias(aliases, "starter", "starter", "beginner", "초보", "저비용", "무연회비");
+        putAlias(aliases, "daily", "daily", "생활", "일상", "cashback", "할인");
+        putAlias(aliases, "global", "global", "외화", "글로벌");
+
+        return aliases;
+    }
+
+    private static KeywordAutomaton buildCategoryKeywordAutomaton() {
+        KeywordAutomaton.Builder builder = KeywordAutomaton.builder();
+        addKeywords(builder, "online", "온라인", "쇼핑", "간편결제", "ecommerce", "shopping", "오픈마켓");
+        addKeywords(builder, "grocery", "마트", "장보기", "슈퍼", "식자재", "생필품");
+        addKeywords(builder, "transport", "교통", "지하철", "버스", "택시", "주유", "모빌리티");
+        addKeywords(builder, "dining", "외식", "식당", "배달", "푸드", "레스토랑");
+        addKeywords(builder, "cafe", "카페", "커피");
+        addKeywords(builder, "subscription", "구독", "ott", "스트리밍", "멤버십");
+        addKeywords(builder, "travel", "여행", "해외", "항공", "마일", "숙박");
+        addKeywords(builder, "salary", "급여", "월급", "급여이체");
+        addKeywords(builder, "savings", "저축", "금리", "적금", "예금", "복리", "우대금리");
+        addKeywords(builder, "starter", "초보", "무연회비", "저비용", "신규");
+        addKeywords(builder, "daily", "생활", "일상", "캐시백", "할인");
+        addKeywords(builder, "global", "외화", "글로벌", "환전");
+        return builder.build();
+    }
+
+    private static void addKeywords(KeywordAutomaton.Builder builder, String category, String... keywords) {
+        long bit = CategoryDictionary.bit(category);
+        for (String keyword : keywords) {
+            builder.add(normalizeCategoryToken(keyword), bit);
+        }
+    }
+
+    private static void putAlias(Map<String, Long> aliases, String canonical, String... variants) {
+        long bit = CategoryDictionary.bit(canonical);
+        for (String variant : variants) {
+            aliases.put(normalizeCategoryToken(variant), bit);
+        }
+    }
+
+    record AnnualFeeInfo(boolean lowFee, Integer estimatedWon) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.benepick.recommendation.service;
+
+/**
+ * 카탈로그 동기화 시점에 상품별로 한 번만 계산해 두는 추천용 특징값.
+ * 요청 처리 중에는 정규식/키워드 스캔 없이 이 값만 읽는다.
+ *
+ * @param signalMask 계좌는 파생 신호, 카드는 혜택 카테고리 ({@link CategoryDictionary} 마스크)
+ * @param tagSignalMask 태그만으로 정규화한 카테고리 마스크
+ * @param maxRate 금리 옵션(max_rate)의 최고 금리, 없으면 요약에서 추출한 값 (계좌 전용)
+ * @param baseRate 금리 옵션(base_rate)의 기본 금리, 없으면 요약에서 추출한 값 (계좌 전용)
+ * @param maxRateFromSummary 최고 금리를 요약 문구에서 추출했는지 여부
+ * @param annualFeeText 표시용으로 정규화한 연회비 문구 (카드 전용)
+ * @param lowAnnualFee 연회비 저부담 여부
+ * @param annualFeeWon 추정 연회비(원), 해석 불가 시 null
+ * @param annualFeeEstimateText 연회비 추정 표시 문구
+ * @param quantifiedBenefit 정량 혜택 요약
+ * @param summaryHighlight 요약 앞부분 하이라이트
+ * @param eligibility 가입 대상 추정 문구
+ * @param officialUrl 정규화한 카탈로그 공식 링크
+ * @param genericOfficialUrl 공식 링크가 홈페이지/목록 수준으로 보이는지 여부
+ * @param reportCategory 분석/품질 리포트에서 쓰는 집계 카테고리 키
+ */
+public record ProductFeatures(
+    long signalMask,
+    long tagSignalMask,
+    Double maxRate,
+    Double baseRate,
+    boolean maxRateFromSummary,
+    String annualFeeText,
+    boolean lowAnnualFee,
+    Integer annualFeeWon,
+    String annualFeeEstimateText,
+    String quantifiedBenefit,
+    String summaryHighlight,
+    String eligibility,
+    String officialUrl,
+    boolean genericOfficialUrl,
+    String reportCategory
+) {
+
+    public boolean hasQuantifiedBenefit() {
+        return !quantifiedBenefit.startsWith(ProductFeatureExtractor.NO_QUANTIFIED_BENEFIT_PREFIX);
+    }
+}
@@ -3,58 +3,123 @@ package com.benepick.recommendation.service;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+/**
+ * 상품 공식 링크 오버라이드 테이블.
+ * 파일은 수정 시각/크기가 바뀐 경우에만 다시 읽고, 파싱한 테이블은 원자적으로 교체한다.
+ * 요청 경로에서는 캐시된 맵 조회만 한다.
+ */
 @Service
 public class ProductUrlOverrideService {
 
     private static final Logger log = LoggerFactory.getLogger(ProductUrlOverrideService.class);
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern TOKEN_SEPARATORS = Pattern.compile("[\\s·ㆍ_./()\\-]+");
+    private static final Pattern KEY_DELIMITER = Pattern.compile("\\|");
+    private static final OverrideTable EMPTY_TABLE = new OverrideTable(null, -1L, Map.of(), 0L);
+
     private final Path overrideFilePath;
+    private final long checkIntervalMillis;
+    private final AtomicReference<OverrideTable> table = new AtomicReference<>(EMPTY_TABLE);
+    private final AtomicLong versionSequence = new AtomicLong();
+    private volatile long nextCheckAtMillis;
 
     public ProductUrlOverrideService(
-        @Value("${catalog.product-url-overrides.path:./config/product-url-overrides.properties}") String overrideFilePath
+        @Value("${catalog.product-url-overrides.path:./config/product-url-overrides.properties}") String overrideFilePath,
+        @Value("${catalog.product-url-overrides.check-interval-ms:5000}") long checkIntervalMillis
     ) {
         this.overrideFilePath = Path.of(overrideFilePath).toAbsolutePath().normalize();
+        this.checkIntervalMillis = Math.max(0L, checkIntervalMillis);
     }
 
     public Map<String, String> loadOverrides() {
-        if (!Files.exists(overrideFilePath)) {
-            return Map.of();
+        return loadTable().overrides();
+    }
+
+    /**
+     * 오버라이드 맵과 그 버전을 한 번에 읽는다. 링크가 들어간 결과를 버전으로 캐시할 때는
+     * 맵과 버전이 서로 다른 테이블에서 오지 않도록 이 메서드를 쓴다.
+     */
+    public OverrideTable loadTable() {
+        if (System.currentTimeMillis() >= nextCheckAtMillis) {
+            reloadIfChanged();
         }
+        return table.get();
+    }
 
-        Map<String, String> overrides = new HashMap<>();
+    private synchronized void reloadIfChanged() {
+        long now = System.currentTimeMillis();
+        if (now < nextCheckAtMillis) {
+            return;
+        }
+        nextCheckAtMillis = now + checkIntervalMillis;
 
+        OverrideTable current = table.get();
+        FileTime lastModified;
+        long size;
         try {
-            for (String rawLine : Files.readAllLines(overrideFilePath, StandardCharsets.UTF_8)) {
-                String line = rawLine == null ? "" : rawLine.trim();
-                if (line.isBlank() || line.startsWith("#")) {
-                    continue;
-                }
+            lastModified = Files.getLastModifiedTime(overrideFilePath);
+            size = Files.size(overrideFilePath);
+        } catch (NoSuchFileException exception) {
+            if (current.lastModified() != null) {
+                log.info("Product URL override file removed: {}", overrideFilePath);
+                table.set(new OverrideTable(null, -1L, Map.of(), versionSequence.incrementAndGet()));
+            }
+            return;
+        } catch (IOException exception) {
+            log.warn("Failed to stat product URL override file: {}", overrideFilePath, exception);
+            return;
+        }
 
-                int separatorIndex = line.indexOf('=');
-                if (separatorIndex <= 0 || separatorIndex >= line.length() - 1) {
-                    continue;
-                }
+        if (lastModified.equals(current.lastModified()) && size == current.size()) {
+            return;
+        }
 
-                String overrideKey = normalizeOverrideKey(line.substring(0, separatorIndex));
-                String overrideUrl = normalizeUrl(line.substring(separatorIndex + 1));
-                if (!overrideKey.isBlank() && !overrideUrl.isBlank()) {
-                    overrides.put(overrideKey, overrideUrl);
-                }
-            }
+        try {
+            Map<String, String> overrides = readOverrides();
+            table.set(new OverrideTable(lastModified, size, Map.copyOf(overrides), versionSequence.incrementAndGet()));
+            log.info("Loaded {} product URL overrides from {}", overrides.size(), overrideFilePath);
         } catch (IOException exception) {
+            // 읽기 실패 시 직전 테이블을 유지한다.
             log.warn("Failed to read product URL override file: {}", overrideFilePath, exception);
-            return Map.of();
+        }
+    }
+
+    private Map<String, String> readOverrides() throws IOException {
+        Map<String, String> overrides = new HashMap<>();
+
+        for (String rawLine : Files.readAllLines(overrideFilePath, StandardCharsets.UTF_8)) {
+            String line = rawLine == null ? "" : rawLine.trim();
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+
+            int separatorIndex = line.indexOf('=');
+            if (separatorIndex <= 0 || separatorIndex >= line.length() - 1) {
+                continue;
+            }
+
+            String overrideKey = normalizeOverrideKey(line.substring(0, separatorIndex));
+            String overrideUrl = normalizeUrl(line.substring(separatorIndex + 1));
+            if (!overrideKey.isBlank() && !overrideUrl.isBlank()) {
+                overrides.put(overrideKey, overrideUrl);
+            }
         }
 
         return overrides;
@@ -76,17 +141,33 @@ public class ProductUrlOverrideService {
             return normalizeUrl(fallbackUrl);
         }
 
-        for (String lookupKey : buildLookupKeys(productKey, productType, providerName, productName)) {
-            String overrideUrl = overrideMap.get(lookupKey);
-            if (overrideUrl != null && !overrideUrl.isBlank()) {
-                return overrideUrl;
+        return resolveOfficialUrl(
+            lookupKeysFor(productKey, productType, providerName, productName),
+            fallbackUrl,
+            overrideMap
+        );
+    }
+
+    /**
+     * 스냅샷에서 미리 계산해 둔 조회 키로 오버라이드를 찾는다.
+     */
+    public String resolveOfficialUrl(List<String> lookupKeys, String fallbackUrl, Map<String, String> overrideMap) {
+        if (overrideMap != null && !overrideMap.isEmpty() && lookupKeys != null) {
+            for (String lookupKey : lookupKeys) {
+                String overrideUrl = overrideMap.get(lookupKey);
+                if (overrideUrl != null && !overrideUrl.isBlank()) {
+                    return overrideUrl;
+                }
             }
         }
 
         return normalizeUrl(fallbackUrl);
     }
 
-    private List<String> buildLookupKeys(
+    /**
+     * 상품키, 유형|기관|상품명, 기관|상품명, 유형|상품명 순의 정규화된 조회 키.
+     */
+    public static List<String> lookupKeysFor(
         String productKey,
         String productType,
         String providerName,
@@ -115,21 +196,21 @@ public class ProductUrlOverrideService {
             keys.add(normalizedType + "|" + normalizedProductName);
         }
 
-        return keys;
+        return List.copyOf(keys);
     }
 
-    private String normalizeOverrideKey(String value) {
+    private static String normalizeOverrideKey(String value) {
         String normalized = value == null ? "" : value.trim();
         if (normalized.isBlank()) {
             return "";
         }
 
         if (!normalized.contains("|")) {
-            return normalized.toLowerCase(Locale.ROOT).replaceAll("\\s+", "");
+            return WHITESPACE.matcher(normalized.toLowerCase(Locale.ROOT)).replaceAll("");
         }
 
         StringBuilder builder = new StringBuilder();
-        for (String token : normalized.split("\\|")) {
+        for (String token : KEY_DELIMITER.split(normalized)) {
             String normalizedToken = normalizeOverrideToken(token);
             if (normalizedToken.isBlank()) {
                 continue;
@@ -142,17 +223,17 @@ public class ProductUrlOverrideService {
         return builder.toString();
     }
 
-    private String normalizeOverrideToken(String value) {
+    private static String normalizeOverrideToken(String value) {
         if (value == null) {
             return "";
         }
 
         String normalized = value.trim().toLowerCase(Locale.ROOT);
         normalized = normalized.replace("주식회사", "").replace("(주)", "").trim();
-        return normalized.replaceAll("[\\s·ㆍ_./()\\-]+", "");
+        return TOKEN_SEPARATORS.matcher(normalized).replaceAll("");
     }
 
-    private String normalizeUrl(String value) {
+    private static String normalizeUrl(String value) {
         if (value == null) {
             return "";
         }
@@ -166,4 +247,10 @@ public class ProductUrlOverrideService {
         }
         return "https://" + normalized;
     }
+
+    /**
+     * @param version 테이블이 교체될 때마다 증가한다.
+     */
+    public record OverrideTable(FileTime lastModified, long size, Map<String, String> overrides, long version) {
+    }
 }
@@ -0,0 +1,441 @@
+package com.benepick.recommendation.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * 공공데이터 응답을 트리로 만들지 않고 읽는 스트리밍 리더.
+ * JSON은 JsonParser, XML은 StAX로 토큰을 따라가다 행 경로에 닿으면 행 하나씩만 노드로 만들어 넘긴다.
+ * 페이지 크기와 관계없이 메모리에는 행 하나와 헤더 값(resultCode, resultMsg, totalCount)만 남는다.
+ * 행 경로는 설정된 items-path를 먼저 보고, 맞지 않으면 기본 후보 경로 중 처음 만난 경로를 쓴다.
+ */
+final class PublicDataRowReader {
+
+    static final List<String> DEFAULT_ITEMS_PATHS = List.of(
+        "response.body.items.item",
+        "response.body.items",
+        "response.body.tableList[0].items.item",
+        "response.body.tableList[0].items",
+        "response.body.tableList.items.item",
+        "body.items.item",
+        "body.items",
+        "items.item",
+        "items",
+        "data",
+        "cards",
+        "result.items"
+    );
+
+    private static final String RESULT_CODE = "resultCode";
+    private static final String RESULT_MSG = "resultMsg";
+    private static final String TOTAL_COUNT = "totalCount";
+
+    private final ObjectMapper objectMapper;
+    private final XMLInputFactory xmlInputFactory;
+
+    PublicDataRowReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.xmlInputFactory = XMLInputFactory.newFactory();
+        this.xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        this.xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    /**
+     * @param itemsPath 설정된 행 경로 (없으면 기본 후보 경로만 사용)
+     * @param rowSink 행을 하나씩 받는 쪽
+     * @throws IllegalArgumentException JSON/XML이 아니거나 본문이 비어 있을 때
+     */
+    Result read(InputStream input, String itemsPath, Consumer<JsonNode> rowSink) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(input);
+        int first = firstNonWhitespace(buffered);
+        if (first < 0) {
+            throw new IllegalArgumentException("empty body");
+        }
+
+        RowRouter router = new RowRouter(itemsPath, rowSink);
+        if (first == '{' || first == '[') {
+            readJson(buffered, router);
+        } else if (first == '<') {
+            readXml(buffered, router);
+        } else {
+            throw new IllegalArgumentException("body is neither JSON nor XML");
+        }
+        return router.finish();
+    }
+
+    private void readJson(InputStream input, RowRouter router) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            if (parser.nextToken() == null) {
+                throw new IllegalArgumentException("empty body");
+            }
+            walkJson(parser, new ArrayList<>(), router);
+        }
+    }
+
+    private void walkJson(JsonParser parser, List<String> path, RowRouter router) throws IOException {
+        JsonToken token = parser.currentToken();
+        RowTarget target = router.targetAt(path, false);
+
+        if (token == JsonToken.START_ARRAY) {
+            if (target != null) {
+                router.matched(target);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (parser.currentToken() == JsonToken.START_OBJECT) {
+                        router.emit(target, parser.<JsonNode>readValueAsTree());
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                return;
+            }
+
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                path.add(Integer.toString(index++));
+                walkJson(parser, path, router);
+                path.remove(path.size() - 1);
+            }
+            return;
+        }
+
+        if (token == JsonToken.START_OBJECT) {
+            if (target != null && !router.hasDeeperTarget(path, false)) {
+                router.matched(target);
+                router.emitNormalized(target, parser.<JsonNode>readValueAsTree());
+                return;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                path.add(name);
+                walkJson(parser, path, router);
+                path.remove(path.size() - 1);
+            }
+            return;
+        }
+
+        if (!path.isEmpty() && token != null && token.isScalarValue()) {
+            router.capture(path.get(path.size() - 1), parser.getValueAsString());
+        }
+    }
+
+    private void readXml(InputStream input, RowRouter router) throws IOException {
+        XMLStreamReader reader = null;
+        try {
+            reader = xmlInputFactory.createXMLStreamReader(input);
+            List<String> path = new ArrayList<>();
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    path.add(name);
+
+                    RowTarget target = router.targetAt(path, true);
+                    if (target != null && !router.hasDeeperTarget(path, true)) {
+                        router.matched(target);
+                        router.emitNormalized(target, readXmlElement(reader));
+                        path.remove(path.size() - 1);
+                    } else if (router.wantsCapture(name)) {
+                        router.capture(name, readXmlTextOrSkip(reader));
+                        path.remove(path.size() - 1);
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    path.remove(path.size() - 1);
+                }
+            }
+        } catch (XMLStreamException exception) {
+            throw new IllegalArgumentException("malformed XML: " + exception.getMessage(), exception);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException ignored) {
+                    // 입력 스트림은 호출한 쪽에서 닫는다.
+                }
+            }
+        }
+    }
+
+    /**
+     * 현재 START_ELEMENT부터 짝이 맞는 END_ELEMENT까지 읽어 노드로 만든다.
+     * 같은 이름의 자식이 반복되면 배열, 자식 요소가 없으면 텍스트 노드가 된다.
+     */
+    private JsonNode readXmlElement(XMLStreamReader reader) throws XMLStreamException {
+        ObjectNode objectNode = objectMapper.createObjectNode();
+        StringBuilder text = new StringBuilder();
+        boolean hasElementChild = false;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                hasElementChild = true;
+                String fieldName = reader.getLocalName();
+                JsonNode child = readXmlElement(reader);
+                JsonNode existing = objectNode.get(fieldName);
+                if (existing == null) {
+                    objectNode.set(fieldName, child);
+                } else if (existing.isArray()) {
+                    ((ArrayNode) existing).add(child);
+                } else {
+                    ArrayNode arrayNode = objectMapper.createArrayNode();
+                    arrayNode.add(existing);
+                    arrayNode.add(child);
+                    objectNode.set(fieldName, arrayNode);
+                }
+            } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+                if (!hasElementChild) {
+                    text.append(reader.getText());
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                break;
+            }
+        }
+
+        if (!hasElementChild) {
+            return objectMapper.getNodeFactory().textNode(text.toString().trim());
+        }
+        return objectNode;
+    }
+
+    private String readXmlTextOrSkip(XMLStreamReader reader) throws XMLStreamException {
+        JsonNode node = readXmlElement(reader);
+        return node.isTextual() ? node.asText() : "";
+    }
+
+    private static int firstNonWhitespace(BufferedInputStream input) throws IOException {
+        while (true) {
+            input.mark(4);
+            int value = input.read();
+            if (value < 0) {
+                return -1;
+            }
+            // UTF-8 BOM
+            if (value == 0xEF) {
+                input.read();
+                input.read();
+                continue;
+            }
+            if (!Character.isWhitespace(value)) {
+                input.reset();
+                return value;
+            }
+        }
+    }
+
+    private static List<String> segments(String pathExpression, boolean dropIndexes) {
+        List<String> segments = new ArrayList<>();
+        for (String token : pathExpression.replace("[", ".").replace("]", "").split("\\.")) {
+            String segment = token.trim();
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (dropIndexes && segment.chars().allMatch(Character::isDigit)) {
+                continue;
+            }
+            segments.add(segment);
+        }
+        return segments;
+    }
+
+    /**
+     * 행 경로 하나. configured면 설정값에서 온 경로다.
+     * XML에는 배열 인덱스가 없어서 인덱스를 뺀 경로로 비교한다.
+     */
+    private record RowTarget(
+        List<String> jsonPath,
+        List<String> xmlPath,
+        boolean configured,
+        boolean itemChild,
+        int order
+    ) {
+    }
+
+    /**
+     * 파싱 결과 요약. rowsFound가 false면 어떤 행 경로도 응답에 없었다는 뜻이다.
+     */
+    record Result(
+        int rowCount,
+        boolean rowsFound,
+        boolean configuredPathMissed,
+        String resultCode,
+        String resultMsg,
+        String totalCount
+    ) {
+    }
+
+    /**
+     * 경로 매칭과 행 전달 순서를 맡는다.
+     * 설정 경로의 행은 바로 넘기고, 기본 후보 경로의 행은 설정 경로가 없거나 끝까지 맞지 않았을 때만 넘긴다.
+     */
+    private static final class RowRouter {
+
+        private final List<RowTarget> targets = new ArrayList<>();
+        private final boolean hasConfiguredPath;
+        private final Consumer<JsonNode> rowSink;
+        private final List<JsonNode> pendingDefaultRows = new ArrayList<>();
+        private final Map<String, String> captured = new HashMap<>();
+
+        private boolean configuredMatched;
+        private RowTarget lockedDefault;
+        private int rowCount;
+
+        RowRouter(String itemsPath, Consumer<JsonNode> rowSink) {
+            this.rowSink = rowSink;
+            String configured = itemsPath == null ? "" : itemsPath.trim();
+            this.hasConfiguredPath = !configured.isEmpty();
+
+            // 루트 배열은 설정과 관계없이 그대로 행으로 쓴다.
+            targets.add(new RowTarget(List.of(), List.of(), true, false, -1));
+            if (hasConfiguredPath) {
+                addWithItemChildren(configured, true, 0);
+            }
+            int order = 1;
+            for (String candidate : DEFAULT_ITEMS_PATHS) {
+                addWithItemChildren(candidate, false, order++);
+            }
+        }
+
+        private void addWithItemChildren(String pathExpression, boolean configured, int order) {
+            List<String> json = segments(pathExpression, false);
+            List<String> xml = segments(pathExpression, true);
+            targets.add(new RowTarget(json, xml, configured, false, order));
+            // 경로가 컨테이너 객체를 가리키면 그 아래 item/data 배열을 행으로 본다.
+            for (String child : List.of("item", "data")) {
+                List<String> jsonChild = new ArrayList<>(json);
+                jsonChild.add(child);
+                List<String> xmlChild = new ArrayList<>(xml);
+                xmlChild.add(child);
+                targets.add(new RowTarget(jsonChild, xmlChild, configured, true, order));
+            }
+        }
+
+        RowTarget targetAt(List<String> path, boolean xml) {
+            RowTarget best = null;
+            for (RowTarget target : targets) {
+                if (!(xml ? target.xmlPath() : target.jsonPath()).equals(path)) {
+                    continue;
+                }
+                if (xml && target.xmlPath().isEmpty()) {
+                    continue;
+                }
+                if (best == null || rank(target) < rank(best)) {
+                    best = target;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * 더 깊은 행 경로가 있으면 지금 노드는 행이 아니라 컨테이너로 보고 안으로 들어간다.
+         * item/data 보조 경로는 노드를 읽은 뒤 {@link #emitNormalized}에서 처리하므로 제외한다.
+         */
+        boolean hasDeeperTarget(List<String> path, boolean xml) {
+            for (RowTarget target : targets) {
+                if (target.itemChild()) {
+                    continue;
+                }
+                List<String> candidate = xml ? target.xmlPath() : target.jsonPath();
+                if (candidate.size() > path.size() && candidate.subList(0, path.size()).equals(path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void matched(RowTarget target) {
+            if (target.configured()) {
+                if (!configuredMatched) {
+                    configuredMatched = true;
+                    pendingDefaultRows.clear();
+                }
+                return;
+            }
+            if (lockedDefault == null) {
+                lockedDefault = target;
+            }
+        }
+
+        void emit(RowTarget target, JsonNode row) {
+            if (target.configured()) {
+                rowCount++;
+                rowSink.accept(row);
+                return;
+            }
+            if (configuredMatched || target.order() != lockedDefault.order()) {
+                return;
+            }
+            if (hasConfiguredPath) {
+                pendingDefaultRows.add(row);
+                return;
+            }
+            rowCount++;
+            rowSink.accept(row);
+        }
+
+        /**
+         * 행 경로의 객체 하나를 넘긴다. item/data 배열을 품은 컨테이너면 그 원소들을 행으로 넘긴다.
+         */
+        void emitNormalized(RowTarget target, JsonNode node) {
+            for (String child : List.of("item", "data")) {
+                JsonNode rows = node.path(child);
+                if (rows.isArray()) {
+                    for (JsonNode row : rows) {
+                        emit(target, row);
+                    }
+                    return;
+                }
+            }
+            emit(target, node);
+        }
+
+        boolean wantsCapture(String name) {
+            return (RESULT_CODE.equals(name) || RESULT_MSG.equals(name) || TOTAL_COUNT.equals(name))
+                && !captured.containsKey(name);
+        }
+
+        void capture(String name, String value) {
+            if (wantsCapture(name) && value != null) {
+                captured.put(name, value.trim());
+            }
+        }
+
+        Result finish() {
+            if (!configuredMatched) {
+                for (JsonNode row : pendingDefaultRows) {
+                    rowCount++;
+                    rowSink.accept(row);
+                }
+                pendingDefaultRows.clear();
+            }
+            return new Result(
+                rowCount,
+                configuredMatched || lockedDefault != null,
+                hasConfiguredPath && !configuredMatched,
+                captured.getOrDefault(RESULT_CODE, ""),
+                captured.getOrDefault(RESULT_MSG, ""),
+                captured.getOrDefault(TOTAL_COUNT, "")
+            );
+        }
+
+        private static int rank(RowTarget target) {
+            return target.configured() ? target.order() - 1000 : target.order();
+        }
+    }
+}
@@ -3,12 +3,8 @@ package com.benepick.recommendation.service;
 import com.benepick.recommendation.dto.RecommendationAnalyticsResponse;
 import com.benepick.recommendation.dto.RecommendationCategoryStatResponse;
 import com.benepick.recommendation.dto.RecommendationClickStatResponse;
-import com.benepick.recommendation.entity.AccountCatalogEntity;
-import com.benepick.recommendation.entity.CardCatalogEntity;
 import com.benepick.recommendation.entity.RecommendationItemEntity;
 import com.benepick.recommendation.entity.RecommendationRedirectEventEntity;
-import com.benepick.recommendation.repository.AccountCatalogRepository;
-import com.benepick.recommendation.repository.CardCatalogRepository;
 import com.benepick.recommendation.repository.RecommendationItemRepository;
 import com.benepick.recommendation.repository.RecommendationRedirectEventRepository;
 import com.benepick.recommendation.repository.RecommendationRunRepository;
@@ -31,21 +27,18 @@ public class RecommendationAnalyticsService {
     private final RecommendationRunRepository recommendationRunRepository;
     private final RecommendationItemRepository recommendationItemRepository;
     private final RecommendationRedirectEventRepository recommendationRedirectEventRepository;
-    private final AccountCatalogRepository accountCatalogRepository;
-    private final CardCatalogRepository cardCatalogRepository;
+    private final CatalogSnapshotService catalogSnapshotService;
 
     public RecommendationAnalyticsService(
         RecommendationRunRepository recommendationRunRepository,
         RecommendationItemRepository recommendationItemRepository,
         RecommendationRedirectEventRepository recommendationRedirectEventRepository,
-        AccountCatalogRepository accountCatalogRepository,
-        CardCatalogRepository cardCatalogRepository
+        CatalogSnapshotService catalogSnapshotService
     ) {
         this.recommendationRunRepository = recommendationRunRepository;
         this.recommendationItemRepository = recommendationItemRepository;
         this.recommendationRedirectEventRepository = recommendationRedirectEventRepository;
-        this.accountCatalogRepository = accountCatalogRepository;
-        this.cardCatalogRepository = cardCatalogRepository;
+        this.catalogSnapshotService = catalogSnapshotService;
     }
 
     @Transactional(readOnly = true)
@@ -190,17 +183,7 @@ public class RecommendationAnalyticsService {
     }
 
     private Map<String, String> resolveCategoryByItemKey(List<RecommendationItemEntity> items) {
-        Map<String, Set<String>> accountTagsByProductId = new HashMap<>();
-        for (AccountCatalogEntity account : accountCatalogRepository.findByActiveTrue()) {
-            accountTagsByProductId.put(account.getProductKey(), normalizeSet(account.getTags()));
-        }
-
-        Map<String, Set<String>> cardTagsByProductId = new HashMap<>();
-        Map<String, Set<String>> cardCategoriesByProductId = new HashMap<>();
-        for (CardCatalogEntity card : cardCatalogRepository.findByActiveTrue()) {
-            cardTagsByProductId.put(card.getProductKey(), normalizeSet(card.getTags()));
-            cardCategoriesByProductId.put(card.getProductKey(), normalizeSet(card.getCategories()));
-        }
+        CatalogSnapshot catalog = catalogSnapshotService.current();
 
         Map<String, String> categoryByItemKey = new HashMap<>();
         for (RecommendationItemEntity item : items) {
@@ -208,15 +191,18 @@ public class RecommendationAnalyticsService {
             String productType = normalize(item.getProductType());
 
             if ("account".equals(productType)) {
-                Set<String> tags = accountTagsByProductId.getOrDefault(item.getProductId(), Set.of());
-                categoryByItemKey.put(itemKey, classifyAccountCategory(tags));
+                String category = catalog.findAccount(item.getProductId())
+                    .map(account -> account.features().reportCategory())
+                    .orElse("other");
+                categoryByItemKey.put(itemKey, category);
                 continue;
             }
 
             if ("card".equals(productType)) {
-                Set<String> tags = cardTagsByProductId.getOrDefault(item.getProductId(), Set.of());
-                Set<String> categories = cardCategoriesByProductId.getOrDefault(item.getProductId(), Set.of());
-                categoryByItemKey.put(itemKey, classifyCardCategory(tags, categories));
+                String category = catalog.findCard(item.getProductId())
+                    .map(card -> card.features().reportCategory())
+                    .orElse("other");
+                categoryByItemKey.put(itemKey, category);
                 continue;
             }
 
@@ -226,38 +212,6 @@ public class RecommendationAnalyticsService {
         return categoryByItemKey;
     }
 
-    private String classifyAccountCategory(Set<String> tags) {
-        if (containsAny(tags, "savings", "goal", "auto")) {
-            return "savings";
-        }
-        if (containsAny(tags, "travel", "global", "fx")) {
-            return "travel";
-        }
-        if (containsAny(tags, "starter", "young", "low-fee")) {
-            return "starter";
-        }
-        if (containsAny(tags, "salary", "daily", "cashback")) {
-            return "salary";
-        }
-        return "other";
-    }
-
-    private String classifyCardCategory(Set<String> tags, Set<String> categories) {
-        if (containsAny(tags, "travel", "mileage")) {
-            return "travel";
-        }
-        if (containsAny(tags, "starter", "no-fee")) {
-            return "starter";
-        }
-        if (containsAny(categories, "online", "subscription")) {
-            return "online";
-        }
-        if (containsAny(categories, "grocery", "transport", "dining", "cafe") || containsAny(tags, "daily")) {
-            return "lifestyle";
-        }
-        return "other";
-    }
-
     private CategoryAggregate newCategoryAggregate(String categoryKey) {
         return new CategoryAggregate(categoryKey, labelForCategory(categoryKey));
     }
@@ -274,29 +228,6 @@ public class RecommendationAnalyticsService {
         };
     }
 
-    private Set<String> normalizeSet(Set<String> values) {
-        if (values == null || values.isEmpty()) {
-            return Set.of();
-        }
-
-        Set<String> normalized = new HashSet<>();
-        for (String value : values) {
-            if (value != null && !value.isBlank()) {
-                normalized.add(normalize(value));
-            }
-        }
-        return normalized;
-    }
-
-    private boolean containsAny(Set<String> source, String... candidates) {
-        for (String candidate : candidates) {
-            if (source.contains(normalize(candidate))) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private String normalize(String value) {
         return value == null ? "" : value.trim().toLowerCase();
     }
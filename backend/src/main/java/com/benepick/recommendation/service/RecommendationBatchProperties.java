@@ -0,0 +1,23 @@
+package com.benepick.recommendation.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "recommendation.batch")
+public class RecommendationBatchProperties {
+
+    /**
+     * 한 번에 읽어 병렬 계산/일괄 저장하는 요청 수 (메모리 사용량 상한)
+     */
+    private int chunkSize = 256;
+
+    /**
+     * 배치 1회 최대 요청 수
+     */
+    private int maxRequests = 10000;
+}
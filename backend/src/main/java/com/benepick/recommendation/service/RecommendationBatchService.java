@@ -0,0 +1,179 @@
+package com.benepick.recommendation.service;
+
+import com.benepick.recommendation.dto.RecommendationBatchResultResponse;
+import com.benepick.recommendation.dto.SimulateRecommendationRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 여러 프로필을 한 요청으로 계산하는 배치 simulate.
+ * 입력(JSON 배열 또는 NDJSON)을 청크 단위로 읽어 같은 카탈로그 스냅샷으로 채점 전용 풀에서 병렬 계산하고,
+ * 청크마다 한 트랜잭션으로 저장한 뒤 결과를 입력 순서대로 NDJSON 한 줄씩 내보낸다.
+ */
+@Service
+public class RecommendationBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(RecommendationBatchService.class);
+
+    private static final byte[] LINE_SEPARATOR = {'\n'};
+
+    private final RecommendationService recommendationService;
+    private final RecommendationBatchProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final RecommendationScoringExecutor scoringExecutor;
+
+    public RecommendationBatchService(
+        RecommendationService recommendationService,
+        RecommendationBatchProperties properties,
+        ObjectMapper objectMapper,
+        Validator validator,
+        RecommendationScoringExecutor scoringExecutor
+    ) {
+        this.recommendationService = recommendationService;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.scoringExecutor = scoringExecutor;
+    }
+
+    public void simulateBatch(InputStream input, OutputStream output) throws IOException {
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        int maxRequests = Math.max(1, properties.getMaxRequests());
+        RecommendationService.SimulationScope scope = recommendationService.openScope();
+
+        List<IndexedRequest> chunk = new ArrayList<>(chunkSize);
+        int index = 0;
+        try (MappingIterator<SimulateRecommendationRequest> requests = objectMapper
+            .readerFor(SimulateRecommendationRequest.class)
+            .readValues(input)) {
+            while (requests.hasNextValue()) {
+                if (index >= maxRequests) {
+                    // 결과는 입력 순서대로 나가야 하므로 남은 청크를 먼저 처리한다.
+                    processChunk(chunk, scope, output);
+                    chunk.clear();
+                    writeLine(output, new RecommendationBatchResultResponse(
+                        index,
+                        null,
+                        "Batch limit exceeded (max " + maxRequests + " requests)"
+                    ));
+                    break;
+                }
+
+                chunk.add(new IndexedRequest(index++, requests.nextValue()));
+                if (chunk.size() >= chunkSize) {
+                    processChunk(chunk, scope, output);
+                    chunk.clear();
+                }
+            }
+        } catch (JsonProcessingException exception) {
+            processChunk(chunk, scope, output);
+            chunk.clear();
+            writeLine(output, new RecommendationBatchResultResponse(
+                index,
+                null,
+                "Malformed request at index " + index + ": " + exception.getOriginalMessage()
+            ));
+        }
+
+        processChunk(chunk, scope, output);
+        output.flush();
+    }
+
+    private void processChunk(
+        List<IndexedRequest> chunk,
+        RecommendationService.SimulationScope scope,
+        OutputStream output
+    ) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        // 점수 계산은 CPU 작업이라 청크 안에서 채점 전용 풀로 병렬로 돌리고, 저장은 청크 전체를 한 번에 한다.
+        List<ChunkResult> results = scoringExecutor.mapAll(chunk, request -> prepare(request, scope));
+
+        List<RecommendationService.PreparedRun> prepared = results.stream()
+            .filter(result -> result.prepared() != null)
+            .map(ChunkResult::prepared)
+            .toList();
+
+        String persistError = null;
+        try {
+            recommendationService.persistPrepared(prepared);
+        } catch (RuntimeException exception) {
+            log.error("Failed to persist recommendation batch chunk (size={})", prepared.size(), exception);
+            persistError = "Failed to save recommendation run";
+        }
+
+        for (ChunkResult result : results) {
+            if (result.prepared() == null) {
+                writeLine(output, new RecommendationBatchResultResponse(result.index(), null, result.error()));
+            } else if (persistError != null) {
+                writeLine(output, new RecommendationBatchResultResponse(result.index(), null, persistError));
+            } else {
+                writeLine(output, new RecommendationBatchResultResponse(
+                    result.index(),
+                    result.prepared().response(),
+                    null
+                ));
+            }
+        }
+        output.flush();
+    }
+
+    /**
+     * 예외를 던지지 않는다. 응답 상태(200)와 앞 줄은 이미 나갔으므로 어떤 실패든 그 항목의 error 줄로 바꾼다.
+     */
+    private ChunkResult prepare(IndexedRequest request, RecommendationService.SimulationScope scope) {
+        try {
+            return prepareOrFail(request, scope);
+        } catch (ResponseStatusException exception) {
+            return new ChunkResult(request.index(), null, exception.getReason());
+        } catch (RuntimeException exception) {
+            log.warn("Failed to prepare recommendation batch item (index={})", request.index(), exception);
+            return new ChunkResult(request.index(), null, "Failed to simulate recommendation");
+        }
+    }
+
+    private ChunkResult prepareOrFail(IndexedRequest request, RecommendationService.SimulationScope scope) {
+        if (request.request() == null) {
+            return new ChunkResult(request.index(), null, "Empty request");
+        }
+
+        Set<ConstraintViolation<SimulateRecommendationRequest>> violations = validator.validate(request.request());
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+            return new ChunkResult(request.index(), null, message);
+        }
+
+        return new ChunkResult(request.index(), recommendationService.prepareRun(request.request(), scope), null);
+    }
+
+    private void writeLine(OutputStream output, RecommendationBatchResultResponse line) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(line));
+        output.write(LINE_SEPARATOR);
+    }
+
+    private record IndexedRequest(int index, SimulateRecommendationRequest request) {
+    }
+
+    private record ChunkResult(int index, RecommendationService.PreparedRun prepared, String error) {
+    }
+}
@@ -14,19 +14,23 @@ public class RecommendationCatalogInitializer implements CommandLineRunner {
 
     private final AccountCatalogRepository accountCatalogRepository;
     private final CardCatalogRepository cardCatalogRepository;
+    private final CatalogSnapshotService catalogSnapshotService;
 
     public RecommendationCatalogInitializer(
         AccountCatalogRepository accountCatalogRepository,
-        CardCatalogRepository cardCatalogRepository
+        CardCatalogRepository cardCatalogRepository,
+        CatalogSnapshotService catalogSnapshotService
     ) {
         this.accountCatalogRepository = accountCatalogRepository;
         this.cardCatalogRepository = cardCatalogRepository;
+        this.catalogSnapshotService = catalogSnapshotService;
     }
 
     @Override
     public void run(String... args) {
         seedAccountsIfEmpty();
         seedCardsIfEmpty();
+        catalogSnapshotService.refresh("startup");
     }
 
     private void seedAccountsIfEmpty() {
@@ -77,6 +81,12 @@ public class RecommendationCatalogInitializer implements CommandLineRunner {
             )
         );
 
+        for (AccountCatalogEntity row : rows) {
+            row.updateRates(
+                ProductFeatureExtractor.extractMaxRate(row.getSummary()),
+                ProductFeatureExtractor.extractBaseRate(row.getSummary())
+            );
+        }
         accountCatalogRepository.saveAll(rows);
     }
 
@@ -132,6 +142,10 @@ public class RecommendationCatalogInitializer implements CommandLineRunner {
             )
         );
 
+        for (CardCatalogEntity row : rows) {
+            ProductFeatureExtractor.AnnualFeeInfo annualFee = ProductFeatureExtractor.resolveAnnualFee(row.getAnnualFeeText());
+            row.updateAnnualFee(annualFee.estimatedWon(), annualFee.lowFee());
+        }
         cardCatalogRepository.saveAll(rows);
     }
 }
@@ -0,0 +1,49 @@
+package com.benepick.recommendation.service;
+
+import com.benepick.recommendation.entity.RecommendationItemEntity;
+import com.benepick.recommendation.repository.RecommendationItemRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * recommendation_item 식별자를 IDENTITY에서 시퀀스로 옮긴 뒤, 새로 만든 시퀀스가 기존 행의 id와 겹치지 않도록 앞당긴다.
+ * 스키마 갱신(ddl-auto) 이후, 웹 요청을 받기 전에 한 번 실행되며 이미 앞서 있으면 아무것도 하지 않는다.
+ */
+@Component
+public class RecommendationItemSequenceInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(RecommendationItemSequenceInitializer.class);
+
+    private static final String ALIGN_SEQUENCE_SQL = """
+        select setval('recommendation_item_seq', max_id + ?)
+        from (select coalesce(max(id), 0) as max_id from recommendation_item) existing
+        where (select last_value from recommendation_item_seq) < max_id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 저장소 빈에 의존해 EntityManagerFactory(스키마 갱신) 초기화 이후에 실행되도록 한다.
+    public RecommendationItemSequenceInitializer(
+        JdbcTemplate jdbcTemplate,
+        RecommendationItemRepository recommendationItemRepository
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    void alignSequence() {
+        try {
+            jdbcTemplate.query(
+                ALIGN_SEQUENCE_SQL,
+                rs -> log.info("Advanced recommendation_item_seq past existing ids to {}", rs.getLong(1)),
+                RecommendationItemEntity.ID_ALLOCATION_SIZE
+            );
+        } catch (DataAccessException exception) {
+            log.warn("Failed to align recommendation_item_seq with existing ids", exception);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.benepick.recommendation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 추천 API 단계별 타이머와 처리량 카운터.
+ * 타이머는 {@code recommendation.phase{operation, phase}} 하나의 이름에 백분위 히스토그램을 켜서 등록한다.
+ */
+@Component
+public class RecommendationMetrics {
+
+    static final String SIMULATE = "simulate";
+    static final String GET_RUN = "get_run";
+    static final String REDIRECT = "redirect";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> phaseTimers = new ConcurrentHashMap<>();
+    private final Counter accountCandidatesCounter;
+    private final Counter cardCandidatesCounter;
+
+    public RecommendationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.accountCandidatesCounter = candidatesCounter(meterRegistry, "ACCOUNT");
+        this.cardCandidatesCounter = candidatesCounter(meterRegistry, "CARD");
+    }
+
+    public <T> T time(String operation, String phase, Supplier<T> work) {
+        return phaseTimer(operation, phase).record(work);
+    }
+
+    public void time(String operation, String phase, Runnable work) {
+        phaseTimer(operation, phase).record(work);
+    }
+
+    public void accountCandidatesScored(int count) {
+        accountCandidatesCounter.increment(count);
+    }
+
+    public void cardCandidatesScored(int count) {
+        cardCandidatesCounter.increment(count);
+    }
+
+    private Timer phaseTimer(String operation, String phase) {
+        return phaseTimers.computeIfAbsent(operation + ':' + phase, key -> Timer.builder("recommendation.phase")
+            .description("Time spent in one phase of a recommendation API call")
+            .tag("operation", operation)
+            .tag("phase", phase)
+            .publishPercentileHistogram()
+            .register(meterRegistry));
+    }
+
+    private static Counter candidatesCounter(MeterRegistry meterRegistry, String productType) {
+        return Counter.builder("recommendation.candidates.scored")
+            .description("Catalog candidates scored while ranking")
+            .tag("product_type", productType)
+            .register(meterRegistry);
+    }
+}
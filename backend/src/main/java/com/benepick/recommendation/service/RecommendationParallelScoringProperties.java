@@ -0,0 +1,33 @@
+package com.benepick.recommendation.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "recommendation.parallel-scoring")
+public class RecommendationParallelScoringProperties {
+
+    /**
+     * false면 후보 수와 관계없이 요청 스레드에서 순차 계산한다
+     */
+    private boolean enabled = true;
+
+    /**
+     * 이 개수 이상의 후보를 채점할 때만 병렬로 나눈다
+     */
+    private int threshold = 20000;
+
+    /**
+     * 한 작업이 더 나누지 않고 직접 채점할 최대 후보 수
+     */
+    private int splitSize = 4096;
+
+    /**
+     * 채점 전용 풀 스레드 수. 0 이하면 CPU 코어 수의 절반(최소 1)
+     */
+    private int parallelism = 0;
+}
@@ -2,15 +2,11 @@ package com.benepick.recommendation.service;
 
 import com.benepick.recommendation.dto.RecommendationQualityCategoryMetricResponse;
 import com.benepick.recommendation.dto.RecommendationQualityReportResponse;
-import com.benepick.recommendation.entity.AccountCatalogEntity;
-import com.benepick.recommendation.entity.CardCatalogEntity;
 import com.benepick.recommendation.entity.RecommendationItemEntity;
 import com.benepick.recommendation.entity.RecommendationQualityCategoryMetricEntity;
 import com.benepick.recommendation.entity.RecommendationQualitySnapshotEntity;
 import com.benepick.recommendation.entity.RecommendationRedirectEventEntity;
 import com.benepick.recommendation.entity.RecommendationRunEntity;
-import com.benepick.recommendation.repository.AccountCatalogRepository;
-import com.benepick.recommendation.repository.CardCatalogRepository;
 import com.benepick.recommendation.repository.RecommendationItemRepository;
 import com.benepick.recommendation.repository.RecommendationQualitySnapshotRepository;
 import com.benepick.recommendation.repository.RecommendationRedirectEventRepository;
@@ -33,8 +29,7 @@ public class RecommendationQualityLoopService {
     private final RecommendationRunRepository recommendationRunRepository;
     private final RecommendationItemRepository recommendationItemRepository;
     private final RecommendationRedirectEventRepository recommendationRedirectEventRepository;
-    private final AccountCatalogRepository accountCatalogRepository;
-    private final CardCatalogRepository cardCatalogRepository;
+    private final CatalogSnapshotService catalogSnapshotService;
     private final RecommendationQualitySnapshotRepository recommendationQualitySnapshotRepository;
     private final RecommendationQualityLoopProperties properties;
 
@@ -42,16 +37,14 @@ public class RecommendationQualityLoopService {
         RecommendationRunRepository recommendationRunRepository,
         RecommendationItemRepository recommendationItemRepository,
         RecommendationRedirectEventRepository recommendationRedirectEventRepository,
-        AccountCatalogRepository accountCatalogRepository,
-        CardCatalogRepository cardCatalogRepository,
+        CatalogSnapshotService catalogSnapshotService,
         RecommendationQualitySnapshotRepository recommendationQualitySnapshotRepository,
         RecommendationQualityLoopProperties properties
     ) {
         this.recommendationRunRepository = recommendationRunRepository;
         this.recommendationItemRepository = recommendationItemRepository;
         this.recommendationRedirectEventRepository = recommendationRedirectEventRepository;
-        this.accountCatalogRepository = accountCatalogRepository;
-        this.cardCatalogRepository = cardCatalogRepository;
+        this.catalogSnapshotService = catalogSnapshotService;
         this.recommendationQualitySnapshotRepository = recommendationQualitySnapshotRepository;
         this.properties = properties;
     }
@@ -115,17 +108,7 @@ public class RecommendationQualityLoopService {
         List<RecommendationItemEntity> items = recommendationItemRepository.findByRecommendationRun_IdIn(runIds);
         List<RecommendationRedirectEventEntity> events = recommendationRedirectEventRepository.findByRecommendationRunIdIn(runIds);
 
-        Map<String, Set<String>> accountTagsByProductId = new HashMap<>();
-        for (AccountCatalogEntity account : accountCatalogRepository.findByActiveTrue()) {
-            accountTagsByProductId.put(account.getProductKey(), normalizeSet(account.getTags()));
-        }
-
-        Map<String, Set<String>> cardTagsByProductId = new HashMap<>();
-        Map<String, Set<String>> cardCategoriesByProductId = new HashMap<>();
-        for (CardCatalogEntity card : cardCatalogRepository.findByActiveTrue()) {
-            cardTagsByProductId.put(card.getProductKey(), normalizeSet(card.getTags()));
-            cardCategoriesByProductId.put(card.getProductKey(), normalizeSet(card.getCategories()));
-        }
+        CatalogSnapshot catalog = catalogSnapshotService.current();
 
         Map<String, CategoryAggregate> aggregateByCategory = new HashMap<>();
         Map<String, String> categoryByRunItemKey = new HashMap<>();
@@ -136,12 +119,7 @@ public class RecommendationQualityLoopService {
             String runItemKey = buildRunItemKey(runId, item.getProductType(), item.getProductId());
             String productKey = buildProductKey(item.getProductType(), item.getProductId());
 
-            String categoryKey = resolveCategoryKey(
-                item,
-                accountTagsByProductId,
-                cardTagsByProductId,
-                cardCategoriesByProductId
-            );
+            String categoryKey = resolveCategoryKey(item, catalog);
 
             categoryByRunItemKey.put(runItemKey, categoryKey);
             productByRunItemKey.put(runItemKey, productKey);
@@ -212,24 +190,20 @@ public class RecommendationQualityLoopService {
         );
     }
 
-    private String resolveCategoryKey(
-        RecommendationItemEntity item,
-        Map<String, Set<String>> accountTagsByProductId,
-        Map<String, Set<String>> cardTagsByProductId,
-        Map<String, Set<String>> cardCategoriesByProductId
-    ) {
+    private String resolveCategoryKey(RecommendationItemEntity item, CatalogSnapshot catalog) {
         String productType = normalize(item.getProductType());
         String productId = item.getProductId();
 
         if ("account".equals(productType)) {
-            Set<String> tags = accountTagsByProductId.getOrDefault(productId, Set.of());
-            return classifyAccountCategory(tags);
+            return catalog.findAccount(productId)
+                .map(account -> account.features().reportCategory())
+                .orElse("other");
         }
 
         if ("card".equals(productType)) {
-            Set<String> tags = cardTagsByProductId.getOrDefault(productId, Set.of());
-            Set<String> categories = cardCategoriesByProductId.getOrDefault(productId, Set.of());
-            return classifyCardCategory(tags, categories);
+            return catalog.findCard(productId)
+                .map(card -> card.features().reportCategory())
+                .orElse("other");
         }
 
         return "other";
@@ -361,62 +335,6 @@ public class RecommendationQualityLoopService {
         };
     }
 
-    private String classifyAccountCategory(Set<String> tags) {
-        if (containsAny(tags, "savings", "goal", "auto")) {
-            return "savings";
-        }
-        if (containsAny(tags, "travel", "global", "fx")) {
-            return "travel";
-        }
-        if (containsAny(tags, "starter", "young", "low-fee")) {
-            return "starter";
-        }
-        if (containsAny(tags, "salary", "daily", "cashback")) {
-            return "salary";
-        }
-        return "other";
-    }
-
-    private String classifyCardCategory(Set<String> tags, Set<String> categories) {
-        if (containsAny(tags, "travel", "mileage")) {
-            return "travel";
-        }
-        if (containsAny(tags, "starter", "no-fee")) {
-            return "starter";
-        }
-        if (containsAny(categories, "online", "subscription")) {
-            return "online";
-        }
-        if (containsAny(categories, "grocery", "transport", "dining", "cafe") || containsAny(tags, "daily")) {
-            return "lifestyle";
-        }
-        return "other";
-    }
-
-    private Set<String> normalizeSet(Set<String> values) {
-        if (values == null || values.isEmpty()) {
-            return Set.of();
-        }
-
-        Set<String> normalized = new HashSet<>();
-        for (String value : values) {
-            if (value == null || value.isBlank()) {
-                continue;
-            }
-            normalized.add(value.trim().toLowerCase(Locale.ROOT));
-        }
-        return normalized;
-    }
-
-    private boolean containsAny(Set<String> values, String... candidates) {
-        for (String candidate : candidates) {
-            if (values.contains(candidate)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private String normalize(String value) {
         return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
     }
@@ -0,0 +1,33 @@
+package com.benepick.recommendation.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "recommendation.run-cache")
+public class RecommendationRunCacheProperties {
+
+    /**
+     * 실행 결과 응답(JSON 바이트) 메모리 캐시 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시에 보관할 최대 실행 수
+     */
+    private int maxEntries = 2000;
+
+    /**
+     * 캐시에 보관할 응답 바이트 총량 상한
+     */
+    private long maxBytes = 32L * 1024 * 1024;
+
+    /**
+     * 브라우저/CDN용 Cache-Control max-age (초)
+     */
+    private long maxAgeSeconds = 31536000;
+}
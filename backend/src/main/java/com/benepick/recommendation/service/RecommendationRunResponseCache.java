@@ -0,0 +1,102 @@
+package com.benepick.recommendation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장이 끝나면 바뀌지 않는 추천 실행 응답을 직렬화된 바이트와 ETag로 보관하는 LRU 캐시.
+ * 항목 수와 바이트 총량 두 기준으로 오래 쓰이지 않은 항목부터 밀어낸다({@link BoundedLruCache}의 무게 상한).
+ */
+@Component
+public class RecommendationRunResponseCache {
+
+    private static final int ETAG_HASH_BYTES = 16;
+
+    private final RecommendationRunCacheProperties properties;
+    private final BoundedLruCache<UUID, CachedRunResponse> entries;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public RecommendationRunResponseCache(RecommendationRunCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.entries = new BoundedLruCache<>(
+            properties.getMaxEntries(),
+            properties.getMaxBytes(),
+            response -> response.body().length
+        );
+        this.hitCounter = lookupCounter(meterRegistry, "hit");
+        this.missCounter = lookupCounter(meterRegistry, "miss");
+        Gauge.builder("recommendation.run_cache.bytes", this, RecommendationRunResponseCache::weightInBytes)
+            .description("Serialized recommendation run responses held in memory")
+            .register(meterRegistry);
+    }
+
+    public void put(UUID runId, String json) {
+        if (runId == null || json == null || !properties.isEnabled()) {
+            return;
+        }
+        entries.put(runId, toCached(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public CachedRunResponse getOrLoad(UUID runId, Supplier<byte[]> loader) {
+        if (!properties.isEnabled()) {
+            return toCached(loader.get());
+        }
+
+        CachedRunResponse cached = entries.get(runId);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        // 로딩은 락 밖에서 한다. 같은 실행을 동시에 읽으면 중복 로딩될 수 있지만 결과는 동일하다.
+        missCounter.increment();
+        CachedRunResponse loaded = toCached(loader.get());
+        entries.put(runId, loaded);
+        return loaded;
+    }
+
+    private double weightInBytes() {
+        return entries.weight();
+    }
+
+    private static CachedRunResponse toCached(byte[] body) {
+        return new CachedRunResponse(body, strongEtag(body), true);
+    }
+
+    private static String strongEtag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, ETAG_HASH_BYTES)) + "\"";
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("recommendation.run_cache.lookups")
+            .description("Recommendation run response cache lookups")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * @param stored 저장이 끝난 실행이면 true. false면 아직 쓰기 대기 중이라 캐시하지 않은 응답이다.
+     */
+    public record CachedRunResponse(byte[] body, String etag, boolean stored) {
+
+        public static CachedRunResponse pending(byte[] body) {
+            return new CachedRunResponse(body, strongEtag(body), false);
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.benepick.recommendation.service;
+
+import com.benepick.recommendation.entity.RecommendationItemEntity;
+import com.benepick.recommendation.entity.RecommendationRunEntity;
+import com.benepick.recommendation.repository.RecommendationItemRepository;
+import com.benepick.recommendation.repository.RecommendationRunRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 추천 실행(run)과 항목(item) 저장기.
+ * 비동기 모드에서는 요청 스레드가 대기열에 넣고 바로 반환하며, 백그라운드 스레드가 여러 실행을 한 트랜잭션으로 묶어 저장한다.
+ * 대기열이 가득 차면 잠시 기다린 뒤 요청 스레드에서 직접 저장해 메모리 사용량을 제한한다.
+ * 아직 저장되지 않은 실행은 {@link #findPending(UUID)}로 조회할 수 있다.
+ * 저장에 실패한 실행은 정해진 횟수까지 늦춰서 다시 시도하고, 끝내 실패하면 응답 페이로드를 ERROR 로그로 남긴다(dead letter).
+ * 응답 캐시에는 저장이 끝난 실행만 넣는다.
+ */
+@Service
+public class RecommendationRunWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(RecommendationRunWriter.class);
+
+    private final RecommendationRunRepository recommendationRunRepository;
+    private final RecommendationItemRepository recommendationItemRepository;
+    private final RecommendationRunWriterProperties properties;
+    private final RecommendationRunResponseCache recommendationRunResponseCache;
+    private final TransactionTemplate transactionTemplate;
+
+    private final BlockingQueue<QueuedRun> queue;
+    private final Map<UUID, PendingRun> pendingRuns = new ConcurrentHashMap<>();
+    // 재시도 대기 중인 실행. 작업 스레드(종료 후에는 종료 스레드)만 건드린다.
+    private final Deque<QueuedRun> retries = new ArrayDeque<>();
+
+    private final Counter enqueuedCounter;
+    private final Counter writtenCounter;
+    private final Counter callerRunsCounter;
+    private final Counter failedCounter;
+    private final Counter retriedCounter;
+    private final Counter itemsCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public RecommendationRunWriter(
+        RecommendationRunRepository recommendationRunRepository,
+        RecommendationItemRepository recommendationItemRepository,
+        RecommendationRunWriterProperties properties,
+        RecommendationRunResponseCache recommendationRunResponseCache,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        this.recommendationRunRepository = recommendationRunRepository;
+        this.recommendationItemRepository = recommendationItemRepository;
+        this.properties = properties;
+        this.recommendationRunResponseCache = recommendationRunResponseCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+
+        this.enqueuedCounter = runCounter(meterRegistry, "enqueued");
+        this.writtenCounter = runCounter(meterRegistry, "written");
+        this.callerRunsCounter = runCounter(meterRegistry, "caller_runs");
+        this.failedCounter = runCounter(meterRegistry, "failed");
+        this.retriedCounter = runCounter(meterRegistry, "retried");
+        this.itemsCounter = Counter.builder("recommendation.run_writer.items")
+            .description("Recommendation items persisted by the run writer")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("recommendation.run_writer.flush")
+            .description("Time spent writing one batch of recommendation runs")
+            .register(meterRegistry);
+        Gauge.builder("recommendation.run_writer.queue.depth", queue, BlockingQueue::size)
+            .description("Recommendation runs waiting to be written")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isAsyncEnabled()) {
+            return;
+        }
+
+        running = true;
+        worker = new Thread(this::drainLoop, "recommendation-run-writer");
+        worker.setDaemon(true);
+        worker.start();
+        log.info(
+            "Recommendation run write-behind enabled (queueCapacity={}, batchSize={})",
+            properties.getQueueCapacity(),
+            properties.getBatchSize()
+        );
+    }
+
+    @PreDestroy
+    void stop() {
+        if (worker == null) {
+            return;
+        }
+
+        running = false;
+        try {
+            worker.join(Math.max(0L, properties.getShutdownTimeoutMs()));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 시간 안에 비우지 못한 나머지와 재시도 대기분은 종료 스레드에서 한 번 더 저장하고, 실패하면 dead letter 로 남긴다.
+        List<QueuedRun> remaining = new ArrayList<>();
+        if (!worker.isAlive()) {
+            remaining.addAll(retries);
+            retries.clear();
+        }
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining, false);
+        }
+        log.info("Recommendation run writer stopped (flushedOnShutdown={})", remaining.size());
+    }
+
+    public void write(RecommendationRunEntity run, List<RecommendationItemEntity> items) {
+        if (!running) {
+            writeNow(List.of(new PendingRun(run, List.copyOf(items))));
+            return;
+        }
+
+        PendingRun pending = new PendingRun(run, List.copyOf(items));
+        pendingRuns.put(run.getId(), pending);
+
+        boolean accepted;
+        try {
+            accepted = queue.offer(
+                new QueuedRun(pending, 0, 0L),
+                Math.max(0L, properties.getOfferTimeoutMs()),
+                TimeUnit.MILLISECONDS
+            );
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+
+        if (accepted) {
+            enqueuedCounter.increment();
+            return;
+        }
+
+        // 대기열 포화: 요청 스레드에서 직접 저장해 생산 속도를 늦춘다.
+        callerRunsCounter.increment();
+        try {
+            writeNow(List.of(pending));
+        } finally {
+            pendingRuns.remove(run.getId());
+        }
+    }
+
+    /**
+     * 대기열을 거치지 않고 호출 스레드에서 한 트랜잭션으로 저장한다. 배치 API처럼 이미 묶인 요청에 쓴다.
+     */
+    public void writeAll(List<PendingRun> runs) {
+        if (runs.isEmpty()) {
+            return;
+        }
+        flushTimer.record(() -> writeNow(runs));
+        writtenCounter.increment(runs.size());
+    }
+
+    public Optional<PendingRun> findPending(UUID runId) {
+        if (runId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(pendingRuns.get(runId));
+    }
+
+    private void drainLoop() {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        long flushIntervalMs = Math.max(1L, properties.getFlushIntervalMs());
+        List<QueuedRun> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                takeDueRetries(batch, batchSize);
+                if (batch.size() < batchSize) {
+                    QueuedRun first = batch.isEmpty()
+                        ? queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS)
+                        : queue.poll();
+                    if (first != null) {
+                        batch.add(first);
+                        queue.drainTo(batch, batchSize - batch.size());
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    flush(batch, true);
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException exception) {
+                log.error("Recommendation run writer loop failed", exception);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void takeDueRetries(List<QueuedRun> batch, int batchSize) {
+        long now = System.nanoTime();
+        while (batch.size() < batchSize && !retries.isEmpty() && retries.peekFirst().retryAtNanos() - now <= 0) {
+            batch.add(retries.pollFirst());
+        }
+    }
+
+    /**
+     * @param retryLater false면(종료 중) 실패한 실행을 다시 미루지 않고 바로 dead letter 로 남긴다.
+     */
+    private void flush(List<QueuedRun> batch, boolean retryLater) {
+        try {
+            flushTimer.record(() -> writeNow(batch.stream().map(QueuedRun::pending).toList()));
+            writtenCounter.increment(batch.size());
+            batch.forEach(queued -> pendingRuns.remove(queued.pending().run().getId()));
+            return;
+        } catch (RuntimeException batchFailure) {
+            log.warn("Recommendation run batch write failed, retrying one by one (size={})", batch.size(), batchFailure);
+        }
+
+        for (QueuedRun queued : batch) {
+            PendingRun pending = queued.pending();
+            try {
+                writeNow(List.of(pending));
+                writtenCounter.increment();
+                pendingRuns.remove(pending.run().getId());
+            } catch (RuntimeException exception) {
+                if (retryLater && queued.attempt() < properties.getMaxRetries() && retries.size() < properties.getQueueCapacity()) {
+                    // 다시 시도할 때까지 findPending 으로 계속 조회된다.
+                    long delayMs = Math.max(0L, properties.getRetryDelayMs()) * (queued.attempt() + 1);
+                    retries.addLast(new QueuedRun(pending, queued.attempt() + 1, System.nanoTime() + delayMs * 1_000_000));
+                    retriedCounter.increment();
+                    log.warn(
+                        "Failed to write recommendation run {}, retrying in {}ms (attempt={})",
+                        pending.run().getId(),
+                        delayMs,
+                        queued.attempt() + 1,
+                        exception
+                    );
+                } else {
+                    deadLetter(pending, exception);
+                }
+            }
+        }
+    }
+
+    private void deadLetter(PendingRun pending, RuntimeException cause) {
+        failedCounter.increment();
+        pendingRuns.remove(pending.run().getId());
+        // 응답 캐시에는 아직 들어가지 않았으므로 이후 조회는 404가 된다. 페이로드로 수동 복구할 수 있게 남긴다.
+        log.error(
+            "Dead-lettered recommendation run {} (priority={}, items={}, payload={})",
+            pending.run().getId(),
+            pending.run().getPriority(),
+            pending.items().size(),
+            pending.run().getResponsePayload(),
+            cause
+        );
+    }
+
+    private void writeNow(List<PendingRun> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<RecommendationRunEntity> runs = new ArrayList<>(batch.size());
+            List<RecommendationItemEntity> items = new ArrayList<>();
+            for (PendingRun pending : batch) {
+                runs.add(pending.run());
+                items.addAll(pending.items());
+            }
+            recommendationRunRepository.saveAll(runs);
+            recommendationItemRepository.saveAll(items);
+        });
+        itemsCounter.increment(batch.stream().mapToInt(pending -> pending.items().size()).sum());
+        for (PendingRun pending : batch) {
+            recommendationRunResponseCache.put(pending.run().getId(), pending.run().getResponsePayload());
+        }
+    }
+
+    private static Counter runCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("recommendation.run_writer.runs")
+            .description("Recommendation runs handled by the run writer")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    public record PendingRun(RecommendationRunEntity run, List<RecommendationItemEntity> items) {
+    }
+
+    /**
+     * @param attempt 지금까지 실패 후 다시 넣은 횟수
+     * @param retryAtNanos 재시도 가능 시각(System.nanoTime 기준). 처음 넣은 실행은 0
+     */
+    private record QueuedRun(PendingRun pending, int attempt, long retryAtNanos) {
+    }
+}
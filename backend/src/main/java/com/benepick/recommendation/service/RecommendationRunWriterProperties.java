@@ -0,0 +1,53 @@
+package com.benepick.recommendation.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "recommendation.run-writer")
+public class RecommendationRunWriterProperties {
+
+    /**
+     * false면 simulate 요청 스레드에서 바로 저장한다
+     */
+    private boolean asyncEnabled = false;
+
+    /**
+     * 저장 대기열 최대 길이
+     */
+    private int queueCapacity = 2000;
+
+    /**
+     * 한 트랜잭션에 묶어 저장할 최대 실행 수
+     */
+    private int batchSize = 100;
+
+    /**
+     * 대기열이 한 배치보다 적을 때 모아서 쓰기까지 기다리는 시간
+     */
+    private long flushIntervalMs = 200;
+
+    /**
+     * 대기열이 가득 찼을 때 기다리는 시간, 초과 시 요청 스레드에서 직접 저장한다
+     */
+    private long offerTimeoutMs = 50;
+
+    /**
+     * 종료 시 남은 대기열을 비우기까지 기다리는 시간
+     */
+    private long shutdownTimeoutMs = 10000;
+
+    /**
+     * 저장 실패 시 다시 시도하는 최대 횟수, 넘으면 dead letter 로그로 남긴다(종료 중에는 재시도 없음)
+     */
+    private int maxRetries = 3;
+
+    /**
+     * 재시도 간격 기준값, n번째 재시도는 n배만큼 기다린다
+     */
+    private long retryDelayMs = 1000;
+}
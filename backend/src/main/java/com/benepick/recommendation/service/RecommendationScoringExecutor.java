@@ -0,0 +1,132 @@
+package com.benepick.recommendation.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 후보가 많을 때 채점을 전용 ForkJoinPool에서 구간별로 나눠 수행하고 구간별 상위 K를 병합한다.
+ * 서블릿 스레드나 공용 풀과 분리된 풀을 쓰므로 큰 카탈로그 채점이 다른 요청 처리 스레드를 잠식하지 않는다.
+ */
+@Component
+public class RecommendationScoringExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(RecommendationScoringExecutor.class);
+
+    private final RecommendationParallelScoringProperties properties;
+    private final ForkJoinPool pool;
+
+    public RecommendationScoringExecutor(RecommendationParallelScoringProperties properties) {
+        this.properties = properties;
+        this.pool = new ForkJoinPool(
+            resolveParallelism(properties.getParallelism()),
+            RecommendationScoringExecutor::newWorker,
+            null,
+            false
+        );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * 후보 목록에서 상위 {@code limit}개를 순위순으로 돌려준다.
+     * 구간 채점 함수는 받은 부분 목록만 보고 그 안의 상위 K를 만들어야 하며, 병합 결과는 순차 계산과 같다.
+     *
+     * @param sliceScorer 후보 부분 목록을 채점해 그 구간의 상위 K를 담은 힙을 돌려주는 함수
+     */
+    public <C, T> List<T> selectTop(List<C> candidates, Function<List<C>, BoundedTopK<T>> sliceScorer) {
+        if (!properties.isEnabled() || candidates.size() < Math.max(1, properties.getThreshold())) {
+            return sliceScorer.apply(candidates).toSortedList();
+        }
+
+        int splitSize = Math.max(1, properties.getSplitSize());
+        BoundedTopK<T> merged = pool.invoke(new SliceTask<>(candidates, 0, candidates.size(), splitSize, sliceScorer));
+        if (log.isDebugEnabled()) {
+            log.debug("Scored {} candidates in parallel (splitSize={})", candidates.size(), splitSize);
+        }
+        return merged.toSortedList();
+    }
+
+    /**
+     * 항목마다 {@code mapper}를 전용 풀에서 실행하고 결과를 입력 순서대로 돌려준다.
+     * 배치 simulate 처럼 여러 요청을 한꺼번에 계산할 때 공용 ForkJoinPool 대신 쓴다. mapper 예외는 그대로 전파된다.
+     */
+    public <T, R> List<R> mapAll(List<T> items, Function<T, R> mapper) {
+        if (items.size() <= 1) {
+            return items.stream().map(mapper).toList();
+        }
+
+        List<ForkJoinTask<R>> tasks = new ArrayList<>(items.size());
+        for (T item : items) {
+            tasks.add(pool.submit(() -> mapper.apply(item)));
+        }
+        List<R> results = new ArrayList<>(items.size());
+        for (ForkJoinTask<R> task : tasks) {
+            results.add(task.join());
+        }
+        return results;
+    }
+
+    private static int resolveParallelism(int configured) {
+        if (configured > 0) {
+            return configured;
+        }
+        return Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+    private static ForkJoinWorkerThread newWorker(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("recommendation-scoring-" + thread.getPoolIndex());
+        return thread;
+    }
+
+    private static final class SliceTask<C, T> extends RecursiveTask<BoundedTopK<T>> {
+
+        private final List<C> candidates;
+        private final int from;
+        private final int to;
+        private final int splitSize;
+        private final Function<List<C>, BoundedTopK<T>> sliceScorer;
+
+        private SliceTask(
+            List<C> candidates,
+            int from,
+            int to,
+            int splitSize,
+            Function<List<C>, BoundedTopK<T>> sliceScorer
+        ) {
+            this.candidates = candidates;
+            this.from = from;
+            this.to = to;
+            this.splitSize = splitSize;
+            this.sliceScorer = sliceScorer;
+        }
+
+        @Override
+        protected BoundedTopK<T> compute() {
+            if (to - from <= splitSize) {
+                return sliceScorer.apply(candidates.subList(from, to));
+            }
+
+            int middle = (from + to) >>> 1;
+            SliceTask<C, T> right = new SliceTask<>(candidates, middle, to, splitSize, sliceScorer);
+            right.fork();
+            BoundedTopK<T> left = new SliceTask<>(candidates, from, middle, splitSize, sliceScorer).compute();
+
+            // 앞 구간에 뒤 구간을 합친다. 동순위는 앞 구간이 남으므로 순차 계산과 결과가 같다.
+            left.offerAll(right.join());
+            return left;
+        }
+    }
+}
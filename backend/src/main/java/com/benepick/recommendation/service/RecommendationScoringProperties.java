@@ -1,5 +1,6 @@
 package com.benepick.recommendation.service;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -97,6 +98,7 @@ public class RecommendationScoringProperties {
 
     @Getter
     @Setter
+    @EqualsAndHashCode
     public static class Account {
 
         private int baseScore = 45;
@@ -152,6 +154,7 @@ public class RecommendationScoringProperties {
 
     @Getter
     @Setter
+    @EqualsAndHashCode
     public static class Card {
 
         private int baseScore = 45;
@@ -9,8 +9,6 @@ import com.benepick.recommendation.dto.RecommendationRedirectResponse;
 import com.benepick.recommendation.dto.RecommendationRunHistoryItemResponse;
 import com.benepick.recommendation.dto.RecommendationRunResponse;
 import com.benepick.recommendation.dto.SimulateRecommendationRequest;
-import com.benepick.recommendation.entity.AccountCatalogEntity;
-import com.benepick.recommendation.entity.CardCatalogEntity;
 import com.benepick.recommendation.entity.RecommendationItemEntity;
 import com.benepick.recommendation.entity.RecommendationRedirectEventEntity;
 import com.benepick.recommendation.entity.RecommendationRunEntity;
@@ -19,22 +17,21 @@ import com.benepick.recommendation.repository.CardCatalogRepository;
 import com.benepick.recommendation.repository.RecommendationItemRepository;
 import com.benepick.recommendation.repository.RecommendationRedirectEventRepository;
 import com.benepick.recommendation.repository.RecommendationRunRepository;
-import java.net.URI;
-import java.net.URISyntaxException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -44,43 +41,34 @@ import org.springframework.web.server.ResponseStatusException;
 @Service
 public class RecommendationService {
 
-    private static final Pattern MAX_RATE_PATTERN = Pattern.compile("최고\\s*([0-9]+(?:\\.[0-9]+)?)\\s*%");
-    private static final Pattern BASE_RATE_PATTERN = Pattern.compile("기본\\s*([0-9]+(?:\\.[0-9]+)?)\\s*%");
-    private static final Pattern ANNUAL_FEE_MAN_WON_PATTERN = Pattern.compile("([0-9]+(?:\\.[0-9]+)?)\\s*만원");
-    private static final Pattern ANNUAL_FEE_WON_PATTERN = Pattern.compile("([0-9]{1,3}(?:,[0-9]{3})+|[0-9]{4,7})\\s*원?");
-    private static final Pattern CARD_PERCENT_PATTERN = Pattern.compile("([0-9]+(?:\\.[0-9]+)?)\\s*%");
-    private static final Pattern CARD_AMOUNT_PATTERN = Pattern.compile(
-        "(월\\s*최대\\s*[0-9]+(?:,[0-9]{3})*(?:\\.[0-9]+)?\\s*(?:만원|원)|"
-            + "최대\\s*[0-9]+(?:,[0-9]{3})*(?:\\.[0-9]+)?\\s*(?:만원|원)|"
-            + "[0-9]+(?:,[0-9]{3})*(?:\\.[0-9]+)?\\s*(?:만원|원))"
-    );
-    private static final Set<String> CARD_BENEFIT_KEYWORDS = Set.of(
-        "할인",
-        "캐시백",
-        "적립",
-        "청구",
-        "환급",
-        "포인트",
-        "마일",
-        "리워드",
-        "혜택",
-        "우대",
-        "한도",
-        "최대",
-        "월"
-    );
-
-    private static final Map<String, String> CATEGORY_ALIASES = buildCategoryAliases();
-    private static final Map<String, String> CATEGORY_LABELS = buildCategoryLabels();
-    private static final List<CategoryKeywordRule> CATEGORY_KEYWORD_RULES = buildCategoryKeywordRules();
+    private static final Logger log = LoggerFactory.getLogger(RecommendationService.class);
+
+    private static final int RECOMMENDATION_LIMIT = 3;
+
+    private static final Pattern LINE_BREAK = Pattern.compile("\\R");
+    private static final Pattern SCORE_LINE_TOTAL_SUFFIX = Pattern.compile("\\s*=\\s*[-+]?\\d+\\s*점\\s*$");
+    private static final Pattern SCORE_PART = Pattern.compile("(.+)\\(([+-]?\\d+)점\\)$");
+
+    private static final Comparator<ScoredCandidate<?>> SCORED_CANDIDATE_ORDER = Comparator
+        .comparingInt((ScoredCandidate<?> candidate) -> candidate.score()).reversed()
+        .thenComparing((ScoredCandidate<?> candidate) -> candidate.provider())
+        .thenComparing((ScoredCandidate<?> candidate) -> candidate.name());
 
     private final RecommendationRunRepository recommendationRunRepository;
     private final RecommendationItemRepository recommendationItemRepository;
     private final RecommendationRedirectEventRepository recommendationRedirectEventRepository;
     private final AccountCatalogRepository accountCatalogRepository;
     private final CardCatalogRepository cardCatalogRepository;
+    private final CatalogSnapshotService catalogSnapshotService;
     private final RecommendationScoringProperties scoringProperties;
     private final ProductUrlOverrideService productUrlOverrideService;
+    private final RecommendationRunWriter recommendationRunWriter;
+    private final ObjectMapper objectMapper;
+    private final RecommendationRunResponseCache recommendationRunResponseCache;
+    private final RecommendationSimulateCacheProperties simulateCacheProperties;
+    private final RecommendationScoringExecutor scoringExecutor;
+    private final RecommendationMetrics metrics;
+    private final BoundedLruCache<RankingKey, RankingResult> rankingCache;
 
     public RecommendationService(
         RecommendationRunRepository recommendationRunRepository,
@@ -88,28 +76,71 @@ public class RecommendationService {
         RecommendationRedirectEventRepository recommendationRedirectEventRepository,
         AccountCatalogRepository accountCatalogRepository,
         CardCatalogRepository cardCatalogRepository,
+        CatalogSnapshotService catalogSnapshotService,
         RecommendationScoringProperties scoringProperties,
-        ProductUrlOverrideService productUrlOverrideService
+        ProductUrlOverrideService productUrlOverrideService,
+        RecommendationRunWriter recommendationRunWriter,
+        ObjectMapper objectMapper,
+        RecommendationRunResponseCache recommendationRunResponseCache,
+        RecommendationSimulateCacheProperties simulateCacheProperties,
+        RecommendationScoringExecutor scoringExecutor,
+        RecommendationMetrics metrics
     ) {
         this.recommendationRunRepository = recommendationRunRepository;
         this.recommendationItemRepository = recommendationItemRepository;
         this.recommendationRedirectEventRepository = recommendationRedirectEventRepository;
         this.accountCatalogRepository = accountCatalogRepository;
         this.cardCatalogRepository = cardCatalogRepository;
+        this.catalogSnapshotService = catalogSnapshotService;
         this.scoringProperties = scoringProperties;
         this.productUrlOverrideService = productUrlOverrideService;
+        this.recommendationRunWriter = recommendationRunWriter;
+        this.objectMapper = objectMapper;
+        this.recommendationRunResponseCache = recommendationRunResponseCache;
+        this.simulateCacheProperties = simulateCacheProperties;
+        this.scoringExecutor = scoringExecutor;
+        this.metrics = metrics;
+        this.rankingCache = new BoundedLruCache<>(simulateCacheProperties.getMaxEntries());
     }
 
-    @Transactional
     public RecommendationRunResponse simulate(SimulateRecommendationRequest request) {
-        Map<String, String> officialUrlOverrides = productUrlOverrideService.loadOverrides();
-        List<RankedProduct> rankedAccounts = rankAccounts(request, officialUrlOverrides);
-        List<RankedProduct> rankedCards = rankCards(request, officialUrlOverrides);
+        PreparedRun prepared = prepareRun(request, openScope());
+        metrics.time(RecommendationMetrics.SIMULATE, "persistence", () -> {
+            recommendationRunWriter.write(prepared.run(), prepared.items());
+        });
+        return prepared.response();
+    }
+
+    /**
+     * 여러 요청을 같은 카탈로그 스냅샷/오버라이드 테이블로 처리하기 위한 범위.
+     */
+    SimulationScope openScope() {
+        CatalogSnapshot catalog = metrics.time(
+            RecommendationMetrics.SIMULATE,
+            "catalog_load",
+            catalogSnapshotService::current
+        );
+        ProductUrlOverrideService.OverrideTable overrides = metrics.time(
+            RecommendationMetrics.SIMULATE,
+            "overrides_load",
+            productUrlOverrideService::loadTable
+        );
+        return new SimulationScope(catalog, overrides.overrides(), overrides.version());
+    }
+
+    /**
+     * 랭킹을 계산하고 저장할 실행/항목 엔티티와 응답을 만든다. 저장은 하지 않는다.
+     */
+    PreparedRun prepareRun(SimulateRecommendationRequest request, SimulationScope scope) {
+        RankingResult ranking = metrics.time(RecommendationMetrics.SIMULATE, "scoring", () -> rank(request, scope));
+        List<RankedProduct> rankedAccounts = ranking.accounts();
+        List<RankedProduct> rankedCards = ranking.cards();
 
         int expectedNetMonthlyProfit = estimateNetMonthlyProfit(rankedAccounts, rankedCards);
 
-        RecommendationRunEntity run = recommendationRunRepository.save(
-            new RecommendationRunEntity(request.priority().toUpperCase(), expectedNetMonthlyProfit)
+        RecommendationRunEntity run = new RecommendationRunEntity(
+            request.priority().toUpperCase(),
+            expectedNetMonthlyProfit
         );
 
         List<RecommendationItemEntity> savedItems = new ArrayList<>();
@@ -119,12 +150,11 @@ public class RecommendationService {
         for (RankedProduct ranked : rankedCards) {
             savedItems.add(toEntity(run, ranked));
         }
-        recommendationItemRepository.saveAll(savedItems);
 
         List<RecommendationItemResponse> accounts = toItemResponses(rankedAccounts);
         List<RecommendationItemResponse> cards = toItemResponses(rankedCards);
 
-        return new RecommendationRunResponse(
+        RecommendationRunResponse response = new RecommendationRunResponse(
             run.getId(),
             normalize(run.getPriority()),
             expectedNetMonthlyProfit,
@@ -132,17 +162,135 @@ public class RecommendationService {
             cards,
             List.of()
         );
+        String payload = metrics.time(
+            RecommendationMetrics.SIMULATE,
+            "serialization",
+            () -> writeResponsePayload(response)
+        );
+        run.attachResponsePayload(payload);
+
+        return new PreparedRun(run, savedItems, response);
+    }
+
+    /**
+     * 미리 만든 실행들을 한 트랜잭션으로 저장한다. 응답 캐시에는 저장기가 커밋 후 넣는다.
+     */
+    void persistPrepared(List<PreparedRun> preparedRuns) {
+        if (preparedRuns.isEmpty()) {
+            return;
+        }
+
+        recommendationRunWriter.writeAll(preparedRuns.stream()
+            .map(prepared -> new RecommendationRunWriter.PendingRun(prepared.run(), prepared.items()))
+            .toList());
+    }
+
+    /**
+     * 점수 계산은 요청을 정규화한 점수 입력(우선순위, 카테고리 마스크, 임계값 적용 결과, 가중치)에만 의존하므로
+     * 같은 입력 + 같은 카탈로그/오버라이드 버전이면 이전 랭킹을 그대로 쓴다.
+     */
+    private RankingResult rank(SimulateRecommendationRequest request, SimulationScope scope) {
+        CatalogSnapshot catalog = scope.catalog();
+        Map<String, String> officialUrlOverrides = scope.officialUrlOverrides();
+        AccountScoringContext accountContext = buildAccountScoringContext(request);
+        CardScoringContext cardContext = buildCardScoringContext(request);
+
+        if (!simulateCacheProperties.isEnabled()) {
+            return new RankingResult(
+                rankAccounts(accountContext, catalog, officialUrlOverrides),
+                rankCards(cardContext, catalog, officialUrlOverrides)
+            );
+        }
+
+        RankingKey key = new RankingKey(
+            catalog.version(),
+            scope.overridesVersion(),
+            accountContext,
+            cardContext
+        );
+        return rankingCache.computeIfAbsent(key, () -> new RankingResult(
+            rankAccounts(accountContext, catalog, officialUrlOverrides),
+            rankCards(cardContext, catalog, officialUrlOverrides)
+        ));
+    }
+
+    /**
+     * 실행 결과 응답을 직렬화된 JSON 바이트와 ETag로 돌려준다. 저장 후 바뀌지 않으므로 메모리 캐시를 먼저 본다.
+     */
+    public RecommendationRunResponseCache.CachedRunResponse getRunJson(UUID runId) {
+        // 아직 저장되지 않은 실행은 저장에 실패할 수 있으므로 캐시에 넣지 않고 immutable 로도 내려주지 않는다.
+        if (recommendationRunWriter.findPending(runId).isPresent()) {
+            RecommendationRunResponse response = getRun(runId);
+            return RecommendationRunResponseCache.CachedRunResponse.pending(
+                metrics.time(RecommendationMetrics.GET_RUN, "serialization", () -> serializeRunResponse(response))
+            );
+        }
+        return recommendationRunResponseCache.getOrLoad(runId, () -> {
+            RecommendationRunResponse response = getRun(runId);
+            return metrics.time(RecommendationMetrics.GET_RUN, "serialization", () -> serializeRunResponse(response));
+        });
     }
 
     @Transactional(readOnly = true)
     public RecommendationRunResponse getRun(UUID runId) {
-        RecommendationRunEntity run = recommendationRunRepository
-            .findById(runId)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Recommendation run not found"));
+        RecommendationRunEntity run = metrics.time(RecommendationMetrics.GET_RUN, "run_lookup", () -> recommendationRunWriter
+            .findPending(runId)
+            .map(RecommendationRunWriter.PendingRun::run)
+            .or(() -> recommendationRunRepository.findById(runId))
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Recommendation run not found")));
+
+        RecommendationRunResponse stored = metrics.time(
+            RecommendationMetrics.GET_RUN,
+            "payload_read",
+            () -> readResponsePayload(run)
+        );
+        if (stored != null) {
+            return stored;
+        }
 
-        List<RecommendationItemEntity> items = recommendationItemRepository
-            .findByRecommendationRun_IdOrderByProductTypeAscRankAsc(runId);
+        // 응답 페이로드 도입 이전 실행은 저장된 항목으로 다시 구성한다.
+        return metrics.time(RecommendationMetrics.GET_RUN, "rebuild", () -> toRunResponse(
+            run,
+            recommendationItemRepository.findByRecommendationRun_IdOrderByProductTypeAscRankAsc(runId)
+        ));
+    }
+
+    private byte[] serializeRunResponse(RecommendationRunResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException exception) {
+            throw new ResponseStatusException(
+                HttpStatus.INTERNAL_SERVER_ERROR,
+                "Failed to serialize recommendation run",
+                exception
+            );
+        }
+    }
+
+    private String writeResponsePayload(RecommendationRunResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException exception) {
+            log.warn("Failed to serialize recommendation run payload: {}", response.runId(), exception);
+            return null;
+        }
+    }
+
+    private RecommendationRunResponse readResponsePayload(RecommendationRunEntity run) {
+        String payload = run.getResponsePayload();
+        if (payload == null || payload.isBlank()) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(payload, RecommendationRunResponse.class);
+        } catch (JsonProcessingException exception) {
+            log.warn("Failed to read recommendation run payload: {}", run.getId(), exception);
+            return null;
+        }
+    }
 
+    private RecommendationRunResponse toRunResponse(RecommendationRunEntity run, List<RecommendationItemEntity> items) {
         Map<String, String> officialUrlOverrides = productUrlOverrideService.loadOverrides();
 
         List<RecommendationItemResponse> accounts = items.stream()
@@ -193,17 +341,23 @@ public class RecommendationService {
         String ipAddress,
         String referrer
     ) {
-        recommendationRunRepository.findById(runId)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Recommendation run not found"));
-
         String normalizedType = request.productType().toUpperCase();
+        RecommendationItemEntity item = metrics.time(
+            RecommendationMetrics.REDIRECT,
+            "item_lookup",
+            () -> findRunItem(runId, normalizedType, request.productId())
+        );
 
-        RecommendationItemEntity item = recommendationItemRepository
-            .findByRecommendationRun_IdAndProductTypeAndProductId(runId, normalizedType, request.productId())
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Recommendation item not found"));
-
-        Map<String, String> officialUrlOverrides = productUrlOverrideService.loadOverrides();
-        String resolvedOfficialUrl = resolveRedirectOfficialUrl(item, normalizedType, officialUrlOverrides);
+        Map<String, String> officialUrlOverrides = metrics.time(
+            RecommendationMetrics.REDIRECT,
+            "overrides_load",
+            productUrlOverrideService::loadOverrides
+        );
+        String resolvedOfficialUrl = metrics.time(
+            RecommendationMetrics.REDIRECT,
+            "url_resolve",
+            () -> resolveRedirectOfficialUrl(item, normalizedType, officialUrlOverrides)
+        );
 
         RecommendationRedirectEventEntity event = new RecommendationRedirectEventEntity(
             runId,
@@ -214,11 +368,30 @@ public class RecommendationService {
             ipAddress,
             referrer
         );
-        recommendationRedirectEventRepository.save(event);
+        metrics.time(RecommendationMetrics.REDIRECT, "persistence", () -> {
+            recommendationRedirectEventRepository.save(event);
+        });
 
         return new RecommendationRedirectResponse(resolvedOfficialUrl);
     }
 
+    private RecommendationItemEntity findRunItem(UUID runId, String productType, String productId) {
+        Optional<RecommendationRunWriter.PendingRun> pending = recommendationRunWriter.findPending(runId);
+        if (pending.isPresent()) {
+            return pending.get().items().stream()
+                .filter(item -> productType.equals(item.getProductType()) && item.getProductId().equals(productId))
+                .findFirst()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Recommendation item not found"));
+        }
+
+        recommendationRunRepository.findById(runId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Recommendation run not found"));
+
+        return recommendationItemRepository
+            .findByRecommendationRun_IdAndProductTypeAndProductId(runId, productType, productId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Recommendation item not found"));
+    }
+
     private String resolveRedirectOfficialUrl(
         RecommendationItemEntity item,
         String productType,
@@ -243,15 +416,15 @@ public class RecommendationService {
 
     private String resolveCatalogOfficialUrl(RecommendationItemEntity item, String productType) {
         if ("ACCOUNT".equals(productType)) {
-            return accountCatalogRepository.findByProductKey(item.getProductId())
-                .map(AccountCatalogEntity::getOfficialUrl)
+            return findAccountEntry(item.getProductId())
+                .map(CatalogSnapshot.AccountEntry::officialUrl)
                 .filter(url -> !normalize(url).isBlank())
                 .orElse(item.getOfficialUrl());
         }
 
         if ("CARD".equals(productType)) {
-            return cardCatalogRepository.findByProductKey(item.getProductId())
-                .map(CardCatalogEntity::getOfficialUrl)
+            return findCardEntry(item.getProductId())
+                .map(CatalogSnapshot.CardEntry::officialUrl)
                 .filter(url -> !normalize(url).isBlank())
                 .orElse(item.getOfficialUrl());
         }
@@ -259,356 +432,570 @@ public class RecommendationService {
         return item.getOfficialUrl();
     }
 
+    private Optional<CatalogSnapshot.AccountEntry> findAccountEntry(String productKey) {
+        Optional<CatalogSnapshot.AccountEntry> fromSnapshot = catalogSnapshotService.current().findAccount(productKey);
+        if (fromSnapshot.isPresent()) {
+            return fromSnapshot;
+        }
+        // 비활성화된 상품은 스냅샷에 없으므로 과거 실행 조회를 위해 DB로 보완
+        return accountCatalogRepository.findByProductKey(productKey).map(CatalogSnapshot.AccountEntry::from);
+    }
+
+    private Optional<CatalogSnapshot.CardEntry> findCardEntry(String productKey) {
+        Optional<CatalogSnapshot.CardEntry> fromSnapshot = catalogSnapshotService.current().findCard(productKey);
+        if (fromSnapshot.isPresent()) {
+            return fromSnapshot;
+        }
+        return cardCatalogRepository.findByProductKey(productKey).map(CatalogSnapshot.CardEntry::from);
+    }
+
     private List<RankedProduct> rankAccounts(
-        SimulateRecommendationRequest request,
+        AccountScoringContext context,
+        CatalogSnapshot catalog,
         Map<String, String> officialUrlOverrides
     ) {
+        List<CatalogSnapshot.AccountEntry> candidates = catalog.accounts();
+        if (candidates.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Account catalog is empty");
+        }
+        metrics.accountCandidatesScored(candidates.size());
+
+        // 1단계: 점수만 계산해 상위 K개를 고르고, 2단계: 선택된 상품만 근거/상세를 만든다.
+        List<ScoredProduct> scored = scoringExecutor
+            .selectTop(candidates, slice -> selectTopAccounts(slice, context))
+            .stream()
+            .map(winner -> buildAccountProduct(winner.candidate(), context, officialUrlOverrides))
+            .toList();
+
+        return assignRank(scored);
+    }
+
+    private BoundedTopK<ScoredCandidate<CatalogSnapshot.AccountEntry>> selectTopAccounts(
+        List<CatalogSnapshot.AccountEntry> candidates,
+        AccountScoringContext context
+    ) {
+        BoundedTopK<ScoredCandidate<CatalogSnapshot.AccountEntry>> topK =
+            new BoundedTopK<>(RECOMMENDATION_LIMIT, SCORED_CANDIDATE_ORDER);
+        for (CatalogSnapshot.AccountEntry candidate : candidates) {
+            int score = scoreAccount(candidate, context, null);
+            if (topK.isFull() && score < topK.worst().score()) {
+                continue;
+            }
+            topK.offer(new ScoredCandidate<>(candidate, score, candidate.providerName(), candidate.productName()));
+        }
+        return topK;
+    }
+
+    AccountScoringContext buildAccountScoringContext(SimulateRecommendationRequest request) {
         String priority = resolveAccountPriority(request);
         String salaryTransfer = normalize(request.salaryTransfer());
         String travelLevel = normalize(request.travelLevel());
-        Set<String> userCategories = resolveAccountUserCategories(request);
+        long userCategoryMask = resolveAccountUserCategories(request);
         RecommendationScoringProperties.Account accountScore = scoringProperties.resolvedAccount();
-        Set<String> accountIntentSignals = buildAccountIntentSignals(request, priority, salaryTransfer, travelLevel, userCategories, accountScore);
 
-        List<AccountCatalogEntity> candidates = accountCatalogRepository.findByActiveTrue();
-        if (candidates.isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Account catalog is empty");
-        }
+        return new AccountScoringContext(
+            priority,
+            "yes".equals(salaryTransfer),
+            "often".equals(travelLevel),
+            request.age() <= accountScore.getYoungAgeMax(),
+            request.monthlySpend() >= accountScore.getDailySpendThreshold(),
+            buildAccountIntentSignals(request, priority, salaryTransfer, travelLevel, userCategoryMask, accountScore),
+            accountScore
+        );
+    }
 
-        List<ScoredProduct> scored = candidates.stream()
-            .map(candidate -> {
-                int score = accountScore.getBaseScore();
-                List<String> reasons = new ArrayList<>();
-                List<ScoreReasonPart> scoreParts = new ArrayList<>();
-                addScorePart(scoreParts, "기본점수", accountScore.getBaseScore());
+    /**
+     * 계좌 점수 계산. trace가 null이면 점수만 계산하고 근거 문자열은 만들지 않는다.
+     */
+    private int scoreAccount(
+        CatalogSnapshot.AccountEntry candidate,
+        AccountScoringContext context,
+        ScoreTrace trace
+    ) {
+        RecommendationScoringProperties.Account accountScore = context.accountScore();
+        ProductFeatures features = candidate.features();
+        long accountSignals = features.signalMask();
 
-                Set<String> accountSignals = deriveAccountSignals(candidate);
-                Set<String> matchedIntentSignals = intersection(accountSignals, accountIntentSignals);
+        int score = accountScore.getBaseScore();
+        if (trace != null) {
+            trace.part("기본점수", accountScore.getBaseScore());
+        }
 
-                RateInfo rateInfo = extractRateInfo(candidate.getSummary());
-                if (rateInfo.maxRate() != null) {
-                    reasons.add("최고 금리 " + formatPercent(rateInfo.maxRate()) + "% (상품 요약 기준)");
-                    if (rateInfo.maxRate() >= accountScore.getHighRateThreshold()) {
-                        int bonus = accountScore.getHighRateBonusWeight();
-                        score += bonus;
-                        addScorePart(scoreParts, "고금리 보너스", bonus);
-                    }
-                }
-                if (rateInfo.baseRate() != null) {
-                    reasons.add("기본 금리 " + formatPercent(rateInfo.baseRate()) + "% 확인");
+        if (features.maxRate() != null) {
+            if (trace != null) {
+                String rateSource = features.maxRateFromSummary() ? "상품 요약 기준" : "금리 옵션 기준";
+                trace.reason("최고 금리 " + formatPercent(features.maxRate()) + "% (" + rateSource + ")");
+            }
+            if (features.maxRate() >= accountScore.getHighRateThreshold()) {
+                int bonus = accountScore.getHighRateBonusWeight();
+                score += bonus;
+                if (trace != null) {
+                    trace.part("고금리 보너스", bonus);
                 }
+            }
+        }
+        if (features.baseRate() != null && trace != null) {
+            trace.reason("기본 금리 " + formatPercent(features.baseRate()) + "% 확인");
+        }
 
-                if ("yes".equals(salaryTransfer) && accountSignals.contains("salary")) {
-                    int bonus = accountScore.getSalaryTransferWeight();
-                    score += bonus;
-                    addScorePart(scoreParts, "급여이체 우대", bonus);
-                    reasons.add("급여이체 조건 충족 시 우대 혜택 가능");
-                }
+        if (context.salaryTransfer() && (accountSignals & CategoryDictionary.SALARY) != 0) {
+            int bonus = accountScore.getSalaryTransferWeight();
+            score += bonus;
+            if (trace != null) {
+                trace.part("급여이체 우대", bonus);
+                trace.reason("급여이체 조건 충족 시 우대 혜택 가능");
+            }
+        }
 
-                switch (priority) {
-                    case "savings" -> {
-                        if (accountSignals.contains("savings")) {
-                            int bonus = accountScore.getPrioritySavingsWeight();
-                            score += bonus;
-                            addScorePart(scoreParts, "우선순위(저축/금리)", bonus);
-                            reasons.add("저축/금리 우선순위와 상품 성격 일치");
-                        }
-                    }
-                    case "salary" -> {
-                        if (accountSignals.contains("salary")) {
-                            int bonus = accountScore.getPrioritySalaryWeight();
-                            score += bonus;
-                            addScorePart(scoreParts, "우선순위(급여이체/주거래)", bonus);
-                            reasons.add("급여이체/주거래 중심 우선순위와 일치");
-                        }
-                    }
-                    case "starter" -> {
-                        if (accountSignals.contains("starter")) {
-                            int bonus = accountScore.getPriorityStarterWeight();
-                            score += bonus;
-                            addScorePart(scoreParts, "우선순위(초보/저비용)", bonus);
-                            reasons.add("초기 이용자 친화 조건과 일치");
-                        }
-                    }
-                    case "travel" -> {
-                        if (accountSignals.contains("travel") || accountSignals.contains("global")) {
-                            int bonus = accountScore.getPriorityTravelWeight();
-                            score += bonus;
-                            addScorePart(scoreParts, "우선순위(여행/해외)", bonus);
-                            reasons.add("여행/외화 중심 우선순위 반영");
-                        }
-                    }
-                    case "cashback" -> {
-                        if (accountSignals.contains("daily") || accountSignals.contains("salary")) {
-                            int bonus = accountScore.getPriorityCashbackWeight();
-                            score += bonus;
-                            addScorePart(scoreParts, "우선순위(생활할인)", bonus);
-                            reasons.add("생활소비 연동형 계좌 조건과 맞음");
-                        }
-                    }
-                    default -> {
+        switch (context.priority()) {
+            case "savings" -> {
+                if ((accountSignals & CategoryDictionary.SAVINGS) != 0) {
+                    int bonus = accountScore.getPrioritySavingsWeight();
+                    score += bonus;
+                    if (trace != null) {
+                        trace.part("우선순위(저축/금리)", bonus);
+                        trace.reason("저축/금리 우선순위와 상품 성격 일치");
                     }
                 }
-
-                if ("often".equals(travelLevel)
-                    && (accountSignals.contains("global") || accountSignals.contains("travel"))) {
-                    int bonus = accountScore.getTravelOftenGlobalWeight();
+            }
+            case "salary" -> {
+                if ((accountSignals & CategoryDictionary.SALARY) != 0) {
+                    int bonus = accountScore.getPrioritySalaryWeight();
                     score += bonus;
-                    addScorePart(scoreParts, "해외 이용 빈도", bonus);
-                    reasons.add("해외 이용 빈도에 적합한 신호 확인");
+                    if (trace != null) {
+                        trace.part("우선순위(급여이체/주거래)", bonus);
+                        trace.reason("급여이체/주거래 중심 우선순위와 일치");
+                    }
                 }
-
-                if (request.age() <= accountScore.getYoungAgeMax() && accountSignals.contains("starter")) {
-                    int bonus = accountScore.getYoungWeight();
+            }
+            case "starter" -> {
+                if ((accountSignals & CategoryDictionary.STARTER) != 0) {
+                    int bonus = accountScore.getPriorityStarterWeight();
                     score += bonus;
-                    addScorePart(scoreParts, "연령 우대", bonus);
-                    reasons.add("연령 구간에 맞는 우대/간편형 조건");
+                    if (trace != null) {
+                        trace.part("우선순위(초보/저비용)", bonus);
+                        trace.reason("초기 이용자 친화 조건과 일치");
+                    }
                 }
-
-                if (request.monthlySpend() >= accountScore.getDailySpendThreshold() && accountSignals.contains("daily")) {
-                    int bonus = accountScore.getDailySpendWeight();
+            }
+            case "travel" -> {
+                if ((accountSignals & (CategoryDictionary.TRAVEL | CategoryDictionary.GLOBAL)) != 0) {
+                    int bonus = accountScore.getPriorityTravelWeight();
                     score += bonus;
-                    addScorePart(scoreParts, "생활비 흐름 매칭", bonus);
-                    reasons.add("생활비 흐름과 연결되는 계좌 패턴");
+                    if (trace != null) {
+                        trace.part("우선순위(여행/해외)", bonus);
+                        trace.reason("여행/외화 중심 우선순위 반영");
+                    }
                 }
-
-                if (!matchedIntentSignals.isEmpty()) {
-                    int bonus = matchedIntentSignals.size() * accountScore.getIntentCategoryHitWeight();
+            }
+            case "cashback" -> {
+                if ((accountSignals & (CategoryDictionary.DAILY | CategoryDictionary.SALARY)) != 0) {
+                    int bonus = accountScore.getPriorityCashbackWeight();
                     score += bonus;
-                    addScorePart(scoreParts, "의도 신호 일치 x" + matchedIntentSignals.size(), bonus);
-                    reasons.add("일치 신호: " + labelsOf(matchedIntentSignals));
+                    if (trace != null) {
+                        trace.part("우선순위(생활할인)", bonus);
+                        trace.reason("생활소비 연동형 계좌 조건과 맞음");
+                    }
                 }
+            }
+            default -> {
+            }
+        }
 
-                int finalScore = Math.max(0, score);
-                String reasonText = buildReasonWithScore(
-                    scoreParts,
-                    reasons,
-                    finalScore,
-                    "총점 동점 시 기관명/상품명 순"
-                );
-                ProductBenefitEstimate benefitEstimate = estimateProductBenefit(
-                    "ACCOUNT",
-                    finalScore,
-                    scoreParts,
-                    reasonText
-                );
-
-                String resolvedOfficialUrl = resolveOfficialUrlForProduct(
-                    candidate.getProductKey(),
-                    "ACCOUNT",
-                    candidate.getProviderName(),
-                    candidate.getProductName(),
-                    candidate.getOfficialUrl(),
-                    officialUrlOverrides
-                );
-
-                return new ScoredProduct(
-                    "ACCOUNT",
-                    candidate.getProductKey(),
-                    candidate.getProviderName(),
-                    candidate.getProductName(),
-                    candidate.getSummary(),
-                    candidate.getAccountKind() + " 계좌",
-                    finalScore,
-                    reasonText,
-                    benefitEstimate.minExpectedMonthlyBenefit(),
-                    benefitEstimate.expectedMonthlyBenefit(),
-                    benefitEstimate.maxExpectedMonthlyBenefit(),
-                    benefitEstimate.estimateMethod(),
-                    benefitEstimate.benefitComponents(),
-                    resolvedOfficialUrl,
-                    buildAccountDetailFields(candidate, resolvedOfficialUrl)
-                );
-            })
-            .sorted(Comparator.comparingInt(ScoredProduct::score).reversed()
-                .thenComparing(ScoredProduct::provider)
-                .thenComparing(ScoredProduct::name))
-            .limit(3)
-            .toList();
+        if (context.travelOften()
+            && (accountSignals & (CategoryDictionary.GLOBAL | CategoryDictionary.TRAVEL)) != 0) {
+            int bonus = accountScore.getTravelOftenGlobalWeight();
+            score += bonus;
+            if (trace != null) {
+                trace.part("해외 이용 빈도", bonus);
+                trace.reason("해외 이용 빈도에 적합한 신호 확인");
+            }
+        }
 
-        return assignRank(scored);
+        if (context.youngAge() && (accountSignals & CategoryDictionary.STARTER) != 0) {
+            int bonus = accountScore.getYoungWeight();
+            score += bonus;
+            if (trace != null) {
+                trace.part("연령 우대", bonus);
+                trace.reason("연령 구간에 맞는 우대/간편형 조건");
+            }
+        }
+
+        if (context.dailySpend() && (accountSignals & CategoryDictionary.DAILY) != 0) {
+            int bonus = accountScore.getDailySpendWeight();
+            score += bonus;
+            if (trace != null) {
+                trace.part("생활비 흐름 매칭", bonus);
+                trace.reason("생활비 흐름과 연결되는 계좌 패턴");
+            }
+        }
+
+        long matchedIntentSignals = accountSignals & context.intentSignalMask();
+        int intentHit = Long.bitCount(matchedIntentSignals);
+        if (intentHit > 0) {
+            int bonus = intentHit * accountScore.getIntentCategoryHitWeight();
+            score += bonus;
+            if (trace != null) {
+                trace.part("의도 신호 일치 x" + intentHit, bonus);
+                trace.reason("일치 신호: " + CategoryDictionary.labelsOf(matchedIntentSignals));
+            }
+        }
+
+        return Math.max(0, score);
     }
 
-    private List<RankedProduct> rankCards(
-        SimulateRecommendationRequest request,
+    ScoredProduct buildAccountProduct(
+        CatalogSnapshot.AccountEntry candidate,
+        AccountScoringContext context,
         Map<String, String> officialUrlOverrides
     ) {
-        String priority = resolveCardPriority(request);
-        String travelLevel = normalize(request.travelLevel());
-        Set<String> userCategories = resolveCardUserCategories(request);
+        ScoreTrace trace = new ScoreTrace();
+        int finalScore = scoreAccount(candidate, context, trace);
+        String reasonText = buildReasonWithScore(
+            trace.scoreParts(),
+            trace.reasons(),
+            finalScore,
+            "총점 동점 시 기관명/상품명 순"
+        );
+        ProductBenefitEstimate benefitEstimate = estimateProductBenefit(
+            "ACCOUNT",
+            finalScore,
+            trace.scoreParts(),
+            reasonText
+        );
 
-        List<CardCatalogEntity> candidates = cardCatalogRepository.findByActiveTrue().stream()
-            .filter(candidate -> !lowerSet(candidate.getTags()).contains("stat-only"))
-            .toList();
+        String resolvedOfficialUrl = productUrlOverrideService.resolveOfficialUrl(
+            candidate.overrideLookupKeys(),
+            candidate.officialUrl(),
+            officialUrlOverrides
+        );
+
+        return new ScoredProduct(
+            "ACCOUNT",
+            candidate.productKey(),
+            candidate.providerName(),
+            candidate.productName(),
+            candidate.summary(),
+            candidate.accountKind() + " 계좌",
+            finalScore,
+            reasonText,
+            benefitEstimate.minExpectedMonthlyBenefit(),
+            benefitEstimate.expectedMonthlyBenefit(),
+            benefitEstimate.maxExpectedMonthlyBenefit(),
+            benefitEstimate.estimateMethod(),
+            benefitEstimate.benefitComponents(),
+            resolvedOfficialUrl,
+            buildAccountDetailFields(candidate, resolvedOfficialUrl)
+        );
+    }
+
+    private List<RankedProduct> rankCards(
+        CardScoringContext context,
+        CatalogSnapshot catalog,
+        Map<String, String> officialUrlOverrides
+    ) {
+        List<CatalogSnapshot.CardEntry> candidates = catalog.recommendableCards();
         if (candidates.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Card catalog is empty");
         }
 
-        RecommendationScoringProperties.Card cardScore = scoringProperties.resolvedCard();
+        List<ScoredCandidate<CatalogSnapshot.CardEntry>> winners = selectTopCardsFromIndex(
+            catalog.recommendableCardIndex(),
+            context
+        );
+        if (winners == null) {
+            metrics.cardCandidatesScored(candidates.size());
+            winners = scoringExecutor.selectTop(candidates, slice -> selectTopCards(slice, context));
+        }
 
-        List<ScoredProduct> scored = candidates.stream()
-            .map(candidate -> {
-                int score = cardScore.getBaseScore();
-                List<String> reasons = new ArrayList<>();
-                List<ScoreReasonPart> scoreParts = new ArrayList<>();
-                addScorePart(scoreParts, "기본점수", cardScore.getBaseScore());
+        List<ScoredProduct> scored = winners.stream()
+            .map(winner -> buildCardProduct(winner.candidate(), context, officialUrlOverrides))
+            .toList();
 
-                Set<String> tagSignals = canonicalizeCategories(candidate.getTags());
-                Set<String> cardCategories = deriveCardCategories(candidate);
-                Set<String> matchedCategories = intersection(cardCategories, userCategories);
+        return assignRank(scored);
+    }
 
-                int categoryHit = matchedCategories.size();
-                if (categoryHit > 0) {
-                    int bonus = categoryHit * cardScore.getCategoryHitWeight();
-                    score += bonus;
-                    addScorePart(scoreParts, "카테고리 일치 x" + categoryHit, bonus);
-                    reasons.add("소비 카테고리 일치: " + labelsOf(matchedCategories));
-                }
+    /**
+     * 사용자 카테고리와 겹치는 카드만 역색인으로 채점한다.
+     * 겹치지 않는 카드의 점수 상한보다 현재 K번째 점수가 높으면 나머지는 볼 필요가 없으므로 그대로 확정하고,
+     * 아니면 null을 돌려 전체 채점으로 넘어간다. 상한과 같은 점수는 이름순으로 역전될 수 있어 확정하지 않는다.
+     */
+    private List<ScoredCandidate<CatalogSnapshot.CardEntry>> selectTopCardsFromIndex(
+        CardCandidateIndex index,
+        CardScoringContext context
+    ) {
+        BoundedTopK<ScoredCandidate<CatalogSnapshot.CardEntry>> topK =
+            new BoundedTopK<>(RECOMMENDATION_LIMIT, SCORED_CANDIDATE_ORDER);
+        int visited = index.forEachMatch(
+            context.userCategoryMask(),
+            ordinal -> offerCard(topK, index.card(ordinal), context)
+        );
 
-                switch (priority) {
-                    case "cashback" -> {
-                        if (tagSignals.contains("daily") || tagSignals.contains("online")) {
-                            int bonus = cardScore.getPriorityCashbackWeight();
-                            score += bonus;
-                            addScorePart(scoreParts, "우선순위(생활할인)", bonus);
-                            reasons.add("생활 할인/캐시백 우선순위와 일치");
-                        }
-                    }
-                    case "travel" -> {
-                        if (cardCategories.contains("travel") || tagSignals.contains("travel")) {
-                            int bonus = cardScore.getPriorityTravelWeight();
-                            score += bonus;
-                            addScorePart(scoreParts, "우선순위(여행/해외)", bonus);
-                            reasons.add("여행/해외결제 우선순위 반영");
-                        }
-                    }
-                    case "starter" -> {
-                        if (cardCategories.contains("starter") || tagSignals.contains("starter")) {
-                            int bonus = cardScore.getPriorityStarterWeight();
-                            score += bonus;
-                            addScorePart(scoreParts, "우선순위(초보/저비용)", bonus);
-                            reasons.add("연회비 부담 최소 선호와 일치");
-                        }
-                    }
-                    case "savings" -> {
-                        if (cardCategories.contains("daily") || tagSignals.contains("online")) {
-                            int bonus = cardScore.getPrioritySavingsWeight();
-                            score += bonus;
-                            addScorePart(scoreParts, "우선순위(저축/절감)", bonus);
-                            reasons.add("저축 우선순위에 맞는 고정비/생활비 절감형");
-                        }
-                    }
-                    default -> {
-                    }
-                }
+        int unmatchedUpperBound = Math.max(0, cardScoreUpperBoundWithoutCategoryHit(context));
+        if (!topK.isFull() || topK.worst().score() <= unmatchedUpperBound) {
+            // 전체 채점으로 넘어가면 채점 수는 그쪽에서 한 번만 센다.
+            return null;
+        }
+        metrics.cardCandidatesScored(visited);
+        return topK.toSortedList();
+    }
+
+    private BoundedTopK<ScoredCandidate<CatalogSnapshot.CardEntry>> selectTopCards(
+        List<CatalogSnapshot.CardEntry> candidates,
+        CardScoringContext context
+    ) {
+        BoundedTopK<ScoredCandidate<CatalogSnapshot.CardEntry>> topK =
+            new BoundedTopK<>(RECOMMENDATION_LIMIT, SCORED_CANDIDATE_ORDER);
+        for (CatalogSnapshot.CardEntry candidate : candidates) {
+            offerCard(topK, candidate, context);
+        }
+        return topK;
+    }
+
+    private void offerCard(
+        BoundedTopK<ScoredCandidate<CatalogSnapshot.CardEntry>> topK,
+        CatalogSnapshot.CardEntry candidate,
+        CardScoringContext context
+    ) {
+        int score = scoreCard(candidate, context, null);
+        if (topK.isFull() && score < topK.worst().score()) {
+            return;
+        }
+        topK.offer(new ScoredCandidate<>(candidate, score, candidate.providerName(), candidate.productName()));
+    }
+
+    CardScoringContext buildCardScoringContext(SimulateRecommendationRequest request) {
+        RecommendationScoringProperties.Card cardScore = scoringProperties.resolvedCard();
+        return new CardScoringContext(
+            resolveCardPriority(request),
+            "often".equals(normalize(request.travelLevel())),
+            request.monthlySpend() >= cardScore.getDailySpendThreshold(),
+            resolveCardUserCategories(request),
+            cardScore
+        );
+    }
+
+    /**
+     * 카드 점수 계산. trace가 null이면 점수만 계산하고 근거 문자열은 만들지 않는다.
+     */
+    private int scoreCard(
+        CatalogSnapshot.CardEntry candidate,
+        CardScoringContext context,
+        ScoreTrace trace
+    ) {
+        RecommendationScoringProperties.Card cardScore = context.cardScore();
+        ProductFeatures features = candidate.features();
+        long tagSignals = features.tagSignalMask();
+        long cardCategories = features.signalMask();
+
+        int score = cardScore.getBaseScore();
+        if (trace != null) {
+            trace.part("기본점수", cardScore.getBaseScore());
+        }
+
+        long matchedCategories = cardCategories & context.userCategoryMask();
+        int categoryHit = Long.bitCount(matchedCategories);
+        if (categoryHit > 0) {
+            int bonus = categoryHit * cardScore.getCategoryHitWeight();
+            score += bonus;
+            if (trace != null) {
+                trace.part("카테고리 일치 x" + categoryHit, bonus);
+                trace.reason("소비 카테고리 일치: " + CategoryDictionary.labelsOf(matchedCategories));
+            }
+        }
 
-                if ("often".equals(travelLevel)
-                    && (cardCategories.contains("travel") || tagSignals.contains("travel"))) {
-                    int bonus = cardScore.getTravelOftenWeight();
+        switch (context.priority()) {
+            case "cashback" -> {
+                if ((tagSignals & (CategoryDictionary.DAILY | CategoryDictionary.ONLINE)) != 0) {
+                    int bonus = cardScore.getPriorityCashbackWeight();
                     score += bonus;
-                    addScorePart(scoreParts, "해외 이용 빈도", bonus);
-                    reasons.add("해외 이용 빈도에 유리한 혜택 구성");
+                    if (trace != null) {
+                        trace.part("우선순위(생활할인)", bonus);
+                        trace.reason("생활 할인/캐시백 우선순위와 일치");
+                    }
                 }
-
-                if (request.monthlySpend() >= cardScore.getDailySpendThreshold()
-                    && (tagSignals.contains("daily") || hasLifestyleCategory(cardCategories))) {
-                    int bonus = cardScore.getDailySpendWeight();
+            }
+            case "travel" -> {
+                if (((cardCategories | tagSignals) & CategoryDictionary.TRAVEL) != 0) {
+                    int bonus = cardScore.getPriorityTravelWeight();
                     score += bonus;
-                    addScorePart(scoreParts, "전월실적 달성 가능성", bonus);
-                    reasons.add("전월 실적 달성 가능성이 높은 소비 패턴");
+                    if (trace != null) {
+                        trace.part("우선순위(여행/해외)", bonus);
+                        trace.reason("여행/해외결제 우선순위 반영");
+                    }
                 }
-
-                String normalizedAnnualFeeText = normalizeAnnualFeeText(candidate.getAnnualFeeText());
-                AnnualFeeInfo annualFeeInfo = parseAnnualFee(normalizedAnnualFeeText);
-                if (annualFeeInfo.lowFee()) {
-                    int bonus = cardScore.getLowAnnualFeeBonusWeight();
+            }
+            case "starter" -> {
+                if (((cardCategories | tagSignals) & CategoryDictionary.STARTER) != 0) {
+                    int bonus = cardScore.getPriorityStarterWeight();
                     score += bonus;
-                    addScorePart(scoreParts, "연회비 저부담", bonus);
-                    reasons.add("연회비 부담이 낮음 (" + normalizedAnnualFeeText + ")");
-                } else if (annualFeeInfo.estimatedWon() != null
-                    && annualFeeInfo.estimatedWon() >= cardScore.getHighAnnualFeeThresholdWon()) {
-                    int penalty = cardScore.getHighAnnualFeePenaltyWeight();
-                    score -= penalty;
-                    addScorePart(scoreParts, "연회비 패널티", -penalty);
-                    reasons.add("연회비 수준 고려 필요 (" + normalizedAnnualFeeText + ")");
-                } else {
-                    reasons.add("연회비 정보 반영 (" + normalizedAnnualFeeText + ")");
+                    if (trace != null) {
+                        trace.part("우선순위(초보/저비용)", bonus);
+                        trace.reason("연회비 부담 최소 선호와 일치");
+                    }
                 }
-
-                if ("annualfee".equals(priority)) {
-                    if (annualFeeInfo.lowFee()) {
-                        int bonus = cardScore.getPriorityAnnualFeeWeight();
-                        score += bonus;
-                        addScorePart(scoreParts, "우선순위(연회비 절감)", bonus);
-                        reasons.add("연회비 절감 우선순위와 일치");
-                    } else if (annualFeeInfo.estimatedWon() != null
-                        && annualFeeInfo.estimatedWon() >= cardScore.getHighAnnualFeeThresholdWon()) {
-                        int penalty = Math.max(1, cardScore.getPriorityAnnualFeeWeight() / 2);
-                        score -= penalty;
-                        addScorePart(scoreParts, "우선순위(연회비 절감) 패널티", -penalty);
-                        reasons.add("연회비 절감 우선순위 대비 비용 부담이 큼");
+            }
+            case "savings" -> {
+                if ((cardCategories & CategoryDictionary.DAILY) != 0 || (tagSignals & CategoryDictionary.ONLINE) != 0) {
+                    int bonus = cardScore.getPrioritySavingsWeight();
+                    score += bonus;
+                    if (trace != null) {
+                        trace.part("우선순위(저축/절감)", bonus);
+                        trace.reason("저축 우선순위에 맞는 고정비/생활비 절감형");
                     }
                 }
+            }
+            default -> {
+            }
+        }
+
+        if (context.travelOften() && ((cardCategories | tagSignals) & CategoryDictionary.TRAVEL) != 0) {
+            int bonus = cardScore.getTravelOftenWeight();
+            score += bonus;
+            if (trace != null) {
+                trace.part("해외 이용 빈도", bonus);
+                trace.reason("해외 이용 빈도에 유리한 혜택 구성");
+            }
+        }
 
-                String summaryHighlight = summaryHighlight(candidate.getSummary());
-                String quantifiedBenefit = summarizeCardQuantifiedBenefits(candidate);
-                if (!quantifiedBenefit.startsWith("정량 혜택 정보 없음")) {
-                    reasons.add("혜택 수치: " + quantifiedBenefit);
-                } else if (!summaryHighlight.isBlank()) {
-                    reasons.add("핵심 혜택: " + summaryHighlight);
+        if (context.dailySpend()
+            && ((tagSignals & CategoryDictionary.DAILY) != 0 || (cardCategories & CategoryDictionary.LIFESTYLE) != 0)) {
+            int bonus = cardScore.getDailySpendWeight();
+            score += bonus;
+            if (trace != null) {
+                trace.part("전월실적 달성 가능성", bonus);
+                trace.reason("전월 실적 달성 가능성이 높은 소비 패턴");
+            }
+        }
+
+        boolean highAnnualFee = !features.lowAnnualFee()
+            && features.annualFeeWon() != null
+            && features.annualFeeWon() >= cardScore.getHighAnnualFeeThresholdWon();
+        if (features.lowAnnualFee()) {
+            int bonus = cardScore.getLowAnnualFeeBonusWeight();
+            score += bonus;
+            if (trace != null) {
+                trace.part("연회비 저부담", bonus);
+                trace.reason("연회비 부담이 낮음 (" + features.annualFeeText() + ")");
+            }
+        } else if (highAnnualFee) {
+            int penalty = cardScore.getHighAnnualFeePenaltyWeight();
+            score -= penalty;
+            if (trace != null) {
+                trace.part("연회비 패널티", -penalty);
+                trace.reason("연회비 수준 고려 필요 (" + features.annualFeeText() + ")");
+            }
+        } else if (trace != null) {
+            trace.reason("연회비 정보 반영 (" + features.annualFeeText() + ")");
+        }
+
+        if ("annualfee".equals(context.priority())) {
+            if (features.lowAnnualFee()) {
+                int bonus = cardScore.getPriorityAnnualFeeWeight();
+                score += bonus;
+                if (trace != null) {
+                    trace.part("우선순위(연회비 절감)", bonus);
+                    trace.reason("연회비 절감 우선순위와 일치");
+                }
+            } else if (highAnnualFee) {
+                int penalty = Math.max(1, cardScore.getPriorityAnnualFeeWeight() / 2);
+                score -= penalty;
+                if (trace != null) {
+                    trace.part("우선순위(연회비 절감) 패널티", -penalty);
+                    trace.reason("연회비 절감 우선순위 대비 비용 부담이 큼");
                 }
+            }
+        }
 
-                int finalScore = Math.max(0, score);
-                String reasonText = buildReasonWithScore(
-                    scoreParts,
-                    reasons,
-                    finalScore,
-                    "총점 동점 시 기관명/상품명 순"
-                );
-                ProductBenefitEstimate benefitEstimate = estimateProductBenefit(
-                    "CARD",
-                    finalScore,
-                    scoreParts,
-                    reasonText
-                );
-
-                String resolvedOfficialUrl = resolveOfficialUrlForProduct(
-                    candidate.getProductKey(),
-                    "CARD",
-                    candidate.getProviderName(),
-                    candidate.getProductName(),
-                    candidate.getOfficialUrl(),
-                    officialUrlOverrides
-                );
-
-                return new ScoredProduct(
-                    "CARD",
-                    candidate.getProductKey(),
-                    candidate.getProviderName(),
-                    candidate.getProductName(),
-                    candidate.getSummary(),
-                    normalizedAnnualFeeText,
-                    finalScore,
-                    reasonText,
-                    benefitEstimate.minExpectedMonthlyBenefit(),
-                    benefitEstimate.expectedMonthlyBenefit(),
-                    benefitEstimate.maxExpectedMonthlyBenefit(),
-                    benefitEstimate.estimateMethod(),
-                    benefitEstimate.benefitComponents(),
-                    resolvedOfficialUrl,
-                    buildCardDetailFields(candidate, resolvedOfficialUrl)
-                );
-            })
-            .sorted(Comparator.comparingInt(ScoredProduct::score).reversed()
-                .thenComparing(ScoredProduct::provider)
-                .thenComparing(ScoredProduct::name))
-            .limit(3)
-            .toList();
+        if (trace != null) {
+            if (features.hasQuantifiedBenefit()) {
+                trace.reason("혜택 수치: " + features.quantifiedBenefit());
+            } else if (!features.summaryHighlight().isBlank()) {
+                trace.reason("핵심 혜택: " + features.summaryHighlight());
+            }
+        }
 
-        return assignRank(scored);
+        return Math.max(0, score);
     }
 
-    private List<RecommendationBundleResponse> buildBundles(
+    /**
+     * 카테고리 일치가 하나도 없는 카드가 받을 수 있는 최고 점수. {@link #scoreCard} 규칙과 함께 유지해야 한다.
+     */
+    private int cardScoreUpperBoundWithoutCategoryHit(CardScoringContext context) {
+        RecommendationScoringProperties.Card cardScore = context.cardScore();
+        int bound = cardScore.getBaseScore();
+
+        bound += Math.max(0, switch (context.priority()) {
+            case "cashback" -> cardScore.getPriorityCashbackWeight();
+            case "travel" -> cardScore.getPriorityTravelWeight();
+            case "starter" -> cardScore.getPriorityStarterWeight();
+            case "savings" -> cardScore.getPrioritySavingsWeight();
+            default -> 0;
+        });
+        if (context.travelOften()) {
+            bound += Math.max(0, cardScore.getTravelOftenWeight());
+        }
+        if (context.dailySpend()) {
+            bound += Math.max(0, cardScore.getDailySpendWeight());
+        }
+
+        int lowFeeTerm = cardScore.getLowAnnualFeeBonusWeight();
+        int highFeeTerm = -cardScore.getHighAnnualFeePenaltyWeight();
+        if ("annualfee".equals(context.priority())) {
+            lowFeeTerm += cardScore.getPriorityAnnualFeeWeight();
+            highFeeTerm -= Math.max(1, cardScore.getPriorityAnnualFeeWeight() / 2);
+        }
+        bound += Math.max(0, Math.max(lowFeeTerm, highFeeTerm));
+
+        return bound;
+    }
+
+    ScoredProduct buildCardProduct(
+        CatalogSnapshot.CardEntry candidate,
+        CardScoringContext context,
+        Map<String, String> officialUrlOverrides
+    ) {
+        ScoreTrace trace = new ScoreTrace();
+        int finalScore = scoreCard(candidate, context, trace);
+        String reasonText = buildReasonWithScore(
+            trace.scoreParts(),
+            trace.reasons(),
+            finalScore,
+            "총점 동점 시 기관명/상품명 순"
+        );
+        ProductBenefitEstimate benefitEstimate = estimateProductBenefit(
+            "CARD",
+            finalScore,
+            trace.scoreParts(),
+            reasonText
+        );
+
+        String resolvedOfficialUrl = productUrlOverrideService.resolveOfficialUrl(
+            candidate.overrideLookupKeys(),
+            candidate.officialUrl(),
+            officialUrlOverrides
+        );
+
+        return new ScoredProduct(
+            "CARD",
+            candidate.productKey(),
+            candidate.providerName(),
+            candidate.productName(),
+            candidate.summary(),
+            candidate.features().annualFeeText(),
+            finalScore,
+            reasonText,
+            benefitEstimate.minExpectedMonthlyBenefit(),
+            benefitEstimate.expectedMonthlyBenefit(),
+            benefitEstimate.maxExpectedMonthlyBenefit(),
+            benefitEstimate.estimateMethod(),
+            benefitEstimate.benefitComponents(),
+            resolvedOfficialUrl,
+            buildCardDetailFields(candidate, resolvedOfficialUrl)
+        );
+    }
+
+    List<RecommendationBundleResponse> buildBundles(
         List<RecommendationItemResponse> accounts,
         List<RecommendationItemResponse> cards
     ) {
@@ -864,212 +1251,64 @@ public class RecommendationService {
     }
 
 
-    private Set<String> resolveAccountUserCategories(SimulateRecommendationRequest request) {
-        Set<String> accountCategories = canonicalizeCategories(request.accountCategories());
-        if (!accountCategories.isEmpty()) {
+    private long resolveAccountUserCategories(SimulateRecommendationRequest request) {
+        long accountCategories = ProductFeatureExtractor.canonicalizeCategories(request.accountCategories());
+        if (accountCategories != 0) {
             return accountCategories;
         }
-        return canonicalizeCategories(request.categories());
+        return ProductFeatureExtractor.canonicalizeCategories(request.categories());
     }
 
-    private Set<String> resolveCardUserCategories(SimulateRecommendationRequest request) {
-        Set<String> cardCategories = canonicalizeCategories(request.cardCategories());
-        if (!cardCategories.isEmpty()) {
+    private long resolveCardUserCategories(SimulateRecommendationRequest request) {
+        long cardCategories = ProductFeatureExtractor.canonicalizeCategories(request.cardCategories());
+        if (cardCategories != 0) {
             return cardCategories;
         }
-        return canonicalizeCategories(request.categories());
+        return ProductFeatureExtractor.canonicalizeCategories(request.categories());
     }
 
-    private Set<String> buildAccountIntentSignals(
+    private long buildAccountIntentSignals(
         SimulateRecommendationRequest request,
         String priority,
         String salaryTransfer,
         String travelLevel,
-        Set<String> userCategories,
+        long userCategoryMask,
         RecommendationScoringProperties.Account accountScore
     ) {
-        Set<String> signals = new HashSet<>();
+        long signals = 0L;
 
         if ("yes".equals(salaryTransfer)) {
-            signals.add("salary");
+            signals |= CategoryDictionary.SALARY;
         }
 
         if ("travel".equals(priority)) {
-            signals.add("travel");
-            signals.add("global");
+            signals |= CategoryDictionary.TRAVEL | CategoryDictionary.GLOBAL;
         } else if ("savings".equals(priority)) {
-            signals.add("savings");
+            signals |= CategoryDictionary.SAVINGS;
         } else if ("starter".equals(priority)) {
-            signals.add("starter");
+            signals |= CategoryDictionary.STARTER;
         } else if ("salary".equals(priority)) {
-            signals.add("salary");
-            signals.add("daily");
+            signals |= CategoryDictionary.SALARY | CategoryDictionary.DAILY;
         } else if ("cashback".equals(priority)) {
-            signals.add("daily");
+            signals |= CategoryDictionary.DAILY;
         }
 
         if ("often".equals(travelLevel) || "sometimes".equals(travelLevel)) {
-            signals.add("travel");
+            signals |= CategoryDictionary.TRAVEL;
         }
 
-        if (hasLifestyleCategory(userCategories) || request.monthlySpend() >= accountScore.getDailySpendThreshold()) {
-            signals.add("daily");
+        if ((userCategoryMask & CategoryDictionary.LIFESTYLE) != 0
+            || request.monthlySpend() >= accountScore.getDailySpendThreshold()) {
+            signals |= CategoryDictionary.DAILY;
         }
 
         if (request.age() <= accountScore.getYoungAgeMax()) {
-            signals.add("starter");
+            signals |= CategoryDictionary.STARTER;
         }
 
         return signals;
     }
 
-    private Set<String> deriveAccountSignals(AccountCatalogEntity candidate) {
-        Set<String> signals = new HashSet<>();
-        signals.addAll(canonicalizeCategories(candidate.getTags()));
-        signals.addAll(extractCategoriesFromText(candidate.getProductName()));
-        signals.addAll(extractCategoriesFromText(candidate.getSummary()));
-        signals.addAll(extractCategoriesFromText(candidate.getAccountKind()));
-
-        String accountKind = normalize(candidate.getAccountKind());
-        if (accountKind.contains("예금") || accountKind.contains("적금")) {
-            signals.add("savings");
-        }
-        if (accountKind.contains("외화")) {
-            signals.add("global");
-            signals.add("travel");
-        }
-        if (accountKind.contains("입출금")) {
-            signals.add("daily");
-        }
-
-        return signals;
-    }
-
-    private Set<String> deriveCardCategories(CardCatalogEntity candidate) {
-        Set<String> categories = new HashSet<>();
-
-        categories.addAll(canonicalizeCategories(candidate.getCategories()));
-        categories.addAll(canonicalizeCategories(candidate.getTags()));
-        categories.addAll(extractCategoriesFromText(candidate.getProductName()));
-        categories.addAll(extractCategoriesFromText(candidate.getSummary()));
-
-        Set<String> tags = lowerSet(candidate.getTags());
-        if (tags.contains("travel") || tags.contains("mileage")) {
-            categories.add("travel");
-        }
-        if (tags.contains("starter") || tags.contains("no-fee") || tags.contains("nofee")) {
-            categories.add("starter");
-        }
-        if (tags.contains("daily") || tags.contains("cashback")) {
-            categories.add("daily");
-        }
-
-        return categories;
-    }
-
-    private Set<String> canonicalizeCategories(Iterable<String> values) {
-        Set<String> result = new HashSet<>();
-        if (values == null) {
-            return result;
-        }
-
-        for (String value : values) {
-            result.addAll(canonicalizeCategoryValue(value));
-        }
-        return result;
-    }
-
-    private Set<String> canonicalizeCategoryValue(String raw) {
-        Set<String> result = new HashSet<>();
-        String normalized = normalize(raw);
-        if (normalized.isBlank()) {
-            return result;
-        }
-
-        // direct mapping for full token
-        String direct = CATEGORY_ALIASES.get(normalizeCategoryToken(normalized));
-        if (direct != null) {
-            result.add(direct);
-        }
-
-        // split mapping (e.g. "온라인/구독")
-        for (String part : normalized.split("[,|/\\s]+")) {
-            String mapped = CATEGORY_ALIASES.get(normalizeCategoryToken(part));
-            if (mapped != null) {
-                result.add(mapped);
-            }
-        }
-
-        // text keyword mapping fallback
-        result.addAll(extractCategoriesFromText(normalized));
-
-        return result;
-    }
-
-    private Set<String> extractCategoriesFromText(String text) {
-        Set<String> result = new HashSet<>();
-        String normalizedText = normalizeCategoryToken(text);
-        if (normalizedText.isBlank()) {
-            return result;
-        }
-
-        for (CategoryKeywordRule rule : CATEGORY_KEYWORD_RULES) {
-            for (String keyword : rule.keywords()) {
-                if (normalizedText.contains(keyword)) {
-                    result.add(rule.category());
-                    break;
-                }
-            }
-        }
-
-        return result;
-    }
-
-    private Set<String> intersection(Set<String> left, Set<String> right) {
-        if (left.isEmpty() || right.isEmpty()) {
-            return Set.of();
-        }
-
-        Set<String> intersection = new HashSet<>(left);
-        intersection.retainAll(right);
-        return intersection;
-    }
-
-    private boolean hasLifestyleCategory(Set<String> categories) {
-        return categories.contains("online")
-            || categories.contains("grocery")
-            || categories.contains("transport")
-            || categories.contains("dining")
-            || categories.contains("cafe")
-            || categories.contains("subscription")
-            || categories.contains("daily");
-    }
-
-    private RateInfo extractRateInfo(String summary) {
-        if (summary == null || summary.isBlank()) {
-            return new RateInfo(null, null);
-        }
-
-        Double maxRate = extractRate(summary, MAX_RATE_PATTERN);
-        Double baseRate = extractRate(summary, BASE_RATE_PATTERN);
-
-        return new RateInfo(maxRate, baseRate);
-    }
-
-    private Double extractRate(String text, Pattern pattern) {
-        Matcher matcher = pattern.matcher(text);
-        if (!matcher.find()) {
-            return null;
-        }
-
-        String value = matcher.group(1);
-        try {
-            return Double.parseDouble(value);
-        } catch (NumberFormatException exception) {
-            return null;
-        }
-    }
-
     private String formatPercent(Double value) {
         if (value == null) {
             return "";
@@ -1081,170 +1320,6 @@ public class RecommendationService {
         return String.format(Locale.ROOT, "%.2f", value).replaceAll("0+$", "").replaceAll("\\.$", "");
     }
 
-    private AnnualFeeInfo parseAnnualFee(String annualFeeText) {
-        String text = normalize(annualFeeText);
-        if (text.isBlank()) {
-            return new AnnualFeeInfo(true, null);
-        }
-
-        if (text.contains("없음") || text.contains("면제") || text.contains("무료") || text.contains("0원")) {
-            return new AnnualFeeInfo(true, 0);
-        }
-
-        Matcher manWonMatcher = ANNUAL_FEE_MAN_WON_PATTERN.matcher(text);
-        if (manWonMatcher.find()) {
-            try {
-                double manWon = Double.parseDouble(manWonMatcher.group(1));
-                int won = (int) Math.round(manWon * 10000);
-                return new AnnualFeeInfo(won <= 0, won);
-            } catch (NumberFormatException ignored) {
-                // fallback to next parser
-            }
-        }
-
-        Matcher wonMatcher = ANNUAL_FEE_WON_PATTERN.matcher(text);
-        if (wonMatcher.find()) {
-            String rawNumber = wonMatcher.group(1).replace(",", "");
-            try {
-                int won = Integer.parseInt(rawNumber);
-                return new AnnualFeeInfo(won <= 0, won);
-            } catch (NumberFormatException ignored) {
-                // ignore
-            }
-        }
-
-        return new AnnualFeeInfo(false, null);
-    }
-
-    private String summaryHighlight(String summary) {
-        String normalized = normalize(summary);
-        if (normalized.isBlank()) {
-            return "";
-        }
-
-        String compact = summary.replaceAll("\\s+", " ").trim();
-        if (compact.length() <= 48) {
-            return compact;
-        }
-        return compact.substring(0, 48) + "...";
-    }
-
-    private String summarizeCardQuantifiedBenefits(CardCatalogEntity candidate) {
-        String summary = normalize(candidate.getSummary());
-        if (summary.isBlank()) {
-            return "정량 혜택 정보 없음 (공식 페이지에서 할인/적립 한도 확인)";
-        }
-
-        List<String> segments = splitTextSegments(candidate.getSummary());
-        Set<String> captures = new LinkedHashSet<>();
-
-        for (String segment : segments) {
-            if (!containsDigit(segment)) {
-                continue;
-            }
-
-            boolean hasBenefitKeyword = containsAnyKeyword(normalize(segment), CARD_BENEFIT_KEYWORDS);
-            if (hasBenefitKeyword) {
-                captures.add(compactSegment(segment));
-            }
-        }
-
-        Matcher percentMatcher = CARD_PERCENT_PATTERN.matcher(candidate.getSummary());
-        while (percentMatcher.find() && captures.size() < 5) {
-            captures.add(percentMatcher.group(1) + "%");
-        }
-
-        Matcher amountMatcher = CARD_AMOUNT_PATTERN.matcher(candidate.getSummary());
-        while (amountMatcher.find() && captures.size() < 5) {
-            captures.add(compactSegment(amountMatcher.group(1)));
-        }
-
-        if (captures.isEmpty()) {
-            return "정량 혜택 정보 없음 (공식 페이지에서 할인/적립 한도 확인)";
-        }
-
-        return captures.stream().limit(4).collect(Collectors.joining(" · "));
-    }
-
-    private String buildAnnualFeeEstimateText(String annualFeeText) {
-        AnnualFeeInfo annualFeeInfo = parseAnnualFee(annualFeeText);
-        if (annualFeeInfo.estimatedWon() == null) {
-            return "수치 확인 어려움";
-        }
-
-        if (annualFeeInfo.estimatedWon() == 0) {
-            return "0원 (면제/없음)";
-        }
-
-        return annualFeeInfo.estimatedWon() + "원 수준";
-    }
-
-    private String normalizeAnnualFeeText(String annualFeeText) {
-        String normalized = annualFeeText == null ? "" : annualFeeText.trim();
-        if (normalized.isBlank()) {
-            return "연회비 정보 없음";
-        }
-
-        String lower = normalize(normalized);
-        if ("없음".equals(lower)
-            || "면제".equals(lower)
-            || "무료".equals(lower)
-            || "0원".equals(lower)
-            || "무연회비".equals(lower)) {
-            return "연회비 없음";
-        }
-
-        return normalized;
-    }
-
-    private List<String> splitTextSegments(String text) {
-        String normalized = text == null ? "" : text.replace('\n', ' ');
-        String[] tokens = normalized.split("[·;,|]");
-        List<String> segments = new ArrayList<>();
-        for (String token : tokens) {
-            String compact = compactSegment(token);
-            if (!compact.isBlank()) {
-                segments.add(compact);
-            }
-        }
-        return segments;
-    }
-
-    private String compactSegment(String value) {
-        if (value == null) {
-            return "";
-        }
-        return value.replaceAll("\\s+", " ").trim();
-    }
-
-    private boolean containsDigit(String value) {
-        if (value == null) {
-            return false;
-        }
-        for (int i = 0; i < value.length(); i++) {
-            if (Character.isDigit(value.charAt(i))) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private boolean containsAnyKeyword(String text, Set<String> keywords) {
-        for (String keyword : keywords) {
-            if (text.contains(keyword)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private String labelsOf(Set<String> categories) {
-        return categories.stream()
-            .sorted()
-            .map(category -> CATEGORY_LABELS.getOrDefault(category, category))
-            .collect(Collectors.joining(", "));
-    }
-
     private List<RankedProduct> assignRank(List<ScoredProduct> scoredProducts) {
         List<RankedProduct> ranked = new ArrayList<>();
         for (int i = 0; i < scoredProducts.size(); i++) {
@@ -1350,15 +1425,12 @@ public class RecommendationService {
         Map<String, String> officialUrlOverrides
     ) {
         if ("ACCOUNT".equals(item.getProductType())) {
-            return accountCatalogRepository.findByProductKey(item.getProductId())
+            return findAccountEntry(item.getProductId())
                 .map(candidate -> buildAccountDetailFields(
                     candidate,
-                    resolveOfficialUrlForProduct(
-                        candidate.getProductKey(),
-                        "ACCOUNT",
-                        candidate.getProviderName(),
-                        candidate.getProductName(),
-                        candidate.getOfficialUrl(),
+                    productUrlOverrideService.resolveOfficialUrl(
+                        candidate.overrideLookupKeys(),
+                        candidate.officialUrl(),
                         officialUrlOverrides
                     )
                 ))
@@ -1366,15 +1438,12 @@ public class RecommendationService {
         }
 
         if ("CARD".equals(item.getProductType())) {
-            return cardCatalogRepository.findByProductKey(item.getProductId())
+            return findCardEntry(item.getProductId())
                 .map(candidate -> buildCardDetailFields(
                     candidate,
-                    resolveOfficialUrlForProduct(
-                        candidate.getProductKey(),
-                        "CARD",
-                        candidate.getProviderName(),
-                        candidate.getProductName(),
-                        candidate.getOfficialUrl(),
+                    productUrlOverrideService.resolveOfficialUrl(
+                        candidate.overrideLookupKeys(),
+                        candidate.officialUrl(),
                         officialUrlOverrides
                     )
                 ))
@@ -1385,25 +1454,26 @@ public class RecommendationService {
     }
 
     private List<RecommendationDetailFieldResponse> buildAccountDetailFields(
-        AccountCatalogEntity candidate,
+        CatalogSnapshot.AccountEntry candidate,
         String officialUrl
     ) {
         List<RecommendationDetailFieldResponse> fields = new ArrayList<>();
         OfficialLinkPlan linkPlan = resolveOfficialLinkPlan(
             "ACCOUNT",
-            candidate.getProviderName(),
-            candidate.getProductName(),
-            officialUrl
+            candidate.providerName(),
+            candidate.productName(),
+            officialUrl,
+            candidate.features()
         );
 
-        addDetailField(fields, "상품명", candidate.getProductName());
-        addDetailField(fields, "상품유형", candidate.getAccountKind() + " 계좌");
-        addDetailField(fields, "가입대상", inferAccountEligibility(candidate));
-        addDetailField(fields, "핵심 설명", candidate.getSummary());
+        addDetailField(fields, "상품명", candidate.productName());
+        addDetailField(fields, "상품유형", candidate.accountKind() + " 계좌");
+        addDetailField(fields, "가입대상", candidate.features().eligibility());
+        addDetailField(fields, "핵심 설명", candidate.summary());
 
-        Set<String> tagSignals = canonicalizeCategories(candidate.getTags());
-        if (!tagSignals.isEmpty()) {
-            addDetailField(fields, "핵심 태그", labelsOf(tagSignals));
+        long tagSignals = candidate.features().tagSignalMask();
+        if (tagSignals != 0) {
+            addDetailField(fields, "핵심 태그", CategoryDictionary.labelsOf(tagSignals));
         }
 
         appendOfficialLinkFields(fields, linkPlan);
@@ -1411,33 +1481,34 @@ public class RecommendationService {
     }
 
     private List<RecommendationDetailFieldResponse> buildCardDetailFields(
-        CardCatalogEntity candidate,
+        CatalogSnapshot.CardEntry candidate,
         String officialUrl
     ) {
         List<RecommendationDetailFieldResponse> fields = new ArrayList<>();
         OfficialLinkPlan linkPlan = resolveOfficialLinkPlan(
             "CARD",
-            candidate.getProviderName(),
-            candidate.getProductName(),
-            officialUrl
+            candidate.providerName(),
+            candidate.productName(),
+            officialUrl,
+            candidate.features()
         );
 
-        addDetailField(fields, "상품명", candidate.getProductName());
-        String normalizedAnnualFeeText = normalizeAnnualFeeText(candidate.getAnnualFeeText());
-        addDetailField(fields, "연회비", normalizedAnnualFeeText);
-        addDetailField(fields, "연회비(추정)", buildAnnualFeeEstimateText(normalizedAnnualFeeText));
-        addDetailField(fields, "가입대상", inferCardEligibility(candidate));
-        addDetailField(fields, "핵심 혜택", candidate.getSummary());
-        addDetailField(fields, "정량 혜택", summarizeCardQuantifiedBenefits(candidate));
+        addDetailField(fields, "상품명", candidate.productName());
+        ProductFeatures features = candidate.features();
+        addDetailField(fields, "연회비", features.annualFeeText());
+        addDetailField(fields, "연회비(추정)", features.annualFeeEstimateText());
+        addDetailField(fields, "가입대상", features.eligibility());
+        addDetailField(fields, "핵심 혜택", candidate.summary());
+        addDetailField(fields, "정량 혜택", features.quantifiedBenefit());
 
-        Set<String> categories = deriveCardCategories(candidate);
-        if (!categories.isEmpty()) {
-            addDetailField(fields, "혜택 카테고리", labelsOf(categories));
+        long categories = features.signalMask();
+        if (categories != 0) {
+            addDetailField(fields, "혜택 카테고리", CategoryDictionary.labelsOf(categories));
         }
 
-        Set<String> tagSignals = canonicalizeCategories(candidate.getTags());
-        if (!tagSignals.isEmpty()) {
-            addDetailField(fields, "핵심 태그", labelsOf(tagSignals));
+        long tagSignals = features.tagSignalMask();
+        if (tagSignals != 0) {
+            addDetailField(fields, "핵심 태그", CategoryDictionary.labelsOf(tagSignals));
         }
 
         appendOfficialLinkFields(fields, linkPlan);
@@ -1461,7 +1532,8 @@ public class RecommendationService {
             item.getProductType(),
             item.getProviderName(),
             item.getProductName(),
-            resolvedOfficialUrl
+            resolvedOfficialUrl,
+            null
         );
         addDetailField(fields, "상품명", item.getProductName());
         addDetailField(fields, "요약", item.getSummary());
@@ -1499,100 +1571,25 @@ public class RecommendationService {
         String productType,
         String providerName,
         String productName,
-        String officialUrl
+        String officialUrl,
+        ProductFeatures features
     ) {
-        String normalizedUrl = normalizeOfficialUrl(officialUrl);
+        String normalizedUrl = ProductFeatureExtractor.normalizeOfficialUrl(officialUrl);
         if (normalizedUrl.isBlank()) {
             return new OfficialLinkPlan("", "공식 링크 미제공", "", "");
         }
 
-        if (!isLikelyGenericOfficialUrl(normalizedUrl)) {
+        // 오버라이드가 없으면 스냅샷에서 미리 분류한 링크 유형을 그대로 쓴다.
+        boolean generic = features != null && normalizedUrl.equals(features.officialUrl())
+            ? features.genericOfficialUrl()
+            : ProductFeatureExtractor.isLikelyGenericOfficialUrl(normalizedUrl);
+        if (!generic) {
             return new OfficialLinkPlan(normalizedUrl, "공식 상품 상세 링크", normalizedUrl, "");
         }
 
         return new OfficialLinkPlan(normalizedUrl, "공식 홈페이지/목록 링크", normalizedUrl, "");
     }
 
-    private boolean isLikelyGenericOfficialUrl(String rawUrl) {
-        try {
-            URI uri = new URI(rawUrl);
-            String host = normalize(uri.getHost());
-            String path = normalize(uri.getPath());
-            String query = normalize(uri.getQuery());
-
-            if (host.isBlank()) {
-                return true;
-            }
-
-            if (query.contains("prd") || query.contains("product") || query.contains("code=") || query.contains("id=")) {
-                return false;
-            }
-
-            if ("/".equals(path) || path.isBlank()) {
-                return true;
-            }
-
-            if (host.contains("epostbank.go.kr") && path.contains("cdcf")) {
-                return true;
-            }
-
-            if (host.contains("kdb.co.kr") && ("/".equals(path) || path.contains("/main"))) {
-                return true;
-            }
-
-            if (host.contains("fsc.go.kr") || host.contains("finlife.fss.or.kr")) {
-                return true;
-            }
-
-            int segmentCount = 0;
-            for (String segment : path.split("/")) {
-                if (!segment.isBlank()) {
-                    segmentCount++;
-                }
-            }
-            return segmentCount <= 1 && query.isBlank();
-        } catch (URISyntaxException exception) {
-            return true;
-        }
-    }
-
-
-    private String normalizeOfficialUrl(String value) {
-        if (value == null) {
-            return "";
-        }
-        String normalized = value.trim();
-        if (normalized.isBlank()) {
-            return "";
-        }
-        if (normalized.startsWith("http://") || normalized.startsWith("https://")) {
-            return normalized;
-        }
-        return "https://" + normalized;
-    }
-
-    private String inferAccountEligibility(AccountCatalogEntity candidate) {
-        String text = normalize(candidate.getProductName() + " " + candidate.getSummary() + " " + candidate.getAccountKind());
-        if (text.contains("청년") || text.contains("young")) {
-            return "청년/사회초년생 우대 가능";
-        }
-        if (text.contains("법인") || text.contains("기업")) {
-            return "개인·법인 구분형 (세부 조건은 공식 페이지 확인)";
-        }
-        return "개인 고객 중심 (세부 조건은 공식 페이지 확인)";
-    }
-
-    private String inferCardEligibility(CardCatalogEntity candidate) {
-        String text = normalize(candidate.getProductName() + " " + candidate.getSummary());
-        if (text.contains("법인")) {
-            return "개인/법인 구분형 (세부 조건은 공식 페이지 확인)";
-        }
-        if (text.contains("개인")) {
-            return "개인 고객";
-        }
-        return "개인 고객 중심 (발급 조건은 공식 페이지 확인)";
-    }
-
     private void addDetailField(List<RecommendationDetailFieldResponse> fields, String label, String value) {
         addDetailField(fields, label, value, false);
     }
@@ -1606,19 +1603,6 @@ public class RecommendationService {
         fields.add(new RecommendationDetailFieldResponse(normalizedLabel, normalizedValue, link));
     }
 
-    private Set<String> lowerSet(Iterable<String> values) {
-        Set<String> result = new HashSet<>();
-        if (values == null) {
-            return result;
-        }
-        for (String value : values) {
-            if (value != null && !value.isBlank()) {
-                result.add(value.trim().toLowerCase(Locale.ROOT));
-            }
-        }
-        return result;
-    }
-
     private String normalizePriority(String value) {
         String normalized = normalize(value);
         return switch (normalized) {
@@ -1664,15 +1648,6 @@ public class RecommendationService {
         return fallback;
     }
 
-    private String normalizeCategoryToken(String value) {
-        if (value == null) {
-            return "";
-        }
-        return value.toLowerCase(Locale.ROOT)
-            .replaceAll("[\\s_./|-]+", "")
-            .replaceAll("[^a-z0-9가-힣]", "");
-    }
-
     private String normalize(String value) {
         return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
     }
@@ -1718,13 +1693,6 @@ public class RecommendationService {
         return String.join(delimiter, deduplicated);
     }
 
-    private void addScorePart(List<ScoreReasonPart> scoreParts, String label, int points) {
-        if (points == 0) {
-            return;
-        }
-        scoreParts.add(new ScoreReasonPart(label, points));
-    }
-
     private String buildReasonWithScore(
         List<ScoreReasonPart> scoreParts,
         List<String> coreReasons,
@@ -1754,7 +1722,7 @@ public class RecommendationService {
             return "기본 조건 기반 추천";
         }
 
-        for (String line : reasonText.split("\\R")) {
+        for (String line : LINE_BREAK.split(reasonText)) {
             String trimmed = line.trim();
             if (trimmed.startsWith("핵심근거:")) {
                 String extracted = trimmed.substring("핵심근거:".length()).trim();
@@ -1818,7 +1786,7 @@ public class RecommendationService {
         }
 
         String scoreLine = null;
-        for (String rawLine : reasonText.split("\\R")) {
+        for (String rawLine : LINE_BREAK.split(reasonText)) {
             String line = rawLine.trim();
             if (line.startsWith("점수구성:")) {
                 scoreLine = line.substring("점수구성:".length()).trim();
@@ -1830,7 +1798,7 @@ public class RecommendationService {
             return List.of(new ScoreReasonPart("기본점수", fallbackScore));
         }
 
-        scoreLine = scoreLine.replaceAll("\\s*=\\s*[-+]?\\d+\\s*점\\s*$", "").trim();
+        scoreLine = SCORE_LINE_TOTAL_SUFFIX.matcher(scoreLine).replaceAll("").trim();
         if (scoreLine.isBlank()) {
             return List.of(new ScoreReasonPart("기본점수", fallbackScore));
         }
@@ -1838,7 +1806,7 @@ public class RecommendationService {
         List<ScoreReasonPart> parts = new ArrayList<>();
         for (String token : scoreLine.split(",")) {
             String item = token.trim();
-            Matcher matcher = Pattern.compile("(.+)\\(([+-]?\\d+)점\\)$").matcher(item);
+            Matcher matcher = SCORE_PART.matcher(item);
             if (matcher.find()) {
                 String label = matcher.group(1).trim();
                 int points;
@@ -1859,75 +1827,90 @@ public class RecommendationService {
     }
 
 
-    private static Map<String, String> buildCategoryAliases() {
-        Map<String, String> aliases = new HashMap<>();
-
-        putAlias(aliases, "online", "online", "ecommerce", "shopping", "쇼핑", "온라인", "간편결제", "pay", "모바일결제");
-        putAlias(aliases, "grocery", "grocery", "mart", "supermarket", "장보기", "마트", "식자재");
-        putAlias(aliases, "transport", "transport", "traffic", "transit", "mobility", "교통", "지하철", "버스", "택시", "주유", "모빌리티");
-        putAlias(aliases, "dining", "dining", "food", "restaurant", "외식", "식당", "배달", "푸드");
-        putAlias(aliases, "cafe", "cafe", "coffee", "카페", "커피");
-        putAlias(aliases, "subscription", "subscription", "sub", "ott", "streaming", "구독", "스트리밍");
-        putAlias(aliases, "travel", "travel", "trip", "airline", "hotel", "여행", "해외", "항공", "숙박");
-        putAlias(aliases, "salary", "salary", "급여", "월급", "급여이체");
-        putAlias(aliases, "savings", "savings", "saving", "save", "저축", "금리", "예금", "적금");
-        putAlias(aliases, "starter", "starter", "beginner", "초보", "저비용", "무연회비");
-        putAlias(aliases, "daily", "daily", "생활", "일상", "cashback", "할인");
-        putAlias(aliases, "global", "global", "외화", "글로벌");
-
-        return aliases;
-    }
-
-    private static Map<String, String> buildCategoryLabels() {
-        Map<String, String> labels = new LinkedHashMap<>();
-        labels.put("online", "온라인쇼핑");
-        labels.put("grocery", "장보기/마트");
-        labels.put("transport", "교통/모빌리티");
-        labels.put("dining", "외식");
-        labels.put("cafe", "카페");
-        labels.put("subscription", "구독");
-        labels.put("travel", "여행/해외");
-        labels.put("salary", "급여/이체");
-        labels.put("savings", "저축/금리");
-        labels.put("starter", "초보자/저비용");
-        labels.put("daily", "생활소비");
-        labels.put("global", "외화/글로벌");
-        return labels;
-    }
-
-    private static List<CategoryKeywordRule> buildCategoryKeywordRules() {
-        return List.of(
-            new CategoryKeywordRule("online", Set.of("온라인", "쇼핑", "간편결제", "ecommerce", "shopping", "오픈마켓")),
-            new CategoryKeywordRule("grocery", Set.of("마트", "장보기", "슈퍼", "식자재", "생필품")),
-            new CategoryKeywordRule("transport", Set.of("교통", "지하철", "버스", "택시", "주유", "모빌리티")),
-            new CategoryKeywordRule("dining", Set.of("외식", "식당", "배달", "푸드", "레스토랑")),
-            new CategoryKeywordRule("cafe", Set.of("카페", "커피")),
-            new CategoryKeywordRule("subscription", Set.of("구독", "ott", "스트리밍", "멤버십")),
-            new CategoryKeywordRule("travel", Set.of("여행", "해외", "항공", "마일", "숙박")),
-            new CategoryKeywordRule("salary", Set.of("급여", "월급", "급여이체")),
-            new CategoryKeywordRule("savings", Set.of("저축", "금리", "적금", "예금", "복리", "우대금리")),
-            new CategoryKeywordRule("starter", Set.of("초보", "무연회비", "저비용", "신규")),
-            new CategoryKeywordRule("daily", Set.of("생활", "일상", "캐시백", "할인")),
-            new CategoryKeywordRule("global", Set.of("외화", "글로벌", "환전"))
-        );
+    record AccountScoringContext(
+        String priority,
+        boolean salaryTransfer,
+        boolean travelOften,
+        boolean youngAge,
+        boolean dailySpend,
+        long intentSignalMask,
+        RecommendationScoringProperties.Account accountScore
+    ) {
+    }
+
+    record CardScoringContext(
+        String priority,
+        boolean travelOften,
+        boolean dailySpend,
+        long userCategoryMask,
+        RecommendationScoringProperties.Card cardScore
+    ) {
+    }
+
+    record SimulationScope(
+        CatalogSnapshot catalog,
+        Map<String, String> officialUrlOverrides,
+        long overridesVersion
+    ) {
+    }
+
+    record PreparedRun(
+        RecommendationRunEntity run,
+        List<RecommendationItemEntity> items,
+        RecommendationRunResponse response
+    ) {
+    }
+
+    /**
+     * 랭킹 재사용 키. 점수 컨텍스트는 가중치까지 값으로 비교한다.
+     */
+    private record RankingKey(
+        long catalogVersion,
+        long overridesVersion,
+        AccountScoringContext account,
+        CardScoringContext card
+    ) {
     }
 
-    private static void putAlias(Map<String, String> aliases, String canonical, String... variants) {
-        for (String variant : variants) {
-            aliases.put(normalizeStaticCategoryToken(variant), canonical);
+    private record RankingResult(List<RankedProduct> accounts, List<RankedProduct> cards) {
+
+        RankingResult {
+            accounts = List.copyOf(accounts);
+            cards = List.copyOf(cards);
         }
     }
 
-    private static String normalizeStaticCategoryToken(String value) {
-        if (value == null) {
-            return "";
+    private record ScoredCandidate<T>(T candidate, int score, String provider, String name) {
+    }
+
+    /**
+     * 상위 K개 상품에 대해서만 채우는 점수 구성/근거 기록
+     */
+    private static final class ScoreTrace {
+
+        private final List<ScoreReasonPart> scoreParts = new ArrayList<>();
+        private final List<String> reasons = new ArrayList<>();
+
+        void part(String label, int points) {
+            if (points != 0) {
+                scoreParts.add(new ScoreReasonPart(label, points));
+            }
+        }
+
+        void reason(String reason) {
+            reasons.add(reason);
+        }
+
+        List<ScoreReasonPart> scoreParts() {
+            return scoreParts;
+        }
+
+        List<String> reasons() {
+            return reasons;
         }
-        return value.toLowerCase(Locale.ROOT)
-            .replaceAll("[\\s_./|-]+", "")
-            .replaceAll("[^a-z0-9가-힣]", "");
     }
 
-    private record ScoredProduct(
+    record ScoredProduct(
         String productType,
         String productId,
         String provider,
@@ -2010,22 +1993,6 @@ public class RecommendationService {
     private record ScoreReasonPart(String label, int points) {
     }
 
-    private record CategoryKeywordRule(String category, Set<String> keywords) {
-
-        private CategoryKeywordRule {
-            Set<String> normalizedKeywords = keywords.stream()
-                .map(RecommendationService::normalizeStaticCategoryToken)
-                .collect(Collectors.toSet());
-            keywords = normalizedKeywords;
-        }
-    }
-
-    private record RateInfo(Double maxRate, Double baseRate) {
-    }
-
-    private record AnnualFeeInfo(boolean lowFee, Integer estimatedWon) {
-    }
-
     private record OfficialLinkPlan(
         String redirectUrl,
         String linkTypeLabel,
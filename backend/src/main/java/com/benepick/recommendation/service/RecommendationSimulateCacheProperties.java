@@ -0,0 +1,23 @@
+package com.benepick.recommendation.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "recommendation.simulate-cache")
+public class RecommendationSimulateCacheProperties {
+
+    /**
+     * 동일 프로필(정규화된 점수 입력) 랭킹 결과 재사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 보관할 최대 프로필 수
+     */
+    private int maxEntries = 1024;
+}
@@ -0,0 +1,47 @@
+package com.benepick.recommendation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.benepick.recommendation.entity.CardCatalogEntity;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class CardCandidateIndexTest {
+
+    @Test
+    void forEachMatch_should_visit_each_overlapping_card_once() {
+        CatalogSnapshot snapshot = CatalogSnapshot.build(1L, List.of(), List.of(
+            card("card_online_cafe", Set.of("online", "cafe")),
+            card("card_travel", Set.of("travel")),
+            card("card_grocery_online", Set.of("grocery", "online")),
+            card("card_transport", Set.of("transport"))
+        ));
+        CardCandidateIndex index = snapshot.recommendableCardIndex();
+
+        List<String> visited = new ArrayList<>();
+        int count = index.forEachMatch(
+            CategoryDictionary.ONLINE | CategoryDictionary.CAFE | CategoryDictionary.GROCERY,
+            ordinal -> visited.add(index.card(ordinal).productKey())
+        );
+
+        assertThat(count).isEqualTo(2);
+        assertThat(visited).containsExactlyInAnyOrder("card_online_cafe", "card_grocery_online");
+        assertThat(index.forEachMatch(0L, ordinal -> visited.add("unexpected"))).isZero();
+    }
+
+    private static CardCatalogEntity card(String productKey, Set<String> categories) {
+        return new CardCatalogEntity(
+            productKey,
+            "테스트카드",
+            productKey,
+            "국내전용 1.0만원",
+            "",
+            "https://card.example.com/" + productKey,
+            true,
+            Set.of(),
+            categories
+        );
+    }
+}
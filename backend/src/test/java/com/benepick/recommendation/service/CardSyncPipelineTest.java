@@ -0,0 +1,119 @@
+package com.benepick.recommendation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class CardSyncPipelineTest {
+
+    @Test
+    void run_should_write_pages_in_chunks_and_count_unique_keys() {
+        CardExternalApiClient client = mock(CardExternalApiClient.class);
+        doAnswer(invocation -> {
+            CardExternalApiClient.CardPageSink sink = invocation.getArgument(0);
+            for (int page = 0; page < 5; page++) {
+                int base = page * 3;
+                sink.accept(page(0, page + 1,
+                    IntStream.range(base, base + 3).mapToObj(index -> product("card-" + index)).toList()));
+            }
+            sink.accept(page(0, 6, List.of(product("card-0"))));
+            return null;
+        }).when(client).fetchCards(any());
+
+        CardExternalProperties properties = new CardExternalProperties();
+        properties.setUpsertChunkSize(4);
+        properties.setPipelineQueuePages(1);
+
+        List<Integer> chunkSizes = new ArrayList<>();
+        int fetched = new CardSyncPipeline(client, properties, new StandardEnvironment()).run(chunk -> chunkSizes.add(chunk.size()), source -> { });
+
+        assertThat(fetched).isEqualTo(15);
+        assertThat(chunkSizes).containsExactly(4, 4, 4, 4);
+    }
+
+    @Test
+    void run_should_tag_rows_by_source_and_drop_failed_source() {
+        CardExternalApiClient client = mock(CardExternalApiClient.class);
+        doAnswer(invocation -> {
+            CardExternalApiClient.CardPageSink sink = invocation.getArgument(0);
+            sink.accept(page(1, 1, List.of(product("krpost-1"), product("krpost-2"))));
+            sink.accept(page(0, 1, List.of(product("kdb-1"), product("shared"))));
+            sink.accept(page(1, 2, List.of(product("krpost-3"))));
+            sink.discardSource(1, "krpost");
+            sink.accept(page(0, 2, List.of(product("kdb-2"))));
+            return null;
+        }).when(client).fetchCards(any());
+
+        CardExternalProperties properties = new CardExternalProperties();
+        properties.setUpsertChunkSize(2);
+
+        List<CardSyncPipeline.SourcedProduct> written = new ArrayList<>();
+        List<Integer> discarded = new ArrayList<>();
+        int fetched = new CardSyncPipeline(client, properties, new StandardEnvironment()).run(written::addAll, discarded::add);
+
+        // 실패한 소스(1)는 이미 쓴 행을 지우도록 알리고, 아직 쓰지 않은 행은 넘기지 않는다.
+        assertThat(discarded).containsExactly(1);
+        assertThat(fetched).isEqualTo(3);
+        assertThat(written)
+            .filteredOn(product -> product.sourceOrder() == 0)
+            .extracting(product -> product.pageNo() + ":" + product.rowNo() + ":" + product.product().productKey())
+            .containsExactly("1:0:kdb-1", "1:1:shared", "2:0:kdb-2");
+        assertThat(written)
+            .filteredOn(product -> product.sourceOrder() == 1)
+            .extracting(product -> product.product().productKey())
+            .containsExactly("krpost-1", "krpost-2");
+    }
+
+    @Test
+    void run_should_propagate_fetch_failure_without_writing_tail_chunk() {
+        CardExternalApiClient client = mock(CardExternalApiClient.class);
+        doAnswer(invocation -> {
+            CardExternalApiClient.CardPageSink sink = invocation.getArgument(0);
+            sink.accept(page(0, 1, List.of(product("card-1"))));
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "boom");
+        }).when(client).fetchCards(any());
+
+        CardExternalProperties properties = new CardExternalProperties();
+        properties.setUpsertChunkSize(10);
+
+        List<Integer> chunkSizes = new ArrayList<>();
+        CardSyncPipeline pipeline = new CardSyncPipeline(client, properties, new StandardEnvironment());
+
+        assertThatThrownBy(() -> pipeline.run(chunk -> chunkSizes.add(chunk.size()), source -> { }))
+            .isInstanceOf(ResponseStatusException.class)
+            .hasMessageContaining("boom");
+        assertThat(chunkSizes).isEmpty();
+    }
+
+    private static CardExternalApiClient.CardPage page(
+        int sourceOrder,
+        int pageNo,
+        List<CardExternalApiClient.ExternalCardProduct> products
+    ) {
+        return new CardExternalApiClient.CardPage(sourceOrder, "source-" + sourceOrder, pageNo, products);
+    }
+
+    private static CardExternalApiClient.ExternalCardProduct product(String key) {
+        return new CardExternalApiClient.ExternalCardProduct(
+            key,
+            "provider",
+            "name " + key,
+            "연회비 없음",
+            "summary",
+            "https://example.com",
+            Set.of("external"),
+            Set.of("online")
+        );
+    }
+}
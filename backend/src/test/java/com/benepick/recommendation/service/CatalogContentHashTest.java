@@ -0,0 +1,22 @@
+package com.benepick.recommendation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class CatalogContentHashTest {
+
+    @Test
+    void finish_should_ignore_set_order_but_detect_field_changes() {
+        String base = CatalogContentHash.start().add("provider").add("name").addAll(List.of("b", "a")).add(3.5).finish();
+        String reordered = CatalogContentHash.start().add("provider").add("name").addAll(Set.of("a", "b")).add(3.5).finish();
+        String rateChanged = CatalogContentHash.start().add("provider").add("name").addAll(List.of("a", "b")).add(3.6).finish();
+        String shifted = CatalogContentHash.start().add("providern").add("ame").addAll(List.of("a", "b")).add(3.5).finish();
+
+        assertThat(base).hasSize(64).isEqualTo(reordered);
+        assertThat(rateChanged).isNotEqualTo(base);
+        assertThat(shifted).isNotEqualTo(base);
+    }
+}
@@ -0,0 +1,159 @@
+package com.benepick.recommendation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.benepick.recommendation.entity.CardCatalogEntity;
+import com.benepick.recommendation.entity.CardCatalogStagingEntity;
+import com.benepick.recommendation.repository.AccountCatalogRepository;
+import com.benepick.recommendation.repository.AccountCatalogStagingRepository;
+import com.benepick.recommendation.repository.CardCatalogRepository;
+import com.benepick.recommendation.repository.CardCatalogStagingRepository;
+import com.benepick.recommendation.repository.CatalogSyncStateView;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+class CatalogStagingServiceTest {
+
+    private static final UUID SYNC_ID = UUID.randomUUID();
+
+    private final CardCatalogRepository cardCatalogRepository = mock(CardCatalogRepository.class);
+    private final CardCatalogStagingRepository cardCatalogStagingRepository = mock(CardCatalogStagingRepository.class);
+    private final CatalogSyncSchedulerProperties syncProperties = new CatalogSyncSchedulerProperties();
+    private final CatalogStagingService service = new CatalogStagingService(
+        mock(AccountCatalogRepository.class),
+        mock(AccountCatalogStagingRepository.class),
+        cardCatalogRepository,
+        cardCatalogStagingRepository,
+        syncProperties,
+        mock(PlatformTransactionManager.class)
+    );
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void publishCards_should_insert_update_and_deactivate_against_live_rows() {
+        List<CardCatalogStagingEntity> staged = List.of(
+            staged(0, "external:same", "h-same"),
+            staged(1, "external:changed", "h-new"),
+            staged(2, "external:new", "h-first"),
+            staged(3, "external:new", "h-last")
+        );
+        when(cardCatalogStagingRepository.countBySyncId(SYNC_ID)).thenReturn(4L);
+        when(cardCatalogStagingRepository.findBySyncIdOrderByRowNoAsc(SYNC_ID)).thenReturn(staged);
+        when(cardCatalogRepository.findSyncStateByProductKeyPrefix("external:")).thenReturn(List.of(
+            state("external:same", "h-same", true),
+            state("external:changed", "h-old", true),
+            state("external:gone", "h-gone", true),
+            state("external:inactive", "h-inactive", false)
+        ));
+        CardCatalogEntity changed = live("external:changed");
+        when(cardCatalogRepository.findByProductKeyIn(anyCollection())).thenReturn(List.of(changed));
+        when(cardCatalogRepository.deactivateByProductKeyIn(anyCollection())).thenReturn(1);
+
+        CatalogStagingService.PublishResult result = service.publishCards(SYNC_ID, "external:", 4);
+
+        assertThat(result).isEqualTo(new CatalogStagingService.PublishResult(3, 1, 1, 1, 1));
+        assertThat(changed.getContentHash()).isEqualTo("h-new");
+
+        ArgumentCaptor<List<CardCatalogEntity>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(cardCatalogRepository).saveAll(inserted.capture());
+        assertThat(inserted.getValue()).singleElement()
+            .satisfies(entity -> assertThat(entity.getContentHash()).isEqualTo("h-last"));
+        verify(cardCatalogRepository).deactivateByProductKeyIn(List.of("external:gone"));
+        verify(cardCatalogStagingRepository).deleteBySyncId(SYNC_ID);
+    }
+
+    @Test
+    void publishCards_should_reject_incomplete_staging_without_touching_live_rows() {
+        when(cardCatalogStagingRepository.countBySyncId(SYNC_ID)).thenReturn(3L);
+
+        assertThatThrownBy(() -> service.publishCards(SYNC_ID, "external:", 4))
+            .isInstanceOf(ResponseStatusException.class)
+            .hasMessageContaining("row count mismatch");
+
+        verify(cardCatalogRepository, never()).saveAll(any());
+        verify(cardCatalogRepository, never()).deactivateByProductKeyIn(anyCollection());
+    }
+
+    @Test
+    void publishCards_should_reject_catalog_that_shrank_below_min_ratio() {
+        syncProperties.setPublishMinRatio(0.5);
+        when(cardCatalogStagingRepository.countBySyncId(SYNC_ID)).thenReturn(1L);
+        when(cardCatalogStagingRepository.findBySyncIdOrderByRowNoAsc(SYNC_ID))
+            .thenReturn(List.of(staged(0, "external:a", "h-a")));
+        when(cardCatalogRepository.findSyncStateByProductKeyPrefix("external:")).thenReturn(List.of(
+            state("external:a", "h-a", true),
+            state("external:b", "h-b", true),
+            state("external:c", "h-c", true)
+        ));
+
+        assertThatThrownBy(() -> service.publishCards(SYNC_ID, "external:", 1))
+            .isInstanceOf(ResponseStatusException.class)
+            .hasMessageContaining("shrank too much");
+
+        verify(cardCatalogRepository, never()).deactivateByProductKeyIn(anyCollection());
+    }
+
+    private static CardCatalogStagingEntity staged(int rowNo, String productKey, String contentHash) {
+        return new CardCatalogStagingEntity(
+            SYNC_ID,
+            0,
+            rowNo,
+            productKey,
+            "테스트카드",
+            productKey,
+            "연회비 1만원",
+            "요약",
+            "https://example.com",
+            10_000,
+            true,
+            Set.of("external"),
+            Set.of("online"),
+            contentHash
+        );
+    }
+
+    private static CardCatalogEntity live(String productKey) {
+        return new CardCatalogEntity(
+            productKey,
+            "테스트카드",
+            productKey,
+            "연회비 1만원",
+            "요약",
+            "https://example.com",
+            true,
+            Set.of("external"),
+            Set.of("online")
+        );
+    }
+
+    private static CatalogSyncStateView state(String productKey, String contentHash, boolean active) {
+        return new CatalogSyncStateView() {
+            @Override
+            public String getProductKey() {
+                return productKey;
+            }
+
+            @Override
+            public String getContentHash() {
+                return contentHash;
+            }
+
+            @Override
+            public boolean isActive() {
+                return active;
+            }
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package com.benepick.recommendation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+class FinlifeFetchPlannerTest {
+
+    @Test
+    void fetchAll_should_follow_max_page_no_and_keep_group_page_order() {
+        FinlifeApiClient client = mock(FinlifeApiClient.class);
+        when(client.fetchResult(anyString(), anyString(), anyInt())).thenAnswer(invocation -> page(
+            invocation.getArgument(0),
+            invocation.getArgument(1),
+            invocation.getArgument(2),
+            "020000".equals(invocation.getArgument(1)) ? 3 : 1
+        ));
+
+        FinlifeProperties properties = new FinlifeProperties();
+        properties.setMaxPagesPerGroup(0);
+        properties.setFetchConcurrency(4);
+
+        FinlifeFetchPlanner.FinlifePages pages = new FinlifeFetchPlanner(client, properties, new StandardEnvironment())
+            .fetchAll(List.of("020000", "030300"));
+
+        assertThat(pages.deposits()).extracting(node -> node.path("tag").asText()).containsExactly(
+            "depositProductsSearch.json/020000/1",
+            "depositProductsSearch.json/020000/2",
+            "depositProductsSearch.json/020000/3",
+            "depositProductsSearch.json/030300/1"
+        );
+        assertThat(pages.companies()).hasSize(4);
+        assertThat(pages.savings()).hasSize(4);
+    }
+
+    @Test
+    void fetchAll_should_stop_at_max_pages_per_group() {
+        FinlifeApiClient client = mock(FinlifeApiClient.class);
+        when(client.fetchResult(anyString(), anyString(), anyInt())).thenAnswer(invocation -> page(
+            invocation.getArgument(0),
+            invocation.getArgument(1),
+            invocation.getArgument(2),
+            5
+        ));
+
+        FinlifeProperties properties = new FinlifeProperties();
+        properties.setMaxPagesPerGroup(2);
+
+        FinlifeFetchPlanner.FinlifePages pages = new FinlifeFetchPlanner(client, properties, new StandardEnvironment())
+            .fetchAll(List.of("020000"));
+
+        assertThat(pages.deposits()).hasSize(2);
+        verify(client, never()).fetchResult(anyString(), anyString(), eq(3));
+    }
+
+    private static JsonNode page(String endpoint, String topGroup, int pageNo, int maxPageNo) {
+        ObjectNode result = JsonNodeFactory.instance.objectNode();
+        result.put("tag", endpoint + "/" + topGroup + "/" + pageNo);
+        result.put("max_page_no", String.valueOf(maxPageNo));
+        return result;
+    }
+}
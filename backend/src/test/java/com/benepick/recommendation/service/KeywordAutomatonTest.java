@@ -0,0 +1,34 @@
+package com.benepick.recommendation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class KeywordAutomatonTest {
+
+    @Test
+    void scan_should_report_overlapping_and_suffix_keywords() {
+        KeywordAutomaton automaton = KeywordAutomaton.builder()
+            .add("급여", 1L)
+            .add("급여이체", 2L)
+            .add("이체", 4L)
+            .add("he", 8L)
+            .add("she", 16L)
+            .add("hers", 32L)
+            .build();
+
+        assertThat(automaton.scan("자동 급여이체 우대")).isEqualTo(1L | 2L | 4L);
+        assertThat(automaton.scan("ushers")).isEqualTo(8L | 16L | 32L);
+        assertThat(automaton.scan("급 여")).isZero();
+        assertThat(automaton.scan("")).isZero();
+        assertThat(automaton.scan(null)).isZero();
+    }
+
+    @Test
+    void extractCategoriesFromText_should_match_normalized_keywords() {
+        long mask = ProductFeatureExtractor.extractCategoriesFromText("온라인 쇼핑 10% · 대중-교통 할인 / OTT 구독");
+
+        assertThat(CategoryDictionary.keysOf(mask))
+            .containsExactly("daily", "online", "subscription", "transport");
+    }
+}
@@ -0,0 +1,81 @@
+package com.benepick.recommendation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PublicDataRowReaderTest {
+
+    private final PublicDataRowReader reader = new PublicDataRowReader(new ObjectMapper());
+
+    @Test
+    void read_should_stream_json_rows_and_capture_header() throws IOException {
+        String body = """
+            {"response":{"header":{"resultCode":"00","resultMsg":"NORMAL SERVICE."},
+             "body":{"items":{"item":[{"cardPrdNm":"A"},{"cardPrdNm":"B"}]},"totalCount":7}}}
+            """;
+        List<JsonNode> rows = new ArrayList<>();
+
+        PublicDataRowReader.Result result = read(body, "response.body.items.item", rows);
+
+        assertThat(rows).extracting(row -> row.path("cardPrdNm").asText()).containsExactly("A", "B");
+        assertThat(result.rowCount()).isEqualTo(2);
+        assertThat(result.resultCode()).isEqualTo("00");
+        assertThat(result.totalCount()).isEqualTo("7");
+        assertThat(result.configuredPathMissed()).isFalse();
+    }
+
+    @Test
+    void read_should_follow_indexed_path_in_json() throws IOException {
+        String body = """
+            {"response":{"body":{"tableList":[{"items":{"item":[{"fncoNm":"X"}]}}]}}}
+            """;
+        List<JsonNode> rows = new ArrayList<>();
+
+        read(body, "response.body.tableList[0].items.item", rows);
+
+        assertThat(rows).extracting(row -> row.path("fncoNm").asText()).containsExactly("X");
+    }
+
+    @Test
+    void read_should_stream_xml_items_including_single_item() throws IOException {
+        String many = "<response><header><resultCode>00</resultCode></header><body><items>"
+            + "<item><GDS_NM>a</GDS_NM></item><item><GDS_NM>b</GDS_NM></item>"
+            + "</items><totalCount>2</totalCount></body></response>";
+        String single = "<response><body><items><item><GDS_NM>only</GDS_NM></item></items></body></response>";
+
+        List<JsonNode> manyRows = new ArrayList<>();
+        PublicDataRowReader.Result result = read(many, "response.body.items.item", manyRows);
+        List<JsonNode> singleRows = new ArrayList<>();
+        read(single, "", singleRows);
+
+        assertThat(manyRows).extracting(row -> row.path("GDS_NM").asText()).containsExactly("a", "b");
+        assertThat(result.totalCount()).isEqualTo("2");
+        assertThat(singleRows).extracting(row -> row.path("GDS_NM").asText()).containsExactly("only");
+    }
+
+    @Test
+    void read_should_fall_back_to_default_paths_when_configured_path_misses() throws IOException {
+        String body = """
+            {"items":[{"name":"fallback"}]}
+            """;
+        List<JsonNode> rows = new ArrayList<>();
+
+        PublicDataRowReader.Result result = read(body, "response.body.items.item", rows);
+
+        assertThat(rows).extracting(row -> row.path("name").asText()).containsExactly("fallback");
+        assertThat(result.rowsFound()).isTrue();
+        assertThat(result.configuredPathMissed()).isTrue();
+    }
+
+    private PublicDataRowReader.Result read(String body, String itemsPath, List<JsonNode> rows) throws IOException {
+        return reader.read(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), itemsPath, rows::add);
+    }
+}
@@ -0,0 +1,151 @@
+package com.benepick.recommendation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.benepick.recommendation.dto.RecommendationRunResponse;
+import com.benepick.recommendation.dto.SimulateRecommendationRequest;
+import com.benepick.recommendation.entity.RecommendationRunEntity;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class RecommendationBatchServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RecommendationService recommendationService = mock(RecommendationService.class);
+    private final RecommendationBatchProperties properties = new RecommendationBatchProperties();
+    private final RecommendationBatchService batchService = new RecommendationBatchService(
+        recommendationService,
+        properties,
+        objectMapper,
+        Validation.buildDefaultValidatorFactory().getValidator(),
+        new RecommendationScoringExecutor(new RecommendationParallelScoringProperties())
+    );
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void simulateBatch_should_parse_ndjson_and_report_validation_errors_per_line() throws Exception {
+        stubPrepareRun();
+
+        List<JsonNode> lines = run(request(30, "SAVINGS") + "\n" + request(10, "SAVINGS") + "\n" + request(40, "TRAVEL") + "\n");
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0).path("index").asInt()).isZero();
+        assertThat(lines.get(0).path("run").path("priority").asText()).isEqualTo("SAVINGS");
+        assertThat(lines.get(1).path("run").isNull()).isTrue();
+        assertThat(lines.get(1).path("error").asText()).contains("age");
+        assertThat(lines.get(2).path("run").path("priority").asText()).isEqualTo("TRAVEL");
+
+        ArgumentCaptor<List<RecommendationService.PreparedRun>> persisted = ArgumentCaptor.forClass(List.class);
+        verify(recommendationService).persistPrepared(persisted.capture());
+        assertThat(persisted.getValue()).hasSize(2);
+    }
+
+    @Test
+    void simulateBatch_should_stop_with_limit_line_after_max_requests() throws Exception {
+        stubPrepareRun();
+        properties.setMaxRequests(2);
+
+        List<JsonNode> lines = run(request(30, "SAVINGS") + "\n" + request(31, "SAVINGS") + "\n" + request(32, "SAVINGS") + "\n");
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0).path("error").isNull()).isTrue();
+        assertThat(lines.get(1).path("error").isNull()).isTrue();
+        assertThat(lines.get(2).path("index").asInt()).isEqualTo(2);
+        assertThat(lines.get(2).path("error").asText()).contains("Batch limit exceeded");
+    }
+
+    @Test
+    void simulateBatch_should_write_limit_line_after_results_when_chunk_is_smaller_than_limit() throws Exception {
+        stubPrepareRun();
+        properties.setChunkSize(2);
+        properties.setMaxRequests(3);
+
+        List<JsonNode> lines = run(request(30, "SAVINGS") + "\n" + request(31, "SAVINGS") + "\n" + request(32, "SAVINGS")
+            + "\n" + request(33, "SAVINGS") + "\n" + request(34, "SAVINGS") + "\n");
+
+        assertThat(lines).hasSize(4);
+        for (int i = 0; i < 3; i++) {
+            assertThat(lines.get(i).path("index").asInt()).isEqualTo(i);
+            assertThat(lines.get(i).path("error").isNull()).isTrue();
+        }
+        assertThat(lines.get(3).path("index").asInt()).isEqualTo(3);
+        assertThat(lines.get(3).path("error").asText()).contains("Batch limit exceeded");
+        verify(recommendationService, times(2)).persistPrepared(anyList());
+    }
+
+    @Test
+    void simulateBatch_should_write_persist_failure_line_for_each_prepared_run() throws Exception {
+        stubPrepareRun();
+        doThrow(new IllegalStateException("db down")).when(recommendationService).persistPrepared(anyList());
+
+        List<JsonNode> lines = run(request(30, "SAVINGS") + "\n" + request(10, "SAVINGS") + "\n");
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).path("error").asText()).isEqualTo("Failed to save recommendation run");
+        assertThat(lines.get(1).path("error").asText()).contains("age");
+    }
+
+    @Test
+    void simulateBatch_should_turn_unexpected_failure_into_error_line() throws Exception {
+        when(recommendationService.prepareRun(any(), any())).thenAnswer(invocation -> {
+            SimulateRecommendationRequest request = invocation.getArgument(0);
+            if ("BROKEN".equals(request.priority())) {
+                throw new IllegalStateException("unexpected");
+            }
+            return prepared(request);
+        });
+
+        List<JsonNode> lines = run(request(30, "BROKEN") + "\n" + request(30, "SAVINGS") + "\n");
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).path("error").asText()).isEqualTo("Failed to simulate recommendation");
+        assertThat(lines.get(1).path("run").path("priority").asText()).isEqualTo("SAVINGS");
+    }
+
+    private void stubPrepareRun() {
+        when(recommendationService.prepareRun(any(), any()))
+            .thenAnswer(invocation -> prepared(invocation.getArgument(0)));
+    }
+
+    private static RecommendationService.PreparedRun prepared(SimulateRecommendationRequest request) {
+        RecommendationRunEntity run = new RecommendationRunEntity(request.priority(), 0);
+        return new RecommendationService.PreparedRun(
+            run,
+            List.of(),
+            new RecommendationRunResponse(run.getId(), request.priority(), 0, List.of(), List.of(), List.of())
+        );
+    }
+
+    private List<JsonNode> run(String ndjson) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        batchService.simulateBatch(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), output);
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isBlank()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+
+    private static String request(int age, String priority) {
+        return "{\"age\":" + age + ",\"income\":3000000,\"monthlySpend\":800000,\"priority\":\"" + priority + "\","
+            + "\"salaryTransfer\":\"yes\",\"travelLevel\":\"low\",\"categories\":[\"online\"]}";
+    }
+}
@@ -0,0 +1,45 @@
+package com.benepick.recommendation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class RecommendationRunResponseCacheTest {
+
+    @Test
+    void getOrLoad_should_serve_cached_bytes_and_evict_least_recently_used_by_weight() {
+        RecommendationRunCacheProperties properties = new RecommendationRunCacheProperties();
+        properties.setMaxBytes(20);
+        RecommendationRunResponseCache cache = new RecommendationRunResponseCache(properties, new SimpleMeterRegistry());
+
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        cache.put(first, "{\"a\":1111}");
+        cache.put(second, "{\"b\":2222}");
+
+        AtomicInteger loads = new AtomicInteger();
+        RecommendationRunResponseCache.CachedRunResponse hit = cache.getOrLoad(first, () -> {
+            loads.incrementAndGet();
+            return new byte[0];
+        });
+        assertThat(loads).hasValue(0);
+        assertThat(new String(hit.body(), StandardCharsets.UTF_8)).isEqualTo("{\"a\":1111}");
+        assertThat(hit.etag()).startsWith("\"").endsWith("\"");
+
+        // second가 가장 오래 쓰이지 않았으므로 third 저장 시 밀려난다.
+        cache.put(third, "{\"c\":3333}");
+        RecommendationRunResponseCache.CachedRunResponse reloaded = cache.getOrLoad(second, () -> {
+            loads.incrementAndGet();
+            return "{\"a\":1111}".getBytes(StandardCharsets.UTF_8);
+        });
+        assertThat(loads).hasValue(1);
+
+        // 같은 바이트면 같은 ETag.
+        assertThat(reloaded.etag()).isEqualTo(hit.etag());
+    }
+}
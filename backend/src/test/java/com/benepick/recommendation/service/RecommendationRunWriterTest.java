@@ -0,0 +1,182 @@
+package com.benepick.recommendation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.benepick.recommendation.entity.RecommendationRunEntity;
+import com.benepick.recommendation.repository.RecommendationItemRepository;
+import com.benepick.recommendation.repository.RecommendationRunRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class RecommendationRunWriterTest {
+
+    private static final String WORKER_THREAD = "recommendation-run-writer";
+
+    private final RecommendationRunRepository runRepository = mock(RecommendationRunRepository.class);
+    private final RecommendationItemRepository itemRepository = mock(RecommendationItemRepository.class);
+    private final RecommendationRunWriterProperties properties = new RecommendationRunWriterProperties();
+    private final RecommendationRunResponseCache responseCache = new RecommendationRunResponseCache(
+        new RecommendationRunCacheProperties(),
+        new SimpleMeterRegistry()
+    );
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 작업 스레드의 저장을 붙잡아 두는 장치
+    private final CountDownLatch workerEntered = new CountDownLatch(1);
+    private final CountDownLatch releaseWorker = new CountDownLatch(1);
+    private final Set<UUID> savedOnCaller = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> saved = ConcurrentHashMap.newKeySet();
+
+    private RecommendationRunWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        releaseWorker.countDown();
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void write_should_run_on_caller_when_queue_is_full_and_serve_pending_until_flushed() throws Exception {
+        blockWorkerSaves();
+        writer = startWriter(1);
+
+        RecommendationRunEntity first = run();
+        RecommendationRunEntity second = run();
+        RecommendationRunEntity third = run();
+
+        writer.write(first, List.of());
+        assertThat(workerEntered.await(5, TimeUnit.SECONDS)).isTrue();
+        writer.write(second, List.of());
+        writer.write(third, List.of());
+
+        // 작업 스레드가 막혀 있고 대기열(1칸)이 찼으므로 세 번째는 요청 스레드에서 바로 저장된다.
+        assertThat(savedOnCaller).containsExactly(third.getId());
+        assertThat(callerRuns()).isEqualTo(1.0);
+        assertThat(writer.findPending(third.getId())).isEmpty();
+
+        // 아직 저장되지 않은 실행은 대기열에서 조회된다.
+        assertThat(writer.findPending(first.getId())).isPresent();
+        assertThat(writer.findPending(second.getId())).map(RecommendationRunWriter.PendingRun::run).contains(second);
+
+        releaseWorker.countDown();
+        awaitTrue(() -> saved.contains(first.getId()) && saved.contains(second.getId()));
+        awaitTrue(() -> writer.findPending(second.getId()).isEmpty());
+        assertThat(cachedPayload(second)).isEqualTo(second.getResponsePayload());
+    }
+
+    @Test
+    void stop_should_drain_queue_on_shutdown_thread_when_worker_does_not_finish_in_time() throws Exception {
+        blockWorkerSaves();
+        properties.setShutdownTimeoutMs(50);
+        writer = startWriter(10);
+
+        RecommendationRunEntity first = run();
+        writer.write(first, List.of());
+        assertThat(workerEntered.await(5, TimeUnit.SECONDS)).isTrue();
+        RecommendationRunEntity second = run();
+        RecommendationRunEntity third = run();
+        writer.write(second, List.of());
+        writer.write(third, List.of());
+
+        writer.stop();
+        writer = null;
+
+        assertThat(savedOnCaller).containsExactlyInAnyOrder(second.getId(), third.getId());
+        assertThat(cachedPayload(third)).isEqualTo(third.getResponsePayload());
+    }
+
+    @Test
+    void flush_should_retry_and_dead_letter_run_that_keeps_failing() {
+        when(runRepository.saveAll(anyList())).thenThrow(new IllegalStateException("db down"));
+        properties.setMaxRetries(2);
+        properties.setRetryDelayMs(1);
+        writer = startWriter(10);
+
+        RecommendationRunEntity failing = run();
+        writer.write(failing, List.of());
+
+        awaitTrue(() -> writer.findPending(failing.getId()).isEmpty());
+        assertThat(meterRegistry.counter("recommendation.run_writer.runs", "result", "retried").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("recommendation.run_writer.runs", "result", "failed").count()).isEqualTo(1.0);
+        // 저장되지 않은 실행은 응답 캐시에 들어가지 않는다.
+        assertThat(cachedPayload(failing)).isNull();
+    }
+
+    private RecommendationRunWriter startWriter(int queueCapacity) {
+        properties.setAsyncEnabled(true);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setBatchSize(1);
+        properties.setOfferTimeoutMs(0);
+        properties.setFlushIntervalMs(10);
+        RecommendationRunWriter started = new RecommendationRunWriter(
+            runRepository,
+            itemRepository,
+            properties,
+            responseCache,
+            mock(PlatformTransactionManager.class),
+            meterRegistry
+        );
+        started.start();
+        return started;
+    }
+
+    private void blockWorkerSaves() {
+        when(runRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<RecommendationRunEntity> runs = invocation.getArgument(0);
+            if (Thread.currentThread().getName().equals(WORKER_THREAD)) {
+                workerEntered.countDown();
+                releaseWorker.await(5, TimeUnit.SECONDS);
+            } else {
+                runs.forEach(run -> savedOnCaller.add(run.getId()));
+            }
+            runs.forEach(run -> saved.add(run.getId()));
+            return runs;
+        });
+        when(itemRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private double callerRuns() {
+        return meterRegistry.counter("recommendation.run_writer.runs", "result", "caller_runs").count();
+    }
+
+    private String cachedPayload(RecommendationRunEntity run) {
+        // 캐시에 없으면 빈 바이트를 돌려받는다.
+        byte[] body = responseCache.getOrLoad(run.getId(), () -> new byte[0]).body();
+        return body.length == 0 ? null : new String(body, StandardCharsets.UTF_8);
+    }
+
+    private static RecommendationRunEntity run() {
+        RecommendationRunEntity run = new RecommendationRunEntity("BALANCED", 10_000);
+        run.attachResponsePayload("{\"runId\":\"" + run.getId() + "\"}");
+        return run;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(exception);
+            }
+        }
+    }
+}
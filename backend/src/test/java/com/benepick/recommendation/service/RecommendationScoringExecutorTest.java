@@ -0,0 +1,38 @@
+package com.benepick.recommendation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class RecommendationScoringExecutorTest {
+
+    private static final Comparator<Integer> ORDER = Comparator.<Integer>comparingInt(value -> value % 97)
+        .reversed()
+        .thenComparing(Comparator.naturalOrder());
+
+    @Test
+    void selectTop_should_match_sequential_result_when_split_across_pool() {
+        List<Integer> candidates = IntStream.range(0, 10_000).map(value -> (value * 7919) % 10_007).boxed().toList();
+
+        RecommendationParallelScoringProperties sequential = new RecommendationParallelScoringProperties();
+        sequential.setEnabled(false);
+        RecommendationParallelScoringProperties parallel = new RecommendationParallelScoringProperties();
+        parallel.setThreshold(100);
+        parallel.setSplitSize(64);
+        parallel.setParallelism(4);
+
+        List<Integer> expected = new RecommendationScoringExecutor(sequential).selectTop(candidates, this::topOf);
+        List<Integer> actual = new RecommendationScoringExecutor(parallel).selectTop(candidates, this::topOf);
+
+        assertThat(actual).hasSize(3).isEqualTo(expected);
+    }
+
+    private BoundedTopK<Integer> topOf(List<Integer> slice) {
+        BoundedTopK<Integer> topK = new BoundedTopK<>(3, ORDER);
+        slice.forEach(topK::offer);
+        return topK;
+    }
+}
@@ -2,6 +2,8 @@ package com.benepick.recommendation.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.benepick.recommendation.dto.RecommendationRunResponse;
@@ -14,16 +16,18 @@ import com.benepick.recommendation.repository.CardCatalogRepository;
 import com.benepick.recommendation.repository.RecommendationItemRepository;
 import com.benepick.recommendation.repository.RecommendationRedirectEventRepository;
 import com.benepick.recommendation.repository.RecommendationRunRepository;
-import java.time.OffsetDateTime;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 class RecommendationServiceRegressionTest {
@@ -43,6 +47,9 @@ class RecommendationServiceRegressionTest {
     @Mock
     private CardCatalogRepository cardCatalogRepository;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private RecommendationScoringProperties scoringProperties;
 
     private RecommendationService recommendationService;
@@ -56,16 +63,24 @@ class RecommendationServiceRegressionTest {
             recommendationRedirectEventRepository,
             accountCatalogRepository,
             cardCatalogRepository,
-            scoringProperties
+            new CatalogSnapshotService(accountCatalogRepository, cardCatalogRepository),
+            scoringProperties,
+            new ProductUrlOverrideService("./build/test-product-url-overrides.properties", 0L),
+            new RecommendationRunWriter(
+                recommendationRunRepository,
+                recommendationItemRepository,
+                new RecommendationRunWriterProperties(),
+                new RecommendationRunResponseCache(new RecommendationRunCacheProperties(), new SimpleMeterRegistry()),
+                transactionManager,
+                new SimpleMeterRegistry()
+            ),
+            new ObjectMapper(),
+            new RecommendationRunResponseCache(new RecommendationRunCacheProperties(), new SimpleMeterRegistry()),
+            new RecommendationSimulateCacheProperties(),
+            new RecommendationScoringExecutor(new RecommendationParallelScoringProperties()),
+            new RecommendationMetrics(new SimpleMeterRegistry())
         );
 
-        when(recommendationRunRepository.save(any(RecommendationRunEntity.class))).thenAnswer(invocation -> {
-            RecommendationRunEntity run = invocation.getArgument(0);
-            ReflectionTestUtils.setField(run, "id", UUID.randomUUID());
-            ReflectionTestUtils.setField(run, "createdAt", OffsetDateTime.now());
-            return run;
-        });
-
         when(recommendationItemRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
     }
 
@@ -92,6 +107,25 @@ class RecommendationServiceRegressionTest {
             .contains("연회비 부담이 낮음");
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void getRun_should_return_payload_stored_at_simulate_time() {
+        when(accountCatalogRepository.findByActiveTrue()).thenReturn(sampleAccounts());
+        when(cardCatalogRepository.findByActiveTrue()).thenReturn(sampleCards());
+
+        RecommendationRunResponse simulated = recommendationService.simulate(sampleRequest());
+
+        ArgumentCaptor<List<RecommendationRunEntity>> runs = ArgumentCaptor.forClass(List.class);
+        verify(recommendationRunRepository).saveAll(runs.capture());
+        RecommendationRunEntity run = runs.getValue().get(0);
+        when(recommendationRunRepository.findById(simulated.runId())).thenReturn(Optional.of(run));
+
+        RecommendationRunResponse loaded = recommendationService.getRun(simulated.runId());
+
+        assertThat(loaded).isEqualTo(simulated);
+        verify(recommendationItemRepository, never()).findByRecommendationRun_IdOrderByProductTypeAscRankAsc(any());
+    }
+
     @Test
     void simulate_should_score_aggressive_profile_higher_than_conservative() {
         when(accountCatalogRepository.findByActiveTrue()).thenReturn(sampleAccounts());
@@ -113,9 +147,13 @@ class RecommendationServiceRegressionTest {
             420,
             140,
             "savings",
+            null,
+            null,
             "yes",
             "sometimes",
-            List.of("grocery", "transport", "online")
+            List.of("grocery", "transport", "online"),
+            null,
+            null
         );
     }
 
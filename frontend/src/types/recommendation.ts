@@ -151,6 +151,9 @@ export type FinlifeSyncResponse = {
   upsertedProducts: number;
   deactivatedProducts: number;
   skippedProducts: number;
+  newProducts: number;
+  changedProducts: number;
+  unchangedProducts: number;
 };
 
 export type CardExternalSyncResponse = {
@@ -158,4 +161,7 @@ export type CardExternalSyncResponse = {
   upserted: number;
   deactivated: number;
   skipped: number;
+  created: number;
+  changed: number;
+  unchanged: number;
 };